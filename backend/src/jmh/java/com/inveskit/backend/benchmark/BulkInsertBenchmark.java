@@ -0,0 +1,96 @@
+package com.inveskit.backend.benchmark;
+
+import com.inveskit.backend.client.StockPriceData;
+import com.inveskit.backend.domain.StockPrice;
+import com.inveskit.backend.dto.StockInitResult;
+import com.inveskit.backend.repository.StockPriceJdbcRepository;
+import com.inveskit.backend.service.StockPriceService;
+import com.inveskit.backend.service.SymbolMasterService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 일봉 대량 적재 경로 (임베디드 H2)
+// 매 호출마다 새 종목코드로 넣어서 항상 실제 insert 가 일어나도록 함
+// 반복(iteration)마다 넣은 행을 지워서 뒤 반복일수록 테이블/인덱스가 커지지 않도록 함
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class BulkInsertBenchmark {
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+
+    @Param({"250", "1000"})
+    public int rows;
+
+    private StockPriceService stockPriceService;
+    private StockPriceJdbcRepository stockPriceJdbcRepository;
+    private SymbolMasterService symbolMasterService;
+    private JdbcTemplate jdbcTemplate;
+
+    private List<StockPriceData> bars;
+    private int sequence;
+    private String stockCode;
+    private List<StockPrice> entities;
+
+    @Setup(Level.Trial)
+    public void setUp(SpringContextState spring) {
+        stockPriceService = spring.getBean(StockPriceService.class);
+        stockPriceJdbcRepository = spring.getBean(StockPriceJdbcRepository.class);
+        symbolMasterService = spring.getBean(SymbolMasterService.class);
+        jdbcTemplate = spring.getBean(JdbcTemplate.class);
+        bars = PriceFixtures.dailyBars(START, rows, 30_000, rows);
+    }
+
+    // 벤치마크 종목은 모두 이름이 BENCH 로 시작 (savePrices 가 이벤트로 마스터에 등록한 종목도 함께 정리)
+    @TearDown(Level.Iteration)
+    public void deleteInsertedRows() {
+        jdbcTemplate.update("DELETE FROM stock_prices WHERE stock_name LIKE 'BENCH%'");
+        jdbcTemplate.update("DELETE FROM stock_symbols WHERE stock_name LIKE 'BENCH%'");
+        symbolMasterService.reload();
+    }
+
+    @Setup(Level.Invocation)
+    public void nextSymbol() {
+        stockCode = String.format("B%05d", sequence++);
+        String code = stockCode;
+        entities = bars.stream()
+                .map(bar -> StockPrice.builder()
+                        .stockCode(code)
+                        .stockName("BENCH" + code)
+                        .market("KOSPI")
+                        .tradeDate(bar.getDate())
+                        .openPrice(bar.getOpenPrice())
+                        .highPrice(bar.getHighPrice())
+                        .lowPrice(bar.getLowPrice())
+                        .closePrice(bar.getClosePrice())
+                        .adjClosePrice(bar.getAdjClosePrice())
+                        .volume(bar.getVolume())
+                        .build())
+                .toList();
+    }
+
+    // JDBC 배치 insert 만
+    @Benchmark
+    public int jdbcBatchInsert() {
+        return stockPriceJdbcRepository.insertIgnoreDuplicates(entities);
+    }
+
+    // 적재 서비스 전체 (기존 거래일 조회 + 엔티티 변환 + 배치 insert + 이벤트)
+    @Benchmark
+    public StockInitResult savePrices() {
+        return stockPriceService.savePrices("BENCH" + stockCode, "S" + stockCode.substring(1), "KOSPI", bars);
+    }
+}
@@ -0,0 +1,47 @@
+package com.inveskit.backend.benchmark;
+
+import com.inveskit.backend.client.StockPriceData;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// 벤치마크용 일봉 데이터 (주말 제외, 랜덤 워크)
+final class PriceFixtures {
+
+    private PriceFixtures() {
+    }
+
+    static List<StockPriceData> dailyBars(LocalDate start, int bars, double startPrice, long seed) {
+        Random random = new Random(seed);
+        List<StockPriceData> prices = new ArrayList<>(bars);
+        double price = startPrice;
+        LocalDate date = start;
+        while (prices.size() < bars) {
+            if (date.getDayOfWeek() != DayOfWeek.SATURDAY && date.getDayOfWeek() != DayOfWeek.SUNDAY) {
+                double open = price * (1 + random.nextGaussian() * 0.005);
+                double close = open * (1 + random.nextGaussian() * 0.015);
+                prices.add(StockPriceData.builder()
+                        .date(date)
+                        .openPrice(money(open))
+                        .highPrice(money(Math.max(open, close) * 1.005))
+                        .lowPrice(money(Math.min(open, close) * 0.995))
+                        .closePrice(money(close))
+                        .adjClosePrice(money(close))
+                        .volume(5_000_000L + random.nextInt(10_000_000))
+                        .build());
+                price = close;
+            }
+            date = date.plusDays(1);
+        }
+        return prices;
+    }
+
+    private static BigDecimal money(double value) {
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,90 @@
+package com.inveskit.backend.benchmark;
+
+import com.inveskit.backend.domain.StockPriceSeries;
+import com.inveskit.backend.dto.StockDto;
+import com.inveskit.backend.dto.StockPriceResponse;
+import com.inveskit.backend.repository.StockPriceJdbcRepository;
+import com.inveskit.backend.repository.StockPriceRepository;
+import com.inveskit.backend.service.StockPriceService;
+import com.inveskit.backend.service.SymbolMasterService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 주가 조회 경로 (임베디드 H2, 종목 마스터 기본 10종목 x 2년치 일봉)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class StockPriceQueryBenchmark {
+
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+    private static final int BARS = 500;
+    // stock.prices.max-limit 기본값 (/prices 기본 조회와 같은 캐시 키)
+    private static final int WINDOW_LIMIT = 5000;
+
+    private StockPriceService stockPriceService;
+    private StockPriceRepository stockPriceRepository;
+    private StockPriceJdbcRepository stockPriceJdbcRepository;
+
+    private String stockName;
+    private String stockCode;
+    private LocalDate endDate;
+    private Map<String, LocalDate> windows;
+
+    @Setup(Level.Trial)
+    public void seed(SpringContextState spring) {
+        stockPriceService = spring.getBean(StockPriceService.class);
+        stockPriceRepository = spring.getBean(StockPriceRepository.class);
+        stockPriceJdbcRepository = spring.getBean(StockPriceJdbcRepository.class);
+
+        List<StockDto> stocks = spring.getBean(SymbolMasterService.class).getListedStocks();
+        windows = new LinkedHashMap<>();
+        long seed = 1;
+        for (StockDto stock : stocks) {
+            var bars = PriceFixtures.dailyBars(START, BARS, 50_000, seed++);
+            stockPriceService.savePrices(stock.getName(), stock.getCode(), stock.getMarket(), bars);
+            endDate = bars.get(bars.size() - 1).getDate();
+            windows.put(stock.getName(), endDate);
+        }
+        stockName = stocks.get(0).getName();
+        stockCode = stocks.get(0).getCode();
+    }
+
+    // 60일 창 조회 - 캐시 적중
+    @Benchmark
+    public StockPriceResponse cachedWindow() {
+        return stockPriceService.getStockPrices(stockName,
+                endDate.minusDays(StockPriceService.PRICE_WINDOW_DAYS), endDate, WINDOW_LIMIT);
+    }
+
+    // 60일 창 조회 - DB 프로젝션 (캐시 미스 시 경로)
+    @Benchmark
+    public List<StockPriceResponse.DailyPrice> windowQuery() {
+        return stockPriceRepository.findRecentDailyPrices(stockCode,
+                endDate.minusDays(StockPriceService.PRICE_WINDOW_DAYS), endDate, PageRequest.of(0, WINDOW_LIMIT));
+    }
+
+    // 분석 요청용 다종목 60일 창 (IN 쿼리 한 번)
+    @Benchmark
+    public Map<String, StockPriceResponse> multiSymbolWindows() {
+        return stockPriceService.getPriceWindows(windows);
+    }
+
+    // 2년치 OHLCV 컬럼 배열 조회
+    @Benchmark
+    public StockPriceSeries seriesQuery() {
+        return stockPriceJdbcRepository.findSeries(stockCode, START, endDate);
+    }
+}
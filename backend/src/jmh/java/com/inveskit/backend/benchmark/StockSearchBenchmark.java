@@ -0,0 +1,61 @@
+package com.inveskit.backend.benchmark;
+
+import com.inveskit.backend.dto.StockDto;
+import com.inveskit.backend.service.StockSearchIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 종목 자동완성 (코스피 + 코스닥 규모의 종목 수)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class StockSearchBenchmark {
+
+    private static final String[] SYLLABLES = {
+            "삼", "성", "전", "자", "현", "대", "기", "아", "엘", "지", "에", "너", "바", "이", "오",
+            "로", "직", "스", "카", "오", "네", "셀", "트", "리", "온", "화", "학", "금", "융", "건"
+    };
+
+    // 종목명 접두어, 초성, 종목코드 접두어, 종목명 중간 일치
+    @Param({"삼성", "ㅅㅅ", "0059", "전자"})
+    public String keyword;
+
+    @Param({"2500"})
+    public int symbols;
+
+    private StockSearchIndex index;
+
+    @Setup
+    public void buildIndex() {
+        Random random = new Random(42);
+        List<StockDto> stocks = new ArrayList<>(symbols);
+        stocks.add(new StockDto("삼성전자", "005930", "KOSPI"));
+        stocks.add(new StockDto("SK하이닉스", "000660", "KOSPI"));
+        for (int i = stocks.size(); i < symbols; i++) {
+            StringBuilder name = new StringBuilder();
+            int length = 2 + random.nextInt(4);
+            for (int j = 0; j < length; j++) {
+                name.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+            }
+            stocks.add(new StockDto(name.toString(), String.format("%06d", 100000 + i * 37), "KOSDAQ"));
+        }
+        index = new StockSearchIndex();
+        index.rebuild(stocks);
+    }
+
+    @Benchmark
+    public List<String> search() {
+        return index.search(keyword, 10);
+    }
+}
@@ -0,0 +1,56 @@
+package com.inveskit.backend.benchmark;
+
+import com.inveskit.backend.client.StockPriceData;
+import com.inveskit.backend.client.YahooChart;
+import com.inveskit.backend.client.YahooFinanceClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Yahoo 차트 응답 파싱 (src/jmh/resources/yahoo 의 v8 chart 형식 응답 본문)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class YahooChartParserBenchmark {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    @Param({"chart-005930.KS-1y.json", "chart-000660.KS-5y.json"})
+    public String payload;
+
+    private byte[] body;
+
+    @Setup
+    public void load() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/yahoo/" + payload)) {
+            if (in == null) {
+                throw new IllegalStateException("payload not found: " + payload);
+            }
+            body = in.readAllBytes();
+        }
+    }
+
+    // 응답 본문 -> 컬럼 배열
+    @Benchmark
+    public YahooChart parse() throws IOException {
+        return YahooFinanceClient.parseYahooResponse(new ByteArrayInputStream(body));
+    }
+
+    // 응답 본문 -> 적재용 StockPriceData 목록 (BigDecimal 변환 포함)
+    @Benchmark
+    public List<StockPriceData> parseAndConvert() throws IOException {
+        return YahooFinanceClient.parseYahooResponse(new ByteArrayInputStream(body)).toPriceData(SEOUL);
+    }
+}
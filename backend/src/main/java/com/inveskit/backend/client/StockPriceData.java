@@ -10,5 +10,10 @@ import java.time.LocalDate;
 @Builder
 public class StockPriceData {
     private LocalDate date;
+    private BigDecimal openPrice;
+    private BigDecimal highPrice;
+    private BigDecimal lowPrice;
     private BigDecimal closePrice;
+    private BigDecimal adjClosePrice;
+    private Long volume;
 }
@@ -0,0 +1,113 @@
+package com.inveskit.backend.client;
+
+import com.inveskit.backend.util.TokenBucketRateLimiter;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.handler.timeout.ReadTimeoutException;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+import reactor.util.retry.RetryBackoffSpec;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+// 업스트림 하나에 대한 보호막: 호출 제한(토큰 버킷) -> 벌크헤드(동시 호출 수 제한) -> 서킷 브레이커 -> 재시도
+// 토큰은 재시도를 포함한 시도마다 하나씩 가져감 (재시도가 호출 제한을 우회하지 않도록)
+// 재시도는 매 시도마다 서킷 브레이커와 벌크헤드를 다시 거치므로, 서킷이 열리면 재시도도 바로 멈춤
+// 실패한 시도마다 upstream.errors{upstream, status} 카운터 증가
+@Slf4j
+public class UpstreamGuard {
+
+    @Getter
+    private final String name;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final RetryBackoffSpec retry;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final MeterRegistry meterRegistry;
+
+    // rateLimiter 가 null 이면 호출 제한 없음
+    public UpstreamGuard(String name, CircuitBreaker circuitBreaker, Bulkhead bulkhead,
+                         int retryMaxAttempts, Duration retryBackoff, Duration retryMaxBackoff,
+                         TokenBucketRateLimiter rateLimiter, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.rateLimiter = rateLimiter;
+        this.meterRegistry = meterRegistry;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.retry = Retry.backoff(retryMaxAttempts, retryBackoff)
+                .maxBackoff(retryMaxBackoff)
+                .jitter(0.5)
+                .filter(UpstreamGuard::isRetryable)
+                .doBeforeRetry(signal -> log.debug("Retrying {} call (attempt {}): {}",
+                        name, signal.totalRetries() + 1, signal.failure().toString()))
+                // 재시도를 다 써도 원래 예외를 그대로 전달
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+    }
+
+    // 호출은 구독 시점에 시작되어야 재시도마다 새로 요청을 보냄 (WebClient 의 Mono 는 그대로 사용 가능)
+    // 토큰 대기는 벌크헤드 밖에서 (기다리는 동안 동시 호출 자리를 차지하지 않도록)
+    public <T> Mono<T> protect(Mono<T> call) {
+        Mono<T> guarded = call
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .doOnError(this::countError);
+        Mono<T> attempt = rateLimiter != null ? rateLimiter.acquire().then(guarded) : guarded;
+        return attempt.retryWhen(retry);
+    }
+
+    private void countError(Throwable e) {
+        Counter.builder("upstream.errors")
+                .description("Failed upstream call attempts")
+                .tag("upstream", name)
+                .tag("status", errorStatus(e))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    // HTTP 응답이 있으면 상태 코드, 없으면 실패 유형 (태그 값 종류가 늘어나지 않도록 고정된 값만 사용)
+    static String errorStatus(Throwable e) {
+        if (e instanceof WebClientResponseException response) {
+            return String.valueOf(response.getStatusCode().value());
+        }
+        if (e instanceof CallNotPermittedException) {
+            return "CIRCUIT_OPEN";
+        }
+        if (e instanceof BulkheadFullException) {
+            return "BULKHEAD_FULL";
+        }
+        if (e instanceof ReadTimeoutException || e instanceof TimeoutException) {
+            return "TIMEOUT";
+        }
+        if (e instanceof WebClientRequestException) {
+            return "IO_ERROR";
+        }
+        return "CLIENT_ERROR";
+    }
+
+    // 서킷이 열려 있거나 동시 호출 한도를 넘어 호출 자체를 하지 않은 경우
+    public static boolean isRejected(Throwable e) {
+        return e instanceof CallNotPermittedException || e instanceof BulkheadFullException;
+    }
+
+    // 429, 5xx, 연결 실패, 타임아웃만 재시도 (나머지 4xx 는 다시 보내도 같은 결과)
+    static boolean isRetryable(Throwable e) {
+        if (e instanceof WebClientResponseException response) {
+            int status = response.getStatusCode().value();
+            return status == 429 || status >= 500;
+        }
+        return e instanceof WebClientRequestException
+                || e instanceof ReadTimeoutException
+                || e instanceof TimeoutException;
+    }
+}
@@ -0,0 +1,73 @@
+package com.inveskit.backend.client;
+
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+// Yahoo chart 응답을 컬럼 단위 primitive 배열로 보관 (값이 없으면 NaN / 거래량, 타임스탬프는 -1)
+@Getter
+public class YahooChart {
+
+    public static final YahooChart EMPTY = new YahooChart(
+            new long[0], new double[0], new double[0], new double[0], new double[0], new double[0], new long[0]);
+
+    private final int size;
+    private final long[] timestamps;  // epoch seconds
+    private final double[] open;
+    private final double[] high;
+    private final double[] low;
+    private final double[] close;
+    private final double[] adjClose;
+    private final long[] volume;
+
+    public YahooChart(long[] timestamps, double[] open, double[] high, double[] low,
+                      double[] close, double[] adjClose, long[] volume) {
+        this.size = timestamps.length;
+        this.timestamps = timestamps;
+        this.open = open;
+        this.high = high;
+        this.low = low;
+        this.close = close;
+        this.adjClose = adjClose;
+        this.volume = volume;
+    }
+
+    // 종가나 타임스탬프가 없는 봉은 제외하고 저장용 데이터로 변환
+    public List<StockPriceData> toPriceData(ZoneId zoneId) {
+        List<StockPriceData> prices = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            if (Double.isNaN(close[i]) || timestamps[i] < 0) {
+                continue;  // null 데이터는 스킵
+            }
+
+            LocalDate date = Instant.ofEpochSecond(timestamps[i])
+                    .atZone(zoneId)
+                    .toLocalDate();
+
+            prices.add(StockPriceData.builder()
+                    .date(date)
+                    .openPrice(toPrice(open[i]))
+                    .highPrice(toPrice(high[i]))
+                    .lowPrice(toPrice(low[i]))
+                    .closePrice(toPrice(close[i]))
+                    .adjClosePrice(toPrice(adjClose[i]))
+                    .volume(volume[i] >= 0 ? volume[i] : null)
+                    .build());
+        }
+        return prices;
+    }
+
+    private static BigDecimal toPrice(double value) {
+        if (Double.isNaN(value)) {
+            return null;
+        }
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,291 @@
+package com.inveskit.backend.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import org.springframework.core.io.buffer.DataBuffer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+// Yahoo chart JSON 을 트리(Map)로 만들지 않고 토큰 단위로 읽어서 필요한 배열만 primitive 로 추출
+// chart.result[0].timestamp, chart.result[0].indicators.quote[0].{open,high,low,close,volume},
+// chart.result[0].indicators.adjclose[0].adjclose
+// 논블로킹 파서라서 응답 본문을 모으지 않고 DataBuffer 가 도착할 때마다 feed 로 이어서 파싱
+// 한 응답에 하나씩 생성 (스레드 안전하지 않음)
+public final class YahooChartParser implements Closeable {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final int CHUNK_SIZE = 8192;
+
+    private static final Object[] ERROR_PATH = {"chart", "error"};
+
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    private final long maxBytes;
+    private final byte[] chunk = new byte[CHUNK_SIZE];
+    private final Columns columns = new Columns();
+
+    private long fedBytes;
+    private boolean started;
+
+    // 읽고 있는 컬럼 배열 (null 이면 건너뛰는 중) - 원소는 재사용 버퍼에 모았다가 배열이 끝날 때 복사
+    private Field field;
+    private JsonStreamContext fieldContext;
+    private double[] doubles = new double[256];
+    private long[] longs = new long[256];
+    private int size;
+
+    // chart.error 객체를 읽는 중
+    private JsonStreamContext errorContext;
+    private String errorDescription;
+
+    // maxBytes 를 넘는 응답은 실패 처리 (컬럼 배열이 끝없이 커지지 않도록)
+    public YahooChartParser(long maxBytes) throws IOException {
+        this.parser = JSON_FACTORY.createNonBlockingByteArrayParser();
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        this.maxBytes = maxBytes;
+    }
+
+    public static YahooChart parse(InputStream in) throws IOException {
+        try (YahooChartParser parser = new YahooChartParser(Long.MAX_VALUE)) {
+            byte[] buffer = new byte[CHUNK_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                parser.feed(buffer, 0, read);
+            }
+            return parser.finish();
+        }
+    }
+
+    // 버퍼 해제는 호출하는 쪽에서
+    public void feed(DataBuffer buffer) throws IOException {
+        while (buffer.readableByteCount() > 0) {
+            int length = Math.min(buffer.readableByteCount(), chunk.length);
+            buffer.read(chunk, 0, length);
+            feed(chunk, 0, length);
+        }
+    }
+
+    // 넘긴 바이트는 반환 전에 모두 소비되므로 호출한 쪽에서 배열을 다시 써도 됨
+    public void feed(byte[] data, int offset, int length) throws IOException {
+        fedBytes += length;
+        if (fedBytes > maxBytes) {
+            throw new IOException("Yahoo Finance response exceeds " + maxBytes + " bytes");
+        }
+        feeder.feedInput(data, offset, offset + length);
+        drain();
+    }
+
+    // 본문이 비어 있으면 EMPTY, 중간에 끊긴 문서는 실패
+    public YahooChart finish() throws IOException {
+        feeder.endOfInput();
+        drain();
+        if (!started) {
+            return YahooChart.EMPTY;
+        }
+        if (!parser.getParsingContext().inRoot()) {
+            throw new IOException("Truncated Yahoo Finance response at " + parser.currentLocation());
+        }
+        return columns.build();
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+
+    private void drain() throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            onToken(token, parser.getParsingContext());
+        }
+    }
+
+    // END_* 토큰에서는 context 가 이미 닫힌 구조의 부모
+    private void onToken(JsonToken token, JsonStreamContext context) throws IOException {
+        if (!started) {
+            started = true;
+            expect(token, JsonToken.START_OBJECT);
+        }
+
+        if (field != null) {
+            readColumnValue(token, context);
+            return;
+        }
+
+        if (token == JsonToken.START_ARRAY) {
+            field = Field.at(context);
+            if (field != null) {
+                fieldContext = context;
+                size = 0;
+            }
+        } else if (token == JsonToken.START_OBJECT && errorContext == null && at(context, ERROR_PATH)) {
+            errorContext = context;
+            errorDescription = "unknown";
+        } else if (errorContext != null) {
+            if (token == JsonToken.VALUE_STRING && context == errorContext
+                    && "description".equals(context.getCurrentName())) {
+                errorDescription = parser.getText();
+            } else if (token == JsonToken.END_OBJECT && context == errorContext.getParent()) {
+                throw new IOException("Yahoo Finance error: " + errorDescription);
+            }
+        }
+    }
+
+    private void readColumnValue(JsonToken token, JsonStreamContext context) throws IOException {
+        if (token == JsonToken.END_ARRAY && context == fieldContext.getParent()) {
+            field.store(columns, this);
+            field = null;
+            fieldContext = null;
+            return;
+        }
+        if (token.isStructStart() || context != fieldContext) {
+            throw new IOException("Unexpected token " + token + " in " + field + " at " + parser.currentLocation());
+        }
+
+        if (field.integral) {
+            if (size == longs.length) {
+                longs = Arrays.copyOf(longs, size * 2);
+            }
+            // null 원소는 -1
+            longs[size++] = token == JsonToken.VALUE_NULL ? -1L : parser.getValueAsLong();
+        } else {
+            if (size == doubles.length) {
+                doubles = Arrays.copyOf(doubles, size * 2);
+            }
+            // null 원소는 NaN
+            doubles[size++] = token == JsonToken.VALUE_NULL ? Double.NaN : parser.getDoubleValue();
+        }
+    }
+
+    // context 를 연 값의 위치가 루트부터 path 와 같은지 (문자열은 필드 이름, 숫자는 배열 인덱스)
+    // 경로 문자열을 만들지 않고 부모 방향으로 비교
+    private static boolean at(JsonStreamContext context, Object[] path) {
+        JsonStreamContext parent = context.getParent();
+        for (int i = path.length - 1; i >= 0; i--) {
+            if (parent == null) {
+                return false;
+            }
+            Object step = path[i];
+            if (parent.inObject()) {
+                if (!step.equals(parent.getCurrentName())) {
+                    return false;
+                }
+            } else if (parent.inArray()) {
+                if (!(step instanceof Integer index) || index != parent.getCurrentIndex()) {
+                    return false;
+                }
+            } else {
+                return false;
+            }
+            parent = parent.getParent();
+        }
+        return parent != null && parent.inRoot();
+    }
+
+    private void expect(JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new IOException("Unexpected token " + actual + " (expected " + expected + ") at "
+                    + parser.currentLocation());
+        }
+    }
+
+    // 추출할 컬럼 배열의 위치 (result, quote, adjclose 는 첫 번째 원소만)
+    private enum Field {
+        TIMESTAMP(true, "chart", "result", 0, "timestamp"),
+        OPEN(false, "chart", "result", 0, "indicators", "quote", 0, "open"),
+        HIGH(false, "chart", "result", 0, "indicators", "quote", 0, "high"),
+        LOW(false, "chart", "result", 0, "indicators", "quote", 0, "low"),
+        CLOSE(false, "chart", "result", 0, "indicators", "quote", 0, "close"),
+        VOLUME(true, "chart", "result", 0, "indicators", "quote", 0, "volume"),
+        ADJ_CLOSE(false, "chart", "result", 0, "indicators", "adjclose", 0, "adjclose");
+
+        private static final Field[] VALUES = values();
+
+        private final boolean integral;
+        private final Object[] path;
+
+        Field(boolean integral, Object... path) {
+            this.integral = integral;
+            this.path = path;
+        }
+
+        static Field at(JsonStreamContext context) {
+            for (Field field : VALUES) {
+                if (YahooChartParser.at(context, field.path)) {
+                    return field;
+                }
+            }
+            return null;
+        }
+
+        void store(Columns columns, YahooChartParser reader) {
+            long[] longValues = integral ? Arrays.copyOf(reader.longs, reader.size) : null;
+            double[] doubleValues = integral ? null : Arrays.copyOf(reader.doubles, reader.size);
+            switch (this) {
+                case TIMESTAMP -> columns.timestamps = longValues;
+                case OPEN -> columns.open = doubleValues;
+                case HIGH -> columns.high = doubleValues;
+                case LOW -> columns.low = doubleValues;
+                case CLOSE -> columns.close = doubleValues;
+                case VOLUME -> columns.volume = longValues;
+                case ADJ_CLOSE -> columns.adjClose = doubleValues;
+            }
+        }
+    }
+
+    private static class Columns {
+        long[] timestamps;
+        double[] open;
+        double[] high;
+        double[] low;
+        double[] close;
+        double[] adjClose;
+        long[] volume;
+
+        YahooChart build() throws IOException {
+            if (timestamps == null || close == null) {
+                return YahooChart.EMPTY;
+            }
+            // 타임스탬프와 종가 개수가 다르면 날짜를 맞출 수 없으므로 실패 처리
+            if (timestamps.length != close.length) {
+                throw new IOException("Timestamp and Close Price data size mismatch: "
+                        + timestamps.length + " / " + close.length);
+            }
+
+            int size = timestamps.length;
+            return new YahooChart(timestamps, fit(open, size), fit(high, size), fit(low, size),
+                    close, fit(adjClose, size), fitLongs(volume, size));
+        }
+
+        // 누락된 컬럼은 결측값으로 채움
+        private static double[] fit(double[] values, int size) {
+            if (values != null && values.length == size) {
+                return values;
+            }
+            double[] fitted = new double[size];
+            Arrays.fill(fitted, Double.NaN);
+            if (values != null) {
+                System.arraycopy(values, 0, fitted, 0, Math.min(values.length, size));
+            }
+            return fitted;
+        }
+
+        private static long[] fitLongs(long[] values, int size) {
+            if (values != null && values.length == size) {
+                return values;
+            }
+            long[] fitted = new long[size];
+            Arrays.fill(fitted, -1L);
+            if (values != null) {
+                System.arraycopy(values, 0, fitted, 0, Math.min(values.length, size));
+            }
+            return fitted;
+        }
+    }
+}
@@ -1,138 +1,151 @@
 package com.inveskit.backend.client;
 
-import lombok.RequiredArgsConstructor;
-
+import com.inveskit.backend.config.HttpClientProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.beans.factory.annotation.Value;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
 
-import java.math.BigDecimal;
-import java.time.Instant;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.time.ZoneId;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class YahooFinanceClient {
-    private final WebClient webClient;
+    // 차트 URI 템플릿 (지표의 uri 태그가 종목/기간마다 달라지지 않도록 템플릿으로 호출)
+    private static final String CHART_URI = "/v8/finance/chart/{symbol}?period1={period1}&period2={period2}&interval=1d";
 
-    @Value("${yahoo.finance.base-url}")
-    private String baseUrl;
+    private final WebClient webClient;
+    private final UpstreamGuard guard;
+    private final int maxResponseBytes;
+    private final MeterRegistry meterRegistry;
+    private final Timer parseTimer;
+
+    public YahooFinanceClient(
+            @Qualifier("yahooWebClient") WebClient webClient,
+            @Qualifier("yahooGuard") UpstreamGuard guard,
+            HttpClientProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.webClient = webClient;
+        this.guard = guard;
+        this.maxResponseBytes = (int) properties.getYahoo().getMaxInMemorySize().toBytes();
+        this.meterRegistry = meterRegistry;
+        this.parseTimer = Timer.builder("stock.parse")
+                .description("Yahoo chart response parsing time")
+                .register(meterRegistry);
+    }
 
     public List<StockPriceData> fetchStockPrices(String symbol, LocalDate startDate, LocalDate endDate) {
-        long period1 = startDate.atStartOfDay(ZoneId.systemDefault()).toEpochSecond();
-        long period2 = endDate.atTime(23, 59, 59).atZone(ZoneId.systemDefault()).toEpochSecond();
-
-        String url = String.format(
-                "%s/v8/finance/chart/%s?period1=%d&period2=%d&interval=1d",
-                baseUrl, symbol, period1, period2
-        );
-
-        log.info("=== Yahoo Finance URL ===");
-        log.info(url);
-        log.info("Fetching stock prices for {} from {} to {}", symbol, startDate, endDate);
-
         try {
-            Map<String, Object> response = webClient.get()
-                    .uri(url)
-                    .retrieve()
-                    .bodyToMono(Map.class)
-                    .block();
-
-            log.info("=== Response received ===");
-            log.info("Response: {}", response);
-
-            return parseYahooResponse(response);
-
+            return fetchStockPricesAsync(symbol, startDate, endDate).block();
         } catch (Exception e) {
             log.error("Error fetching stock prices for symbol: {}", symbol, e);
             return Collections.emptyList();
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private List<StockPriceData> parseYahooResponse(Map<String, Object> response) {
-        try {
-            Map<String, Object> chart = (Map<String, Object>) response.get("chart");
-            List<Map<String, Object>> results = (List<Map<String, Object>>) chart.get("result");
-
-            if (results == null || results.isEmpty()) {
-                log.warn("No results in Yahoo Finance response");
-                return Collections.emptyList();
-            }
-
-            Map<String, Object> result = results.get(0);
-            List<Object> timestampObjects = (List<Object>) result.get("timestamp");
-
-            Map<String, Object> indicators = (Map<String, Object>) result.get("indicators");
-            List<Map<String, Object>> quotes = (List<Map<String, Object>>) indicators.get("quote");
-
-            if (quotes == null || quotes.isEmpty()) {
-                log.warn("No quotes in Yahoo Finance response");
-                return Collections.emptyList();
-            }
-
-            Map<String, Object> quote = quotes.get(0);
-            List<Object> closes = (List<Object>) quote.get("close");
-
-            List<StockPriceData> prices = new ArrayList<>();
-
-            // 타임스탬프 객체가 null이 아니고, 닫힌 가격 객체의 크기와 일치하는지 확인
-            if (timestampObjects == null || timestampObjects.size() != closes.size()) {
-                log.error("Timestamp and Close Price data size mismatch or Timestamp is null.");
-                return Collections.emptyList();
-            }
-
-            for (int i = 0; i < timestampObjects.size(); i++) {
-
-                Object timestampObj = timestampObjects.get(i);
-                if (timestampObj == null) {
-                    continue; // null 데이터는 스킵
-                }
-
-                Long timestamp = convertObjectToLong(timestampObj);
-
-                LocalDate date = Instant.ofEpochSecond(timestamp)
-                        .atZone(ZoneId.systemDefault())
-                        .toLocalDate();
+    // 논블로킹 조회 - 호출 실패는 에러 시그널로 그대로 전달 (대량 적재에서 종목별 실패 집계용)
+    public Mono<List<StockPriceData>> fetchStockPricesAsync(String symbol, LocalDate startDate, LocalDate endDate) {
+        return fetchChart(symbol, startDate, endDate)
+                .map(chart -> chart.toPriceData(ZoneId.systemDefault()));
+    }
 
-                Object closeObj = closes.get(i);
-                if (closeObj == null) {
-                    continue;  // null 데이터는 스킵
-                }
+    // 응답 본문을 Map 으로 역직렬화하지 않고 도착하는 DataBuffer 를 바로 컬럼 배열로 파싱
+    // stock.fetch: 재시도를 포함한 조회 전체 시간 (시도별 시간은 http.client.requests)
+    public Mono<YahooChart> fetchChart(String symbol, LocalDate startDate, LocalDate endDate) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return requestChart(symbol, startDate, endDate)
+                    .doFinally(signal -> sample.stop(Timer.builder("stock.fetch")
+                            .description("Yahoo chart fetch time including retries")
+                            .tag("outcome", outcome(signal))
+                            .register(meterRegistry)));
+        });
+    }
 
-                BigDecimal closePrice = new BigDecimal(closeObj.toString());
+    private Mono<YahooChart> requestChart(String symbol, LocalDate startDate, LocalDate endDate) {
+        long period1 = startDate.atStartOfDay(ZoneId.systemDefault()).toEpochSecond();
+        long period2 = endDate.atTime(23, 59, 59).atZone(ZoneId.systemDefault()).toEpochSecond();
 
-                prices.add(StockPriceData.builder()
-                        .date(date)
-                        .closePrice(closePrice)
-                        .build());
-            }
+        log.debug("Fetching stock prices for {} from {} to {}", symbol, startDate, endDate);
 
-            log.info("Parsed {} price data points", prices.size());
-            return prices;
+        // 응답을 모으지 않고 DataBuffer 가 도착할 때마다 파서에 넘기고 바로 반환
+        // 시도(재시도 포함)마다 새 파서를 사용, stock.parse 는 시도 하나의 파싱 시간 합계
+        Mono<YahooChart> call = Mono.defer(() -> {
+            YahooChartParser parser = newParser();
+            AtomicLong parseNanos = new AtomicLong();
+            return webClient.get()
+                    .uri(CHART_URI, symbol, period1, period2)
+                    .retrieve()
+                    .bodyToFlux(DataBuffer.class)
+                    .doOnNext(buffer -> {
+                        long start = System.nanoTime();
+                        try {
+                            parser.feed(buffer);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException("Error parsing Yahoo Finance response for " + symbol, e);
+                        } finally {
+                            DataBufferUtils.release(buffer);
+                            parseNanos.addAndGet(System.nanoTime() - start);
+                        }
+                    })
+                    .then(Mono.fromCallable(() -> {
+                        long start = System.nanoTime();
+                        try {
+                            YahooChart chart = parser.finish();
+                            log.debug("Parsed {} price data points for {}", chart.getSize(), symbol);
+                            return chart;
+                        } catch (IOException e) {
+                            throw new UncheckedIOException("Error parsing Yahoo Finance response for " + symbol, e);
+                        } finally {
+                            parseTimer.record(parseNanos.addAndGet(System.nanoTime() - start), TimeUnit.NANOSECONDS);
+                        }
+                    }))
+                    .doFinally(signal -> closeQuietly(parser));
+        });
+
+        return guard.protect(call);
+    }
 
-        } catch (Exception e) {
-            log.error("Error parsing Yahoo Finance response", e);
-            return Collections.emptyList();
+    private YahooChartParser newParser() {
+        try {
+            return new YahooChartParser(maxResponseBytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
 
-    private Long convertObjectToLong(Object obj) {
-        if (obj instanceof Integer) {
-            return ((Integer) obj).longValue();
-        } else if (obj instanceof Long) {
-            return (Long) obj;
-        } else if (obj instanceof Number) {
-            return ((Number) obj).longValue();
+    private static void closeQuietly(YahooChartParser parser) {
+        try {
+            parser.close();
+        } catch (IOException e) {
+            log.debug("Failed to close Yahoo chart parser", e);
         }
-        // 그 외 예상치 못한 타입이나 null이면 0 또는 null 처리
-        throw new IllegalArgumentException("Cannot convert object to Long: " + obj.getClass().getName());
+    }
+
+    private static String outcome(SignalType signal) {
+        return switch (signal) {
+            case ON_COMPLETE -> "success";
+            case ON_ERROR -> "error";
+            default -> "cancelled";
+        };
+    }
+
+    public static YahooChart parseYahooResponse(InputStream in) throws IOException {
+        return YahooChartParser.parse(in);
     }
 }
@@ -0,0 +1,32 @@
+package com.inveskit.backend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+@Configuration
+public class BacktestExecutorConfig {
+
+    // 백테스트 전용 fork-join 풀 (공용 풀이나 요청 스레드와 분리, CPU 작업만 실행)
+    // ThreadPoolTaskExecutor 가 아니라 자동 계측 대상이 아니므로 executor.*{name=backtestPool} 지표를 직접 등록
+    @Bean(name = "backtestPool", destroyMethod = "shutdownNow")
+    public ForkJoinPool backtestPool(
+            @Value("${backtest.parallelism:0}") int parallelism,
+            MeterRegistry meterRegistry
+    ) {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        ForkJoinPool pool = new ForkJoinPool(threads, p -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+            thread.setName("backtest-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+        new ExecutorServiceMetrics(pool, "backtestPool", Tags.empty()).bindTo(meterRegistry);
+        return pool;
+    }
+}
@@ -0,0 +1,122 @@
+package com.inveskit.backend.config;
+
+import com.inveskit.backend.client.UpstreamGuard;
+import com.inveskit.backend.util.TokenBucketRateLimiter;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.ClientRequestObservationContext;
+import org.springframework.web.reactive.function.client.DefaultClientRequestObservationConvention;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.concurrent.TimeUnit;
+
+// 업스트림마다 커넥션 풀, 타임아웃, 서킷 브레이커, 벌크헤드를 따로 둬서
+// 느린 AI 호출이 Yahoo 조회 커넥션을 잡아먹거나 그 반대가 되지 않도록 격리
+@Configuration
+@EnableConfigurationProperties(HttpClientProperties.class)
+public class HttpClientConfig {
+
+    public static final String YAHOO = "yahoo";
+    public static final String ANALYSIS = "analysis";
+
+    private static final String USER_AGENT = "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36";
+
+    @Bean
+    public WebClient yahooWebClient(WebClient.Builder builder, HttpClientProperties properties,
+                                    @Value("${yahoo.finance.base-url}") String baseUrl) {
+        return buildClient(builder, YAHOO, properties.getYahoo(), baseUrl);
+    }
+
+    @Bean
+    public WebClient analysisWebClient(WebClient.Builder builder, HttpClientProperties properties,
+                                       @Value("${analysis.api.url:https://aider-production-7367.up.railway.app}") String baseUrl) {
+        return buildClient(builder, ANALYSIS, properties.getAnalysis(), baseUrl);
+    }
+
+    @Bean
+    public UpstreamGuard yahooGuard(CircuitBreakerRegistry circuitBreakers, BulkheadRegistry bulkheads,
+                                    HttpClientProperties properties, MeterRegistry meterRegistry) {
+        return buildGuard(YAHOO, properties.getYahoo(), circuitBreakers, bulkheads, meterRegistry);
+    }
+
+    @Bean
+    public UpstreamGuard analysisGuard(CircuitBreakerRegistry circuitBreakers, BulkheadRegistry bulkheads,
+                                       HttpClientProperties properties, MeterRegistry meterRegistry) {
+        return buildGuard(ANALYSIS, properties.getAnalysis(), circuitBreakers, bulkheads, meterRegistry);
+    }
+
+    // Spring 이 주입하는 WebClient.Builder 는 관측(http.client.requests 타이머)이 설정된 상태
+    // clone 해서 업스트림별 커넥터와 upstream 태그만 덧붙임
+    private WebClient buildClient(WebClient.Builder builder, String name,
+                                  HttpClientProperties.Upstream upstream, String baseUrl) {
+        ConnectionProvider provider = ConnectionProvider.builder(name)
+                .maxConnections(upstream.getMaxConnections())
+                .pendingAcquireMaxCount(upstream.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(upstream.getPendingAcquireTimeout())
+                .maxIdleTime(upstream.getMaxIdleTime())
+                .maxLifeTime(upstream.getMaxLifeTime())
+                .evictInBackground(upstream.getMaxIdleTime())
+                // reactor.netty.connection.provider.* (active/idle/pending 커넥션) 게이지
+                // 전역 레지스트리에 등록되며, Spring Boot 레지스트리가 전역 레지스트리에 연결되어 함께 노출됨
+                .metrics(true)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(provider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) upstream.getConnectTimeout().toMillis())
+                .responseTimeout(upstream.getResponseTimeout())
+                .doOnConnected(connection -> connection.addHandlerLast(
+                        new ReadTimeoutHandler(upstream.getReadTimeout().toMillis(), TimeUnit.MILLISECONDS)));
+
+        return builder.clone()
+                .baseUrl(baseUrl)
+                .defaultHeader(HttpHeaders.USER_AGENT, USER_AGENT)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs()
+                        .maxInMemorySize((int) upstream.getMaxInMemorySize().toBytes()))
+                .observationConvention(new UpstreamObservationConvention(name))
+                .build();
+    }
+
+    private UpstreamGuard buildGuard(String name, HttpClientProperties.Upstream upstream,
+                                     CircuitBreakerRegistry circuitBreakers, BulkheadRegistry bulkheads,
+                                     MeterRegistry meterRegistry) {
+        return new UpstreamGuard(name,
+                circuitBreakers.circuitBreaker(name),
+                bulkheads.bulkhead(name),
+                upstream.getRetryMaxAttempts(),
+                upstream.getRetryBackoff(),
+                upstream.getRetryMaxBackoff(),
+                upstream.getRatePerSecond() > 0
+                        ? new TokenBucketRateLimiter(upstream.getRatePerSecond(), upstream.getRateBurst())
+                        : null,
+                meterRegistry);
+    }
+
+    // http.client.requests 지표에 upstream 태그 추가 (업스트림별 지연 시간 히스토그램)
+    private static class UpstreamObservationConvention extends DefaultClientRequestObservationConvention {
+
+        private final KeyValue upstream;
+
+        UpstreamObservationConvention(String name) {
+            this.upstream = KeyValue.of("upstream", name);
+        }
+
+        @Override
+        public KeyValues getLowCardinalityKeyValues(ClientRequestObservationContext context) {
+            return super.getLowCardinalityKeyValues(context).and(upstream);
+        }
+    }
+}
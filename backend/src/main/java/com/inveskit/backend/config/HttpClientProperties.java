@@ -0,0 +1,46 @@
+package com.inveskit.backend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+// 외부 API(업스트림)별 HTTP 클라이언트 설정 - http.client.yahoo.*, http.client.analysis.*
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "http.client")
+public class HttpClientProperties {
+
+    private Upstream yahoo = new Upstream();
+    private Upstream analysis = new Upstream();
+
+    @Getter
+    @Setter
+    public static class Upstream {
+        // 커넥션 풀
+        private int maxConnections = 50;
+        private int pendingAcquireMaxCount = 200;      // 커넥션 대기 큐 길이 (넘치면 즉시 실패)
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+        private Duration maxLifeTime = Duration.ofMinutes(5);
+
+        // 타임아웃
+        private Duration connectTimeout = Duration.ofSeconds(3);
+        private Duration responseTimeout = Duration.ofSeconds(10);  // 요청 전송 후 응답 헤더까지
+        private Duration readTimeout = Duration.ofSeconds(10);      // 패킷 사이 최대 공백
+
+        // 응답 본문 메모리 한도
+        private DataSize maxInMemorySize = DataSize.ofMegabytes(4);
+
+        // 429 / 5xx / 연결 실패 재시도 (지수 백오프 + 지터)
+        private int retryMaxAttempts = 2;
+        private Duration retryBackoff = Duration.ofMillis(200);
+        private Duration retryMaxBackoff = Duration.ofSeconds(2);
+
+        // 초당 호출 제한 (토큰 버킷, 재시도 포함 시도마다 토큰 하나) - 0 이면 제한 없음
+        private double ratePerSecond = 0;
+        private int rateBurst = 10;
+    }
+}
@@ -0,0 +1,27 @@
+package com.inveskit.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class IngestionExecutorConfig {
+
+    // 데이터 적재 작업 전용 스레드 풀 (Tomcat 요청 스레드와 분리)
+    // 포화도는 Spring Boot 가 자동 등록하는 executor.*{name=ingestionExecutor} 지표로 확인
+    @Bean(name = "ingestionExecutor")
+    public ThreadPoolTaskExecutor ingestionExecutor(
+            @Value("${stock.ingest.job-threads:2}") int jobThreads,
+            @Value("${stock.ingest.job-queue-capacity:20}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(jobThreads);
+        executor.setMaxPoolSize(jobThreads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("ingest-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -1,20 +1,25 @@
 package com.inveskit.backend.controller;
 
+import com.inveskit.backend.client.UpstreamGuard;
 import com.inveskit.backend.dto.AnalysisRequest;
 import com.inveskit.backend.dto.AnalysisResponse;
 import com.inveskit.backend.dto.StockPriceResponse;
 import com.inveskit.backend.dto.TradeResponse;
 import com.inveskit.backend.service.AnalysisService;
 import com.inveskit.backend.service.StockPriceService;
+import com.inveskit.backend.service.SymbolMasterService;
 import com.inveskit.backend.service.TradeService;
-import com.inveskit.backend.util.StockCodeMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -26,77 +31,107 @@ public class AnalysisController {
     private final AnalysisService analysisService;
     private final TradeService tradeService;
     private final StockPriceService stockPriceService;
+    private final SymbolMasterService symbolMasterService;
 
+    // 요청 스레드는 바로 반환되고, DB 조회는 boundedElastic 에서 병렬로, Flask 호출은 논블로킹으로 진행
     @PostMapping
-    public ResponseEntity<AnalysisResponse> analyzeTrading(
+    public Mono<ResponseEntity<AnalysisResponse>> analyzeTrading(
             @RequestBody AnalysisRequestDto requestDto
     ) {
         log.info("AI 분석 요청 수신 - strategy: {}, externalUrl: {}",
                 requestDto.getStrategy(),
                 requestDto.getExternalUrl());
 
-        try {
-            // 1. 모든 거래 내역 조회
-            List<TradeResponse> trades = tradeService.getAllTrades();
-            if (trades.isEmpty()) {
-                throw new IllegalArgumentException("거래 내역이 없습니다.");
-            }
-
-            // 2. 첫 번째 종목명으로 주가 데이터 조회 (60일)
-            String stockName = trades.get(0).getStockName();
-            LocalDate latestTradeDate = trades.stream()
-                    .map(TradeResponse::getDate)
-                    .max(LocalDate::compareTo)
-                    .orElse(LocalDate.now());
-
-            StockPriceResponse stockPriceResponse = stockPriceService.getStockPrices(
-                    stockName,
-                    latestTradeDate
-            );
-
-            // 3. Flask API 요청 형식으로 변환
-            List<AnalysisRequest.TradeInfo> tradeInfos = trades.stream()
-                    .map(trade -> {
-                        String stockCode = StockCodeMapper.getStockCode(trade.getStockName());
-                        return AnalysisRequest.TradeInfo.builder()
-                                .stockName(trade.getStockName())
-                                .stockCode(stockCode)
-                                .tradeType(trade.getTradeType())
-                                .date(trade.getDate().toString())
-                                .price(trade.getPrice())
-                                .quantity(trade.getQuantity())
-                                .build();
-                    })
-                    .collect(Collectors.toList());
-
-            List<AnalysisRequest.StockPriceInfo> stockPriceInfos = stockPriceResponse.getPrices().stream()
-                    .map(price -> AnalysisRequest.StockPriceInfo.builder()
-                            .date(price.getDate().toString())
-                            .closePrice(price.getClosePrice().doubleValue())
-                            .build())
-                    .collect(Collectors.toList());
-
-            AnalysisRequest analysisRequest = AnalysisRequest.builder()
-                    .trades(tradeInfos)
-                    .stockPrices(stockPriceInfos)
-                    .strategy(requestDto.getStrategy())
-                    .externalUrl(requestDto.getExternalUrl())
-                    .build();
-
-            log.info("Flask API 호출 준비 완료 - trades: {}, prices: {}",
-                    tradeInfos.size(),
-                    stockPriceInfos.size());
-
-            // 4. Flask API 호출
-            AnalysisResponse response = analysisService.analyzeTrading(analysisRequest);
-
-            log.info("AI 분석 완료");
-            return ResponseEntity.ok(response);
-
-        } catch (Exception e) {
-            log.error("AI 분석 실패: {}", e.getMessage(), e);
-            return ResponseEntity.badRequest().build();
+        // 1. 모든 거래 내역 조회
+        Mono<List<TradeResponse>> tradesMono = Mono.fromCallable(tradeService::getAllTrades)
+                .subscribeOn(Schedulers.boundedElastic());
+
+        // 2. 거래한 종목별로 마지막 거래일 기준 60일 주가 조회 (IN 쿼리 한 번) - 거래 내역 조회와 동시에
+        Mono<Map<String, StockPriceResponse>> pricesMono = Mono.fromCallable(() -> {
+                    Map<String, LocalDate> latestTradeDates = tradeService.getLatestTradeDatesByStock();
+                    if (latestTradeDates.isEmpty()) {
+                        throw new IllegalArgumentException("거래 내역이 없습니다.");
+                    }
+                    Map<String, StockPriceResponse> windows = stockPriceService.getPriceWindows(latestTradeDates);
+                    if (windows.isEmpty()) {
+                        throw new IllegalArgumentException("거래한 종목의 주가 데이터가 없습니다.");
+                    }
+                    return windows;
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+
+        return Mono.zip(tradesMono, pricesMono)
+                // 3. Flask API 요청 형식으로 변환 후 4. Flask API 호출
+                .map(tuple -> buildRequest(tuple.getT1(), tuple.getT2(), requestDto))
+                .flatMap(analysisService::analyzeTrading)
+                .map(response -> {
+                    log.info("AI 분석 완료");
+                    return ResponseEntity.ok(response);
+                })
+                .onErrorResume(e -> {
+                    // 서킷 오픈 / 동시 호출 한도 초과는 잠시 후 다시 시도하라는 의미로 503
+                    if (UpstreamGuard.isRejected(e)) {
+                        log.warn("AI 분석 서비스 호출 거절: {}", e.getMessage());
+                        return Mono.just(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+                    }
+                    log.error("AI 분석 실패: {}", e.getMessage(), e);
+                    return Mono.just(ResponseEntity.badRequest().build());
+                });
+    }
+
+    // priceWindows 는 마지막 거래일이 최근인 종목 순서
+    private AnalysisRequest buildRequest(List<TradeResponse> trades, Map<String, StockPriceResponse> priceWindows,
+                                         AnalysisRequestDto requestDto) {
+        if (trades.isEmpty()) {
+            throw new IllegalArgumentException("거래 내역이 없습니다.");
         }
+
+        List<AnalysisRequest.TradeInfo> tradeInfos = trades.stream()
+                .map(trade -> {
+                    String stockCode = symbolMasterService.getStockCode(trade.getStockName());
+                    return AnalysisRequest.TradeInfo.builder()
+                            .stockName(trade.getStockName())
+                            .stockCode(stockCode)
+                            .tradeType(trade.getTradeType())
+                            .date(trade.getDate().toString())
+                            .price(trade.getPrice())
+                            .quantity(trade.getQuantity())
+                            .build();
+                })
+                .collect(Collectors.toList());
+
+        List<AnalysisRequest.SymbolPriceInfo> symbolPriceInfos = priceWindows.values().stream()
+                .map(window -> AnalysisRequest.SymbolPriceInfo.builder()
+                        .stockName(window.getStockName())
+                        .stockCode(window.getStockCode())
+                        .prices(toPriceInfos(window))
+                        .build())
+                .collect(Collectors.toList());
+
+        // 기존 stockPrices 필드는 가장 최근 거래 종목 기준으로 그대로 채움 (Flask 쪽 호환)
+        List<AnalysisRequest.StockPriceInfo> stockPriceInfos = symbolPriceInfos.get(0).getPrices();
+
+        log.info("Flask API 호출 준비 완료 - trades: {}, symbols: {}, prices: {}",
+                tradeInfos.size(),
+                symbolPriceInfos.size(),
+                stockPriceInfos.size());
+
+        return AnalysisRequest.builder()
+                .trades(tradeInfos)
+                .stockPrices(stockPriceInfos)
+                .symbolPrices(symbolPriceInfos)
+                .strategy(requestDto.getStrategy())
+                .externalUrl(requestDto.getExternalUrl())
+                .build();
+    }
+
+    private List<AnalysisRequest.StockPriceInfo> toPriceInfos(StockPriceResponse stockPriceResponse) {
+        return stockPriceResponse.getPrices().stream()
+                .map(price -> AnalysisRequest.StockPriceInfo.builder()
+                        .date(price.getDate().toString())
+                        .closePrice(price.getClosePrice().doubleValue())
+                        .build())
+                .collect(Collectors.toList());
     }
 
     // 간단한 요청 DTO
@@ -108,4 +143,4 @@ public class AnalysisController {
         private String strategy;
         private String externalUrl;
     }
-}
\ No newline at end of file
+}
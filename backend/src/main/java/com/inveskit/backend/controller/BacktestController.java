@@ -0,0 +1,30 @@
+package com.inveskit.backend.controller;
+
+import com.inveskit.backend.dto.BacktestRequest;
+import com.inveskit.backend.dto.BacktestResponse;
+import com.inveskit.backend.service.BacktestService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/backtest")
+@RequiredArgsConstructor
+@Slf4j
+public class BacktestController {
+
+    private final BacktestService backtestService;
+
+    // 규칙 기반 전략을 저장된 주가 이력으로 재생 (종목 x 파라미터 조합별 수익률, 샤프 지수, 최대 낙폭)
+    // POST /api/backtest
+    @PostMapping
+    public ResponseEntity<BacktestResponse> runBacktest(@RequestBody BacktestRequest request) {
+        try {
+            return ResponseEntity.ok(backtestService.run(request));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid backtest request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.inveskit.backend.controller;
+
+import com.inveskit.backend.dto.PortfolioResponse;
+import com.inveskit.backend.service.PortfolioService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/portfolio")
+@RequiredArgsConstructor
+@Slf4j
+public class PortfolioController {
+
+    private final PortfolioService portfolioService;
+
+    // 종목별 보유 수량 / 매입 원가 / 실현·평가 손익 (최근 종가 기준)
+    // GET /api/portfolio?method=FIFO
+    @GetMapping
+    public ResponseEntity<PortfolioResponse> getPortfolio(
+            @RequestParam(defaultValue = "AVERAGE") PortfolioService.CostMethod method
+    ) {
+        PortfolioResponse portfolio = portfolioService.getPortfolio(method);
+        return ResponseEntity.ok(portfolio);
+    }
+}
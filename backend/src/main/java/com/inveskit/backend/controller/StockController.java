@@ -1,14 +1,40 @@
 package com.inveskit.backend.controller;
 
+import com.inveskit.backend.domain.IndicatorSeries;
+import com.inveskit.backend.domain.StockPriceSeries;
+import com.inveskit.backend.dto.CacheStatsResponse;
+import com.inveskit.backend.dto.IngestionJobResponse;
+import com.inveskit.backend.dto.PriceBarUpdate;
 import com.inveskit.backend.dto.StockDto;
 import com.inveskit.backend.dto.StockPriceResponse;
+import com.inveskit.backend.service.ChartSeriesService;
+import com.inveskit.backend.service.IndicatorService;
+import com.inveskit.backend.service.IngestionJob;
+import com.inveskit.backend.service.IngestionJobService;
+import com.inveskit.backend.service.PriceRollupService;
+import com.inveskit.backend.service.PriceStreamService;
+import com.inveskit.backend.service.StockIngestionService;
+import com.inveskit.backend.service.StockPriceCache;
+import com.inveskit.backend.service.SymbolMasterService;
 import com.inveskit.backend.service.StockPriceService;
+import com.inveskit.backend.util.rollup.Resolution;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Flux;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 @RestController
@@ -17,33 +43,219 @@ import java.util.List;
 @Slf4j
 public class StockController {
     private final StockPriceService stockPriceService;
+    private final IngestionJobService ingestionJobService;
+    private final StockPriceCache stockPriceCache;
+    private final SymbolMasterService symbolMasterService;
+    private final IndicatorService indicatorService;
+    private final PriceStreamService priceStreamService;
+    private final ChartSeriesService chartSeriesService;
+    private final PriceRollupService priceRollupService;
 
-    //특정 종목의 60일 주가 데이터 조회
+    private static final LocalDate EXPORT_START_DATE = LocalDate.of(1970, 1, 1);
+    // IN 절 파라미터 수 상한
+    private static final int MAX_EXPORT_CODES = 1000;
+
+    @Value("${stock.prices.max-limit:5000}")
+    private int maxPriceRows;
+
+    @Value("${stock.rollup.default-points:500}")
+    private int defaultChartPoints;
+
+    @Value("${stock.rollup.max-points:5000}")
+    private int maxChartPoints;
+
+    @Value("${stock.chart.max-age:PT1M}")
+    private Duration chartMaxAge;
+
+    @Value("${stock.stream.max-symbols-per-request:20}")
+    private int maxStreamSymbolsPerRequest;
+
+    @Value("${stock.stream.heartbeat:PT20S}")
+    private Duration streamHeartbeat;
+
+    //특정 종목의 주가 데이터 조회 (기본: endDate 이전 60일, limit 을 주면 구간 중 최근 limit 개)
     // GET /api/stocks/prices?stockName=삼성전자&endDate=2024-12-04
+    // GET /api/stocks/prices?stockName=삼성전자&startDate=2020-01-01&endDate=2024-12-04&limit=1000
+    // resolution 을 주면 일봉/주봉/월봉 집계에서 조회하고 points 개까지 LTTB 로 줄임
+    // GET /api/stocks/prices?stockName=삼성전자&startDate=2015-01-01&resolution=AUTO&points=300
     @GetMapping("/prices")
     public ResponseEntity<StockPriceResponse> getStockPrices(
             @RequestParam String stockName,
-            @RequestParam(required = false) LocalDate endDate
+            @RequestParam(required = false) LocalDate startDate,
+            @RequestParam(required = false) LocalDate endDate,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Resolution resolution,
+            @RequestParam(required = false) Integer points
     ) {
         if (endDate == null) {
             endDate = LocalDate.now();
         }
+        if (startDate == null) {
+            startDate = endDate.minusDays(StockPriceService.PRICE_WINDOW_DAYS);
+        }
+        if (startDate.isAfter(endDate)) {
+            return ResponseEntity.badRequest().build();
+        }
 
-        StockPriceResponse response = stockPriceService.getStockPrices(stockName, endDate);
+        if (resolution == null) {
+            // 한도를 넘는 전체 기간은 /prices/export 로 스트리밍
+            int maxRows = limit != null ? limit : maxPriceRows;
+            if (maxRows < 1 || maxRows > maxPriceRows) {
+                return ResponseEntity.badRequest().build();
+            }
+            StockPriceResponse response = stockPriceService.getStockPrices(stockName, startDate, endDate, maxRows);
+            return ResponseEntity.ok(response);
+        }
+
+        int maxPoints = points != null ? points : defaultChartPoints;
+        if (maxPoints < 3 || maxPoints > maxChartPoints) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        StockPriceResponse response = priceRollupService.getPrices(stockName, startDate, endDate, resolution, maxPoints);
         return ResponseEntity.ok(response);
     }
 
-    //특정 종목 데이터 초기화 (2025.01.01 ~ 현재)
+    //일봉 내보내기 (CSV, 종목코드/거래일 순으로 읽으면서 바로 씀 - 전체 기간 x 전체 종목도 메모리 일정)
+    // GET /api/stocks/prices/export?stockCodes=005930,000660&startDate=2015-01-01&endDate=2025-12-04
+    // stockCodes 를 생략하면 저장된 전체 종목
+    @GetMapping("/prices/export")
+    public ResponseEntity<StreamingResponseBody> exportPrices(
+            @RequestParam(required = false) List<String> stockCodes,
+            @RequestParam(required = false) LocalDate startDate,
+            @RequestParam(required = false) LocalDate endDate
+    ) {
+        List<String> codes = stockCodes == null ? List.of() : stockCodes.stream().distinct().toList();
+        LocalDate start = startDate != null ? startDate : EXPORT_START_DATE;
+        LocalDate end = endDate != null ? endDate : LocalDate.now();
+        if (start.isAfter(end) || codes.size() > MAX_EXPORT_CODES) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        StreamingResponseBody body = out -> stockPriceService.exportCsv(codes, start, end, out);
+        return ResponseEntity.ok()
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"prices.csv\"")
+                .body(body);
+    }
+
+    //차트용 종가 시계열 (epoch-day / 종가 평행 배열, delta=true 면 차분 인코딩)
+    // 미리 직렬화/압축해 둔 바이트를 그대로 내려보내고, ETag 가 같으면 304
+    // GET /api/stocks/chart?stockCode=005930&startDate=2025-01-01&endDate=2025-12-04&delta=true
+    @GetMapping("/chart")
+    public ResponseEntity<byte[]> getChart(
+            @RequestParam String stockCode,
+            @RequestParam(required = false) LocalDate startDate,
+            @RequestParam(required = false) LocalDate endDate,
+            @RequestParam(defaultValue = "false") boolean delta,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        if (endDate == null) {
+            endDate = LocalDate.now();
+        }
+        if (startDate == null) {
+            startDate = endDate.minusDays(StockPriceService.PRICE_WINDOW_DAYS);
+        }
+        if (startDate.isAfter(endDate)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        ChartSeriesService.ChartPayload payload = chartSeriesService.getChart(stockCode, startDate, endDate, delta);
+        boolean gzip = acceptsGzip(acceptEncoding);
+
+        // 표현(원본/gzip)마다 ETag 를 구분 (강한 ETag 는 바이트 단위로 같아야 함)
+        // If-None-Match 가 일치하면 Spring 이 본문 없이 304 로 응답
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(gzip ? payload.etag() + "-gz" : payload.etag())
+                .cacheControl(CacheControl.maxAge(chartMaxAge).cachePublic().mustRevalidate())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return builder.body(gzip ? payload.gzip() : payload.json());
+    }
+
+    //특정 종목의 일봉 시계열 (OHLCV + 수정 종가, 컬럼 배열 형태)
+    // GET /api/stocks/series?stockCode=005930&startDate=2025-01-01&endDate=2025-12-04
+    @GetMapping("/series")
+    public ResponseEntity<StockPriceSeries> getPriceSeries(
+            @RequestParam String stockCode,
+            @RequestParam(required = false) LocalDate startDate,
+            @RequestParam(required = false) LocalDate endDate
+    ) {
+        if (endDate == null) {
+            endDate = LocalDate.now();
+        }
+        if (startDate == null) {
+            startDate = endDate.minusYears(1);
+        }
+
+        StockPriceSeries series = stockPriceService.getPriceSeries(stockCode, startDate, endDate);
+        return ResponseEntity.ok(series);
+    }
+
+    //특정 종목의 기술적 지표 (SMA/EMA, RSI, MACD, 볼린저, ATR, VWAP, 낙폭 - 컬럼 배열 형태)
+    // GET /api/stocks/indicators?stockCode=005930&startDate=2025-06-01&endDate=2025-12-04
+    @GetMapping("/indicators")
+    public ResponseEntity<IndicatorSeries> getIndicators(
+            @RequestParam String stockCode,
+            @RequestParam(required = false) LocalDate startDate,
+            @RequestParam(required = false) LocalDate endDate
+    ) {
+        if (endDate == null) {
+            endDate = LocalDate.now();
+        }
+        if (startDate == null) {
+            startDate = endDate.minusYears(1);
+        }
+
+        IndicatorSeries indicators = indicatorService.getIndicators(stockCode, startDate, endDate);
+        return ResponseEntity.ok(indicators);
+    }
+
+    //실시간 일봉 스트림 (SSE) - 종목별로 바뀐 봉만 이벤트로 보냄 (event: bar)
+    // GET /api/stocks/stream?stockCodes=005930,000660
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<Flux<ServerSentEvent<PriceBarUpdate>>> streamPrices(
+            @RequestParam List<String> stockCodes
+    ) {
+        List<String> codes = stockCodes.stream().distinct().toList();
+        if (codes.isEmpty() || codes.size() > maxStreamSymbolsPerRequest) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        List<Flux<PriceBarUpdate>> streams = new ArrayList<>();
+        try {
+            for (String code : codes) {
+                streams.add(priceStreamService.subscribe(code));
+            }
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalStateException e) {
+            log.warn("Price stream rejected: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+
+        Flux<ServerSentEvent<PriceBarUpdate>> bars = Flux.merge(streams)
+                .map(bar -> ServerSentEvent.builder(bar).event("bar").build());
+        // 갱신이 없는 동안에도 주기적으로 주석 이벤트를 보내 프록시 유휴 타임아웃과 끊긴 연결을 감지
+        Flux<ServerSentEvent<PriceBarUpdate>> heartbeats = Flux.interval(streamHeartbeat)
+                .map(tick -> ServerSentEvent.<PriceBarUpdate>builder().comment("ping").build());
+
+        return ResponseEntity.ok(Flux.merge(bars, heartbeats));
+    }
+
+    //특정 종목 데이터 초기화 (2025.01.01 ~ 현재) - 작업 ID 를 바로 반환
     // POST /api/stocks/initialize
     @PostMapping("/initialize")
-    public ResponseEntity<String> initializeStockData(
+    public ResponseEntity<IngestionJobResponse> initializeStockData(
             @RequestParam String stockName,
             @RequestParam String stockCode,
             @RequestParam(defaultValue = "KOSPI") String market
     ) {
         log.info("Initializing data for {} ({})", stockName, stockCode);
-        stockPriceService.initializeStockData(stockName, stockCode, market);
-        return ResponseEntity.ok("데이터 초기화 완료: " + stockName);
+        return submitJob(List.of(new StockDto(stockName, stockCode, market)), StockIngestionService.Mode.FULL);
     }
 
     //DB에 저장된 전체 데이터 개수 확인
@@ -54,62 +266,93 @@ public class StockController {
         return ResponseEntity.ok(count);
     }
 
-    // 주요 종목 일괄 초기화
-// POST /api/stocks/initialize-all
+    // 종목 일괄 초기화 - 작업 ID 를 바로 반환
+    // POST /api/stocks/initialize-all (body 로 종목 목록을 주면 해당 종목들, 없으면 종목 마스터의 상장 종목 전체)
     @PostMapping("/initialize-all")
-    public ResponseEntity<String> initializeAllStocks() {
-        log.info("Starting bulk stock initialization");
-
-        // KOSPI 주요 종목 리스트
-        List<StockDto> majorStocks = List.of(
-                new StockDto("삼성전자", "005930", "KOSPI"),
-                new StockDto("SK하이닉스", "000660", "KOSPI"),
-                new StockDto("LG에너지솔루션", "373220", "KOSPI"),
-                new StockDto("삼성바이오로직스", "207940", "KOSPI"),
-                new StockDto("현대차", "005380", "KOSPI"),
-                new StockDto("기아", "000270", "KOSPI"),
-                new StockDto("POSCO홀딩스", "005490", "KOSPI"),
-                new StockDto("네이버", "035420", "KOSPI"),
-                new StockDto("카카오", "035720", "KOSPI"),
-                new StockDto("셀트리온", "068270", "KOSPI")
-        );
-
-        int successCount = 0;
-        int failCount = 0;
-        StringBuilder result = new StringBuilder();
-
-        for (StockDto stock : majorStocks) {
-            try {
-                log.info("Initializing: {} ({})", stock.getName(), stock.getCode());
-                stockPriceService.initializeStockData(
-                        stock.getName(),
-                        stock.getCode(),
-                        stock.getMarket()
-                );
-                successCount++;
-                result.append(String.format("✓ %s 완료\n", stock.getName()));
-            } catch (Exception e) {
-                failCount++;
-                log.error("Failed to initialize {}: {}", stock.getName(), e.getMessage());
-                result.append(String.format("✗ %s 실패: %s\n", stock.getName(), e.getMessage()));
-            }
-        }
+    public ResponseEntity<IngestionJobResponse> initializeAllStocks(
+            @RequestBody(required = false) List<StockDto> stocks
+    ) {
+        List<StockDto> universe = (stocks == null || stocks.isEmpty()) ? symbolMasterService.getListedStocks() : stocks;
+        log.info("Starting bulk stock initialization for {} symbols", universe.size());
+        return submitJob(universe, StockIngestionService.Mode.FULL);
+    }
+
+    // 증분 동기화 - 종목별 마지막 저장일 이후 데이터만 가져옴
+    // POST /api/stocks/sync (body 로 종목 목록을 주면 해당 종목들, 없으면 종목 마스터의 상장 종목 전체)
+    @PostMapping("/sync")
+    public ResponseEntity<IngestionJobResponse> syncStocks(
+            @RequestBody(required = false) List<StockDto> stocks
+    ) {
+        List<StockDto> universe = (stocks == null || stocks.isEmpty()) ? symbolMasterService.getListedStocks() : stocks;
+        log.info("Starting incremental sync for {} symbols", universe.size());
+        return submitJob(universe, StockIngestionService.Mode.INCREMENTAL);
+    }
+
+    // 적재 작업 진행 상황 조회
+    // GET /api/stocks/jobs/{jobId}
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<IngestionJobResponse> getJob(@PathVariable String jobId) {
+        return ingestionJobService.getJob(jobId)
+                .map(job -> ResponseEntity.ok(IngestionJobResponse.from(job)))
+                .orElse(ResponseEntity.notFound().build());
+    }
 
-        String summary = String.format(
-                "=== 초기화 완료 ===\n성공: %d개\n실패: %d개\n\n%s",
-                successCount, failCount, result.toString()
-        );
+    // 적재 작업 취소
+    // DELETE /api/stocks/jobs/{jobId}
+    @DeleteMapping("/jobs/{jobId}")
+    public ResponseEntity<IngestionJobResponse> cancelJob(@PathVariable String jobId) {
+        return ingestionJobService.cancel(jobId)
+                .map(job -> ResponseEntity.ok(IngestionJobResponse.from(job)))
+                .orElse(ResponseEntity.notFound().build());
+    }
 
-        log.info("Bulk initialization completed. Success: {}, Failed: {}", successCount, failCount);
-        return ResponseEntity.ok(summary);
+    // 주가 캐시 적중/미스/만료 통계
+    // GET /api/stocks/cache/stats
+    @GetMapping("/cache/stats")
+    public ResponseEntity<CacheStatsResponse> getCacheStats() {
+        return ResponseEntity.ok(CacheStatsResponse.of(stockPriceCache.stats(), stockPriceCache.size()));
     }
 
-    // 종목 검색 (자동완성)
-    // GET /api/stocks/search?keyword=삼성
+    // 종목 검색 (자동완성 - 종목명, 종목코드, 초성)
+    // GET /api/stocks/search?keyword=삼성 (또는 005930, ㅅㅅㅈㅈ)
     @GetMapping("/search")
     public ResponseEntity<List<String>> searchStocks(@RequestParam String keyword) {
-        log.info("Searching stocks with keyword: {}", keyword);
         List<String> results = stockPriceService.searchStockNames(keyword);
         return ResponseEntity.ok(results);
     }
+
+    // gzip 이 있고 q 값이 0 보다 크면 허용 (q=0, q=0.0, q=0.000 은 거부, 숫자가 아닌 q 값도 거부)
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            if (!parts[0].trim().equalsIgnoreCase("gzip")) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.length() > 2 && param.substring(0, 2).equalsIgnoreCase("q=")) {
+                    try {
+                        return Double.parseDouble(param.substring(2).trim()) > 0;
+                    } catch (NumberFormatException e) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private ResponseEntity<IngestionJobResponse> submitJob(List<StockDto> universe, StockIngestionService.Mode mode) {
+        try {
+            IngestionJob job = ingestionJobService.submit(universe, mode);
+            return ResponseEntity.accepted().body(IngestionJobResponse.from(job));
+        } catch (IllegalStateException e) {
+            log.warn("Ingestion job rejected: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
 }
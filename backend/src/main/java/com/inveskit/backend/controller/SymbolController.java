@@ -0,0 +1,75 @@
+package com.inveskit.backend.controller;
+
+import com.inveskit.backend.domain.StockSymbol;
+import com.inveskit.backend.dto.StockDto;
+import com.inveskit.backend.dto.SymbolImportResult;
+import com.inveskit.backend.service.SymbolMasterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/symbols")
+@RequiredArgsConstructor
+@Slf4j
+public class SymbolController {
+
+    private final SymbolMasterService symbolMasterService;
+
+    // 상장 종목 목록
+    // GET /api/symbols?market=KOSDAQ
+    @GetMapping
+    public ResponseEntity<List<StockDto>> getListedSymbols(@RequestParam(required = false) String market) {
+        List<StockDto> symbols = symbolMasterService.getListedStocks();
+        if (market != null) {
+            symbols = symbols.stream()
+                    .filter(s -> s.getMarket().equalsIgnoreCase(market))
+                    .toList();
+        }
+        return ResponseEntity.ok(symbols);
+    }
+
+    // 종목코드로 조회
+    // GET /api/symbols/005930
+    @GetMapping("/{stockCode}")
+    public ResponseEntity<StockSymbol> getSymbol(@PathVariable String stockCode) {
+        return symbolMasterService.findByCode(stockCode)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    // KRX 상장종목 CSV 적재 (KRX 다운로드 파일은 기본 EUC-KR)
+    // POST /api/symbols/import (multipart: file)
+    @PostMapping("/import")
+    public ResponseEntity<SymbolImportResult> importSymbols(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(defaultValue = "EUC-KR") String charset,
+            @RequestParam(defaultValue = "true") boolean markMissingDelisted
+    ) throws IOException {
+        log.info("Importing symbol master from {} ({} bytes)", file.getOriginalFilename(), file.getSize());
+
+        // 빈 파일, 헤더 컬럼 누락, 잘못된 문자셋 이름은 400
+        try (InputStream in = file.getInputStream()) {
+            SymbolImportResult result = symbolMasterService.importKrxCsv(in, Charset.forName(charset), markMissingDelisted);
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            log.warn("Symbol import rejected: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // DB 기준으로 스냅샷 다시 로딩
+    // POST /api/symbols/reload
+    @PostMapping("/reload")
+    public ResponseEntity<String> reloadSymbols() {
+        symbolMasterService.reload();
+        return ResponseEntity.ok("종목 마스터를 다시 불러왔습니다.");
+    }
+}
@@ -1,13 +1,27 @@
 package com.inveskit.backend.controller;
 
+import com.inveskit.backend.domain.Trade;
 import com.inveskit.backend.dto.TradeCreateRequest;
+import com.inveskit.backend.dto.TradeFilter;
+import com.inveskit.backend.dto.TradeImportResult;
+import com.inveskit.backend.dto.TradePageResponse;
 import com.inveskit.backend.dto.TradeResponse;
+import com.inveskit.backend.service.TradeImportService;
 import com.inveskit.backend.service.TradeService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -17,6 +31,7 @@ import java.util.List;
 public class TradeController {
 
     private final TradeService tradeService;
+    private final TradeImportService tradeImportService;
 
     // 거래 생성
     // POST /api/trades
@@ -27,6 +42,30 @@ public class TradeController {
         return ResponseEntity.ok(response);
     }
 
+    // 증권사 거래 내역 일괄 적재 (CSV 또는 JSON 배열, 파일 확장자로 구분)
+    // POST /api/trades/import (multipart: file)
+    @PostMapping("/import")
+    public ResponseEntity<TradeImportResult> importTrades(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(defaultValue = "UTF-8") String charset
+    ) throws IOException {
+        log.info("Importing trades from {} ({} bytes)", file.getOriginalFilename(), file.getSize());
+
+        String filename = file.getOriginalFilename() != null ? file.getOriginalFilename().toLowerCase() : "";
+        boolean json = filename.endsWith(".json")
+                || MediaType.APPLICATION_JSON_VALUE.equals(file.getContentType());
+
+        try (InputStream in = file.getInputStream()) {
+            TradeImportResult result = json
+                    ? tradeImportService.importJson(in)
+                    : tradeImportService.importCsv(in, Charset.forName(charset));
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            log.warn("Trade import rejected: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     // 전체 거래 조회
     // GET /api/trades
     @GetMapping
@@ -35,6 +74,49 @@ public class TradeController {
         return ResponseEntity.ok(trades);
     }
 
+    // 거래 목록 페이지 조회 (최신순, 다음 페이지는 응답의 nextCursor 로)
+    // GET /api/trades/page?size=50&cursor=...&stockName=삼성전자&tradeType=buy&startDate=2025-01-01&endDate=2025-12-31
+    @GetMapping("/page")
+    public ResponseEntity<TradePageResponse> getTradePage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(required = false) String stockName,
+            @RequestParam(required = false) String tradeType,
+            @RequestParam(required = false) LocalDate startDate,
+            @RequestParam(required = false) LocalDate endDate
+    ) {
+        try {
+            TradeFilter filter = toFilter(stockName, tradeType, startDate, endDate);
+            return ResponseEntity.ok(tradeService.getTradePage(filter, cursor, size));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid trade page request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // 거래 내역 전체 내보내기 (CSV, 거래일 순으로 스트리밍)
+    // GET /api/trades/export?stockName=삼성전자
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTrades(
+            @RequestParam(required = false) String stockName,
+            @RequestParam(required = false) String tradeType,
+            @RequestParam(required = false) LocalDate startDate,
+            @RequestParam(required = false) LocalDate endDate
+    ) {
+        TradeFilter filter;
+        try {
+            filter = toFilter(stockName, tradeType, startDate, endDate);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        StreamingResponseBody body = out -> tradeService.exportCsv(filter, out);
+        return ResponseEntity.ok()
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"trades.csv\"")
+                .body(body);
+    }
+
     // 특정 거래 조회
     // GET /api/trades/{id}
     @GetMapping("/{id}")
@@ -67,4 +149,12 @@ public class TradeController {
         long count = tradeService.getTradeCount();
         return ResponseEntity.ok(count);
     }
-}
\ No newline at end of file
+
+    // tradeType 은 buy / sell (대소문자 무관), 잘못된 값이면 IllegalArgumentException
+    private static TradeFilter toFilter(String stockName, String tradeType, LocalDate startDate, LocalDate endDate) {
+        Trade.TradeType type = tradeType == null || tradeType.isBlank()
+                ? null
+                : Trade.TradeType.valueOf(tradeType.trim().toUpperCase());
+        return new TradeFilter(stockName, type, startDate, endDate);
+    }
+}
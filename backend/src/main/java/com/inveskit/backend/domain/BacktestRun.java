@@ -0,0 +1,33 @@
+package com.inveskit.backend.domain;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+// 종목 하나 x 파라미터 조합 하나의 백테스트 결과
+// 수익률/낙폭은 비율 (0.1 = 10%), 샤프 지수는 일간 수익률 기준 연환산 (무위험 수익률 0)
+@Getter
+@Builder(toBuilder = true)
+public class BacktestRun {
+    private final String stockCode;
+    private final Map<String, Double> parameters;
+    private final double totalReturn;
+    private final double buyAndHoldReturn;    // 같은 기간 보유만 했을 때
+    private final double sharpeRatio;
+    private final double maxDrawdown;         // 0 이하
+    private final int tradeCount;
+    private final double winRate;
+    private final double finalEquity;
+
+    // includeDetails 일 때만 채움
+    private final int[] equityEpochDays;
+    private final double[] equity;
+    private final List<TradeRecord> trades;
+
+    public record TradeRecord(LocalDate entryDate, double entryPrice, LocalDate exitDate, double exitPrice,
+                              long quantity, double pnl, double returnRate) {
+    }
+}
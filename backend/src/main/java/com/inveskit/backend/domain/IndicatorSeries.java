@@ -0,0 +1,63 @@
+package com.inveskit.backend.domain;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.inveskit.backend.util.NanAsNullArraySerializer;
+import lombok.Getter;
+
+// 한 종목의 기술적 지표를 컬럼 단위 배열로 보관 (날짜는 epoch-day, 계산 전 구간은 NaN - JSON 에서는 null)
+// 지표 기간: SMA/EMA 20, RSI 14, MACD 12/26/9, 볼린저 20/2σ, ATR 14, VWAP 은 시계열 시작부터 누적
+@Getter
+public class IndicatorSeries {
+
+    private final String stockCode;
+    private final int size;
+    private final int[] epochDays;
+    @JsonSerialize(using = NanAsNullArraySerializer.class)
+    private final double[] close;
+    @JsonSerialize(using = NanAsNullArraySerializer.class)
+    private final double[] sma20;
+    @JsonSerialize(using = NanAsNullArraySerializer.class)
+    private final double[] ema20;
+    @JsonSerialize(using = NanAsNullArraySerializer.class)
+    private final double[] rsi14;
+    @JsonSerialize(using = NanAsNullArraySerializer.class)
+    private final double[] macd;
+    @JsonSerialize(using = NanAsNullArraySerializer.class)
+    private final double[] macdSignal;
+    @JsonSerialize(using = NanAsNullArraySerializer.class)
+    private final double[] macdHistogram;
+    @JsonSerialize(using = NanAsNullArraySerializer.class)
+    private final double[] bollingerUpper;
+    @JsonSerialize(using = NanAsNullArraySerializer.class)
+    private final double[] bollingerMiddle;
+    @JsonSerialize(using = NanAsNullArraySerializer.class)
+    private final double[] bollingerLower;
+    @JsonSerialize(using = NanAsNullArraySerializer.class)
+    private final double[] atr14;
+    @JsonSerialize(using = NanAsNullArraySerializer.class)
+    private final double[] vwap;
+    @JsonSerialize(using = NanAsNullArraySerializer.class)
+    private final double[] drawdown;
+
+    public IndicatorSeries(String stockCode, int[] epochDays, double[] close, double[] sma20, double[] ema20,
+                           double[] rsi14, double[] macd, double[] macdSignal, double[] macdHistogram,
+                           double[] bollingerUpper, double[] bollingerMiddle, double[] bollingerLower,
+                           double[] atr14, double[] vwap, double[] drawdown) {
+        this.stockCode = stockCode;
+        this.size = epochDays.length;
+        this.epochDays = epochDays;
+        this.close = close;
+        this.sma20 = sma20;
+        this.ema20 = ema20;
+        this.rsi14 = rsi14;
+        this.macd = macd;
+        this.macdSignal = macdSignal;
+        this.macdHistogram = macdHistogram;
+        this.bollingerUpper = bollingerUpper;
+        this.bollingerMiddle = bollingerMiddle;
+        this.bollingerLower = bollingerLower;
+        this.atr14 = atr14;
+        this.vwap = vwap;
+        this.drawdown = drawdown;
+    }
+}
@@ -16,8 +16,8 @@ import java.time.LocalDateTime;
                 @UniqueConstraint(columnNames = {"stock_code", "trade_date"})
         },
         indexes = {
-                @Index(name = "idx_stock_name", columnList = "stock_name"),
-                @Index(name = "idx_trade_date", columnList = "trade_date")
+                // 종목코드 + 기간 조회용 커버링 인덱스 (날짜/종가 조회는 테이블 접근 없이)
+                @Index(name = "idx_stock_code_trade_date_close", columnList = "stock_code, trade_date, close_price")
         })
 @Getter
 @NoArgsConstructor
@@ -41,9 +41,23 @@ public class StockPrice {
     @Column(nullable = false)
     private LocalDate tradeDate;
 
+    @Column(precision = 15, scale = 2)
+    private BigDecimal openPrice;  // 시가
+
+    @Column(precision = 15, scale = 2)
+    private BigDecimal highPrice;  // 고가
+
+    @Column(precision = 15, scale = 2)
+    private BigDecimal lowPrice;  // 저가
+
     @Column(nullable = false, precision = 15, scale = 2)
     private BigDecimal closePrice;  // 종가
 
+    @Column(precision = 15, scale = 2)
+    private BigDecimal adjClosePrice;  // 수정 종가
+
+    private Long volume;  // 거래량
+
     private LocalDateTime createdAt;
 
     @PrePersist
@@ -0,0 +1,113 @@
+package com.inveskit.backend.domain;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+// 한 종목의 일봉을 컬럼 단위 primitive 배열로 보관 (엔티티 대신 연속된 블록으로 조회/계산용)
+// 날짜는 epoch-day, 값이 없으면 NaN / 거래량은 -1
+@Getter
+public class StockPriceSeries {
+
+    private final String stockCode;
+    private final int size;
+    private final int[] epochDays;
+    private final double[] open;
+    private final double[] high;
+    private final double[] low;
+    private final double[] close;
+    private final double[] adjClose;
+    private final long[] volume;
+
+    public StockPriceSeries(String stockCode, int[] epochDays, double[] open, double[] high, double[] low,
+                            double[] close, double[] adjClose, long[] volume) {
+        this.stockCode = stockCode;
+        this.size = epochDays.length;
+        this.epochDays = epochDays;
+        this.open = open;
+        this.high = high;
+        this.low = low;
+        this.close = close;
+        this.adjClose = adjClose;
+        this.volume = volume;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public LocalDate getDate(int index) {
+        return LocalDate.ofEpochDay(epochDays[index]);
+    }
+
+    // date 이상인 첫 인덱스 (없으면 size)
+    public int lowerBound(LocalDate date) {
+        int key = (int) date.toEpochDay();
+        int idx = Arrays.binarySearch(epochDays, key);
+        return idx >= 0 ? idx : -idx - 1;
+    }
+
+    // 쿼리 결과를 순서대로 채우는 빌더
+    public static class Builder {
+        private final String stockCode;
+        private int size;
+        private int[] epochDays;
+        private double[] open;
+        private double[] high;
+        private double[] low;
+        private double[] close;
+        private double[] adjClose;
+        private long[] volume;
+
+        public Builder(String stockCode, int initialCapacity) {
+            int capacity = Math.max(initialCapacity, 16);
+            this.stockCode = stockCode;
+            this.epochDays = new int[capacity];
+            this.open = new double[capacity];
+            this.high = new double[capacity];
+            this.low = new double[capacity];
+            this.close = new double[capacity];
+            this.adjClose = new double[capacity];
+            this.volume = new long[capacity];
+        }
+
+        public Builder add(int epochDay, double open, double high, double low,
+                           double close, double adjClose, long volume) {
+            if (size == epochDays.length) {
+                grow();
+            }
+            this.epochDays[size] = epochDay;
+            this.open[size] = open;
+            this.high[size] = high;
+            this.low[size] = low;
+            this.close[size] = close;
+            this.adjClose[size] = adjClose;
+            this.volume[size] = volume;
+            size++;
+            return this;
+        }
+
+        public StockPriceSeries build() {
+            return new StockPriceSeries(stockCode,
+                    Arrays.copyOf(epochDays, size),
+                    Arrays.copyOf(open, size),
+                    Arrays.copyOf(high, size),
+                    Arrays.copyOf(low, size),
+                    Arrays.copyOf(close, size),
+                    Arrays.copyOf(adjClose, size),
+                    Arrays.copyOf(volume, size));
+        }
+
+        private void grow() {
+            int capacity = epochDays.length * 2;
+            epochDays = Arrays.copyOf(epochDays, capacity);
+            open = Arrays.copyOf(open, capacity);
+            high = Arrays.copyOf(high, capacity);
+            low = Arrays.copyOf(low, capacity);
+            close = Arrays.copyOf(close, capacity);
+            adjClose = Arrays.copyOf(adjClose, capacity);
+            volume = Arrays.copyOf(volume, capacity);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.inveskit.backend.domain;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+// 종목 마스터 (KRX 상장 종목 목록)
+@Entity
+@Table(name = "stock_symbols",
+        indexes = {
+                @Index(name = "idx_symbol_name", columnList = "stock_name")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class StockSymbol implements Persistable<String> {
+
+    @Id
+    @Column(length = 10)
+    private String stockCode;  // 005930
+
+    @Column(nullable = false, length = 50)
+    private String stockName;  // 삼성전자
+
+    @Column(nullable = false, length = 10)
+    private String market;  // KOSPI, KOSDAQ
+
+    @Column(nullable = false, length = 5)
+    private String yahooSuffix;  // .KS, .KQ
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ListingStatus listingStatus;
+
+    private LocalDateTime updatedAt;
+
+    // 코드를 직접 지정하므로 save 시 select 없이 바로 insert 되도록 신규 여부를 직접 관리
+    @Transient
+    @JsonIgnore
+    @Builder.Default
+    private boolean newEntity = true;
+
+    public enum ListingStatus {
+        LISTED, DELISTED
+    }
+
+    public static String yahooSuffixOf(String market) {
+        return "KOSDAQ".equalsIgnoreCase(market) ? ".KQ" : ".KS";
+    }
+
+    public String getYahooSymbol() {
+        return stockCode + yahooSuffix;
+    }
+
+    public boolean isListed() {
+        return listingStatus == ListingStatus.LISTED;
+    }
+
+    public void update(String stockName, String market, ListingStatus listingStatus) {
+        this.stockName = stockName;
+        this.market = market;
+        this.yahooSuffix = yahooSuffixOf(market);
+        this.listingStatus = listingStatus;
+    }
+
+    @Override
+    @JsonIgnore
+    public String getId() {
+        return stockCode;
+    }
+
+    @Override
+    @JsonIgnore
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PostPersist
+    @PostLoad
+    protected void markNotNew() {
+        newEntity = false;
+    }
+}
@@ -6,15 +6,21 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "trades")
+@Table(name = "trades", indexes = {
+        // 거래 목록 keyset 페이지네이션 (trade_date, id) / 종목 필터
+        @Index(name = "idx_trade_date_id", columnList = "trade_date, id"),
+        @Index(name = "idx_trade_stock_date_id", columnList = "stock_name, trade_date, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
 public class Trade {
 
+    // 시퀀스 + pooled 옵티마이저: id 를 allocationSize 개씩 미리 받아서 insert 를 JDBC 배치로 묶을 수 있음
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "trade_seq")
+    @SequenceGenerator(name = "trade_seq", sequenceName = "trade_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -9,7 +9,8 @@ import java.util.List;
 @AllArgsConstructor
 public class AnalysisRequest {
     private List<TradeInfo> trades;
-    private List<StockPriceInfo> stockPrices;
+    private List<StockPriceInfo> stockPrices;       // 가장 최근 거래 종목의 주가 (기존 형식)
+    private List<SymbolPriceInfo> symbolPrices;     // 거래한 전체 종목의 주가
     private String strategy;
     private String externalUrl;
 
@@ -34,4 +35,14 @@ public class AnalysisRequest {
         private String date;
         private Double closePrice;
     }
-}
\ No newline at end of file
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SymbolPriceInfo {
+        private String stockName;
+        private String stockCode;
+        private List<StockPriceInfo> prices;
+    }
+}
@@ -0,0 +1,43 @@
+package com.inveskit.backend.dto;
+
+import com.inveskit.backend.util.backtest.Rule;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+// 백테스트 요청
+// 예) 5/20일 이평선 골든크로스 매수, 데드크로스 매도를 fast, slow 조합별로
+// {
+//   "stockCodes": ["005930", "000660"],
+//   "startDate": "2025-01-01", "endDate": "2025-12-31",
+//   "entry": [{"left": "SMA($fast)", "operator": "CROSS_ABOVE", "right": "SMA($slow)"}],
+//   "exit":  [{"left": "SMA($fast)", "operator": "CROSS_BELOW", "right": "SMA($slow)"}],
+//   "parameters": {"fast": [5, 10], "slow": [20, 60]}
+// }
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BacktestRequest {
+    private List<String> stockCodes;            // 비우면 종목 마스터의 상장 종목 전체 (backtest.max-symbols 이하일 때만)
+    private LocalDate startDate;                // 기본: endDate 1년 전
+    private LocalDate endDate;                  // 기본: 오늘
+    private Double initialCapital;              // 기본 10,000,000
+    private Double feeRate;                     // 매수/매도 금액 대비 비용 (기본 0.001)
+    private List<Condition> entry;              // 모두 만족하면 매수
+    private List<Condition> exit;               // 모두 만족하면 매도
+    private Map<String, List<Double>> parameters;  // $이름 -> 시험할 값 목록 (조합 전체를 실행)
+    private boolean includeDetails;             // 자산 곡선 / 거래 목록 포함 여부
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Condition {
+        private String left;
+        private Rule.Operator operator;
+        private String right;
+    }
+}
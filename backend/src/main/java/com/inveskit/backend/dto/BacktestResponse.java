@@ -0,0 +1,19 @@
+package com.inveskit.backend.dto;
+
+import com.inveskit.backend.domain.BacktestRun;
+import lombok.*;
+
+import java.util.List;
+
+// 백테스트 결과 (샤프 지수 높은 순)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BacktestResponse {
+    private int symbolCount;
+    private int combinationCount;
+    private List<BacktestRun> runs;
+    private List<String> skippedStockCodes;     // 기간 내 주가가 부족한 종목
+    private long elapsedMillis;
+}
@@ -0,0 +1,28 @@
+package com.inveskit.backend.dto;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.Builder;
+import lombok.Getter;
+
+// 캐시 적중/미스/만료 통계
+@Getter
+@Builder
+public class CacheStatsResponse {
+    private long size;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+    private double hitRate;
+    private double averageLoadMillis;
+
+    public static CacheStatsResponse of(CacheStats stats, long size) {
+        return CacheStatsResponse.builder()
+                .size(size)
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .evictionCount(stats.evictionCount())
+                .hitRate(stats.hitRate())
+                .averageLoadMillis(stats.averageLoadPenalty() / 1_000_000.0)
+                .build();
+    }
+}
@@ -0,0 +1,88 @@
+package com.inveskit.backend.dto;
+
+import com.inveskit.backend.domain.StockPriceSeries;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Arrays;
+
+// 차트용 압축 응답: 날짜(epoch-day)와 종가를 평행 배열로 전송
+// 종가는 10^scale 을 곱한 정수 (원화는 scale 0), encoding=delta 이면 두 배열 모두 첫 값 이후 직전 값과의 차이
+// 복원: dates[i] = dates[i-1] + d[i], price = close[i] / 10^scale
+@Getter
+@Builder
+public class ChartSeriesResponse {
+
+    public static final String PLAIN = "plain";
+    public static final String DELTA = "delta";
+
+    // 소수점 자릿수 상한 (이보다 긴 값은 반올림)
+    private static final int MAX_SCALE = 4;
+
+    private String stockCode;
+    private String encoding;
+    private int scale;
+    private int[] dates;
+    private long[] close;
+
+    // 종가가 없는 날은 제외
+    public static ChartSeriesResponse of(StockPriceSeries series, boolean delta) {
+        int[] dates = new int[series.getSize()];
+        double[] values = new double[series.getSize()];
+        int count = 0;
+        for (int i = 0; i < series.getSize(); i++) {
+            double close = series.getClose()[i];
+            if (!Double.isNaN(close)) {
+                dates[count] = series.getEpochDays()[i];
+                values[count] = close;
+                count++;
+            }
+        }
+        dates = Arrays.copyOf(dates, count);
+
+        int scale = scaleOf(values, count);
+        double factor = Math.pow(10, scale);
+        long[] close = new long[count];
+        for (int i = 0; i < count; i++) {
+            close[i] = Math.round(values[i] * factor);
+        }
+
+        if (delta) {
+            deltaEncode(dates);
+            deltaEncode(close);
+        }
+
+        return ChartSeriesResponse.builder()
+                .stockCode(series.getStockCode())
+                .encoding(delta ? DELTA : PLAIN)
+                .scale(scale)
+                .dates(dates)
+                .close(close)
+                .build();
+    }
+
+    // 모든 값을 정수로 표현할 수 있는 가장 작은 소수점 자릿수
+    private static int scaleOf(double[] values, int count) {
+        int scale = 0;
+        double factor = 1;
+        for (int i = 0; i < count && scale < MAX_SCALE; i++) {
+            while (scale < MAX_SCALE && Math.abs(values[i] * factor - Math.rint(values[i] * factor)) > 1e-6) {
+                scale++;
+                factor *= 10;
+            }
+        }
+        return scale;
+    }
+
+    private static void deltaEncode(int[] values) {
+        for (int i = values.length - 1; i > 0; i--) {
+            values[i] -= values[i - 1];
+        }
+    }
+
+    private static void deltaEncode(long[] values) {
+        for (int i = values.length - 1; i > 0; i--) {
+            values[i] -= values[i - 1];
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.inveskit.backend.dto;
+
+import com.inveskit.backend.service.IngestionJob;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+
+// 적재 작업 진행 상황 응답
+@Getter
+@Builder
+public class IngestionJobResponse {
+    private String jobId;
+    private String status;
+    private int totalSymbols;
+    private int symbolsDone;
+    private int symbolsFailed;
+    private long rowsInserted;
+    private long rowsSkipped;
+    private long elapsedMillis;
+    private double symbolsPerSecond;
+    private double rowsPerSecond;
+    private Instant createdAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private List<String> errors;
+
+    public static IngestionJobResponse from(IngestionJob job) {
+        long elapsedMillis = job.getElapsed().toMillis();
+        double seconds = elapsedMillis / 1000.0;
+        int symbolsDone = job.getSymbolsDone().get();
+        long rowsInserted = job.getRowsInserted().get();
+
+        return IngestionJobResponse.builder()
+                .jobId(job.getId())
+                .status(job.getStatus().name())
+                .totalSymbols(job.getTotalSymbols())
+                .symbolsDone(symbolsDone)
+                .symbolsFailed(job.getSymbolsFailed().get())
+                .rowsInserted(rowsInserted)
+                .rowsSkipped(job.getRowsSkipped().get())
+                .elapsedMillis(elapsedMillis)
+                .symbolsPerSecond(seconds > 0 ? symbolsDone / seconds : 0)
+                .rowsPerSecond(seconds > 0 ? rowsInserted / seconds : 0)
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .errors(job.getErrors())
+                .build();
+    }
+}
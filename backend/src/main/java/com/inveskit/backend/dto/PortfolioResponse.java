@@ -0,0 +1,19 @@
+package com.inveskit.backend.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+// 포트폴리오 전체 현황 (합계의 평가 금액/손익은 종가가 있는 종목만 포함)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PortfolioResponse {
+    private String costMethod;        // AVERAGE or FIFO
+    private List<PositionResponse> positions;
+    private double totalCostBasis;
+    private double totalMarketValue;
+    private double totalUnrealizedPnl;
+    private double totalRealizedPnl;
+}
@@ -0,0 +1,24 @@
+package com.inveskit.backend.dto;
+
+import lombok.*;
+
+import java.time.LocalDate;
+
+// 종목별 보유 현황 (평가 종가가 없으면 평가 관련 값은 null)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PositionResponse {
+    private String stockName;
+    private String stockCode;
+    private long quantity;
+    private Double averageCost;       // 보유 수량 기준 단가
+    private Double costBasis;         // 보유 수량의 매입 원가
+    private Double lastPrice;
+    private LocalDate priceDate;
+    private Double marketValue;
+    private Double unrealizedPnl;
+    private Double unrealizedPnlRate; // 평가 손익 / 매입 원가
+    private Double realizedPnl;
+}
@@ -0,0 +1,24 @@
+package com.inveskit.backend.dto;
+
+import com.inveskit.backend.client.StockPriceData;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// 실시간 스트림으로 내보내는 일봉 하나 (장중에는 당일 봉이 계속 갱신됨)
+public record PriceBarUpdate(
+        String stockCode,
+        LocalDate date,
+        BigDecimal openPrice,
+        BigDecimal highPrice,
+        BigDecimal lowPrice,
+        BigDecimal closePrice,
+        BigDecimal adjClosePrice,
+        Long volume
+) {
+    public static PriceBarUpdate of(String stockCode, StockPriceData data) {
+        return new PriceBarUpdate(stockCode, data.getDate(),
+                data.getOpenPrice(), data.getHighPrice(), data.getLowPrice(),
+                data.getClosePrice(), data.getAdjClosePrice(), data.getVolume());
+    }
+}
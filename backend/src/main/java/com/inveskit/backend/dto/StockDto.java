@@ -2,11 +2,13 @@ package com.inveskit.backend.dto;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
+@NoArgsConstructor
 @AllArgsConstructor
 public class StockDto {
     private String name;
     private String code;
     private String market;
-}
\ No newline at end of file
+}
@@ -0,0 +1,35 @@
+package com.inveskit.backend.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 종목 데이터 적재 결과 (신규 저장 / 중복 스킵 건수, 실패 시 에러 메시지)
+@Getter
+@Builder
+public class StockInitResult {
+    private String stockName;
+    private String stockCode;
+    private int fetched;
+    private int inserted;
+    private int skipped;
+
+    @Builder.Default
+    private boolean success = true;
+    private String error;
+
+    public static StockInitResult empty(String stockName, String stockCode) {
+        return StockInitResult.builder()
+                .stockName(stockName)
+                .stockCode(stockCode)
+                .build();
+    }
+
+    public static StockInitResult failure(String stockName, String stockCode, String error) {
+        return StockInitResult.builder()
+                .stockName(stockName)
+                .stockCode(stockCode)
+                .success(false)
+                .error(error)
+                .build();
+    }
+}
@@ -1,6 +1,7 @@
 package com.inveskit.backend.dto;
 
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -14,9 +15,13 @@ public class StockPriceResponse {
     private String stockName;
     private String stockCode;
     private List<DailyPrice> prices;
+    // 봉 단위 (DAILY, WEEKLY, MONTHLY) - 주봉/월봉의 date 는 그 기간의 마지막 거래일
+    @Builder.Default
+    private String resolution = "DAILY";
 
     @Getter
     @Builder
+    @AllArgsConstructor
     public static class DailyPrice {
         private LocalDate date;
         private BigDecimal closePrice;
@@ -0,0 +1,16 @@
+package com.inveskit.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// 여러 종목 일괄 조회용 (종목코드, 날짜, 종가) 프로젝션
+@Getter
+@AllArgsConstructor
+public class SymbolDailyPrice {
+    private String stockCode;
+    private LocalDate tradeDate;
+    private BigDecimal closePrice;
+}
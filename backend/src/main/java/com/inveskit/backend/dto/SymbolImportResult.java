@@ -0,0 +1,15 @@
+package com.inveskit.backend.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 종목 마스터 CSV 적재 결과
+@Getter
+@Builder
+public class SymbolImportResult {
+    private int total;
+    private int inserted;
+    private int updated;
+    private int delisted;
+    private int skipped;
+}
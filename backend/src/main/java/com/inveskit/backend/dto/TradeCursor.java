@@ -0,0 +1,27 @@
+package com.inveskit.backend.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 거래 목록 keyset 커서 - 마지막으로 받은 거래의 (거래일, id)
+// 클라이언트에는 "2025-03-04:123" 을 base64url 로 감싼 불투명 문자열로 전달
+public record TradeCursor(LocalDate tradeDate, long id) {
+
+    public String encode() {
+        String raw = tradeDate + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 형식이 잘못되면 IllegalArgumentException
+    public static TradeCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.indexOf(':');
+            return new TradeCursor(LocalDate.parse(raw.substring(0, sep)), Long.parseLong(raw.substring(sep + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor, e);
+        }
+    }
+}
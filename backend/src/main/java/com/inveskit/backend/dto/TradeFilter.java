@@ -0,0 +1,21 @@
+package com.inveskit.backend.dto;
+
+import com.inveskit.backend.domain.Trade;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// 거래 목록 조회 조건 (null 인 항목은 조건에서 빠짐)
+@Getter
+@AllArgsConstructor
+public class TradeFilter {
+    private final String stockName;
+    private final Trade.TradeType tradeType;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+
+    public static TradeFilter none() {
+        return new TradeFilter(null, null, null, null);
+    }
+}
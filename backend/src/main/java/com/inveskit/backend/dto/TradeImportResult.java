@@ -0,0 +1,16 @@
+package com.inveskit.backend.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+// 거래 내역 일괄 적재 결과 (검증에 실패한 행은 건너뛰고 사유를 errors 에 기록)
+@Getter
+@Builder
+public class TradeImportResult {
+    private int total;
+    private int inserted;
+    private int skipped;
+    private List<String> errors;   // 최대 100건
+}
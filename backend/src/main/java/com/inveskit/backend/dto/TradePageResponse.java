@@ -0,0 +1,16 @@
+package com.inveskit.backend.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+// 거래 목록 한 페이지 (최신순) - 다음 페이지는 nextCursor 로 요청
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TradePageResponse {
+    private List<TradeResponse> trades;
+    private String nextCursor;   // 마지막 페이지면 null
+    private boolean hasNext;
+}
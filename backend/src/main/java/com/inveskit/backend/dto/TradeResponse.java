@@ -13,6 +13,7 @@ import java.time.LocalDate;
 public class TradeResponse {
     private Long id;
     private String stockName;
+    private String stockCode;
     private String tradeType;  // buy or sell
     private LocalDate date;
     private Double price;
@@ -22,6 +23,7 @@ public class TradeResponse {
         return TradeResponse.builder()
                 .id(trade.getId())
                 .stockName(trade.getStockName())
+                .stockCode(trade.getStockCode())
                 .tradeType(trade.getTradeType().name().toLowerCase())
                 .date(trade.getTradeDate())
                 .price(trade.getPrice())
@@ -0,0 +1,18 @@
+package com.inveskit.backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// 종목에 새 일봉이 저장됐을 때 발행 (커밋 이후 캐시 무효화 등에 사용)
+@Getter
+@AllArgsConstructor
+public class StockPricesUpdatedEvent {
+    private final String stockCode;
+    private final String stockName;
+    private final String market;
+    private final LocalDate fromDate;  // 새로 저장된 일봉 중 가장 이른 날짜
+    private final LocalDate toDate;    // 새로 저장된 일봉 중 가장 늦은 날짜
+    private final int inserted;
+}
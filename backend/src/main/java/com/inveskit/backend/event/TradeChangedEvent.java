@@ -0,0 +1,38 @@
+package com.inveskit.backend.event;
+
+import com.inveskit.backend.domain.Trade;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// 거래가 추가/삭제됐을 때 발행 (커밋 이후 포트폴리오 갱신 등에 사용)
+@Getter
+@AllArgsConstructor
+public class TradeChangedEvent {
+    private final Type type;
+    private final Long tradeId;
+    private final String stockName;
+    private final String stockCode;
+    private final Trade.TradeType tradeType;
+    private final LocalDate tradeDate;
+    private final double price;
+    private final int quantity;
+
+    public enum Type {
+        CREATED, DELETED
+    }
+
+    public static TradeChangedEvent created(Trade trade) {
+        return of(Type.CREATED, trade);
+    }
+
+    public static TradeChangedEvent deleted(Trade trade) {
+        return of(Type.DELETED, trade);
+    }
+
+    private static TradeChangedEvent of(Type type, Trade trade) {
+        return new TradeChangedEvent(type, trade.getId(), trade.getStockName(), trade.getStockCode(),
+                trade.getTradeType(), trade.getTradeDate(), trade.getPrice(), trade.getQuantity());
+    }
+}
@@ -0,0 +1,11 @@
+package com.inveskit.backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 거래 내역을 일괄 적재했을 때 발행 (거래마다 TradeChangedEvent 를 보내는 대신 한 번만)
+@Getter
+@AllArgsConstructor
+public class TradesImportedEvent {
+    private final int inserted;
+}
@@ -0,0 +1,201 @@
+package com.inveskit.backend.repository;
+
+import com.inveskit.backend.domain.StockPrice;
+import com.inveskit.backend.domain.StockPriceSeries;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// JPA 를 거치지 않는 주가 데이터 경로
+// - 대량 적재: IDENTITY 키 때문에 Hibernate 배치 insert 가 안 되므로 JDBC 배치로 처리
+// - 시계열 조회: 엔티티 대신 primitive 배열로 바로 로딩
+// - 내보내기: fetch size 단위로 커서를 읽으면서 한 행씩 넘김 (전체를 메모리에 올리지 않음)
+@Repository
+@Slf4j
+public class StockPriceJdbcRepository {
+
+    // PostgreSQL: (stock_code, trade_date) 유니크 제약 충돌 시 무시
+    private static final String POSTGRES_INSERT_SQL =
+            "INSERT INTO stock_prices (stock_code, stock_name, market, trade_date, " +
+            "open_price, high_price, low_price, close_price, adj_close_price, volume, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (stock_code, trade_date) DO NOTHING";
+
+    // H2: 표준 MERGE 로 없는 행만 insert
+    private static final String H2_MERGE_SQL =
+            "MERGE INTO stock_prices t " +
+            "USING (SELECT CAST(? AS VARCHAR(10)) AS stock_code, CAST(? AS DATE) AS trade_date) s " +
+            "ON t.stock_code = s.stock_code AND t.trade_date = s.trade_date " +
+            "WHEN NOT MATCHED THEN INSERT (stock_code, stock_name, market, trade_date, " +
+            "open_price, high_price, low_price, close_price, adj_close_price, volume, created_at) " +
+            "VALUES (s.stock_code, ?, ?, s.trade_date, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SERIES_SQL =
+            "SELECT trade_date, open_price, high_price, low_price, close_price, adj_close_price, volume " +
+            "FROM stock_prices " +
+            "WHERE stock_code = ? AND trade_date BETWEEN ? AND ? " +
+            "ORDER BY trade_date";
+
+    private static final String STREAM_SQL =
+            "SELECT stock_code, trade_date, open_price, high_price, low_price, close_price, adj_close_price, volume " +
+            "FROM stock_prices " +
+            "WHERE trade_date BETWEEN ? AND ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    @Value("${stock.ingest.batch-size:500}")
+    private int batchSize;
+
+    public StockPriceJdbcRepository(JdbcTemplate jdbcTemplate, DataSource dataSource,
+                                    @Value("${stock.export.fetch-size:1000}") int exportFetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(exportFetchSize);
+    }
+
+    // 한 행을 객체로 만들지 않고 값 그대로 받는 콜백 (값이 없으면 NaN / 거래량은 -1)
+    @FunctionalInterface
+    public interface BarHandler {
+        void accept(String stockCode, LocalDate tradeDate, double open, double high, double low,
+                    double close, double adjClose, long volume);
+    }
+
+    private volatile Boolean postgres;
+
+    // 배치 insert 후 실제로 추가된 행 수 반환 (이미 있던 행은 0으로 집계)
+    public int insertIgnoreDuplicates(List<StockPrice> prices) {
+        if (prices.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int[][] results;
+
+        if (isPostgres()) {
+            results = jdbcTemplate.batchUpdate(POSTGRES_INSERT_SQL, prices, batchSize, (ps, p) -> {
+                ps.setString(1, p.getStockCode());
+                ps.setString(2, p.getStockName());
+                ps.setString(3, p.getMarket());
+                ps.setDate(4, Date.valueOf(p.getTradeDate()));
+                ps.setBigDecimal(5, p.getOpenPrice());
+                ps.setBigDecimal(6, p.getHighPrice());
+                ps.setBigDecimal(7, p.getLowPrice());
+                ps.setBigDecimal(8, p.getClosePrice());
+                ps.setBigDecimal(9, p.getAdjClosePrice());
+                ps.setObject(10, p.getVolume(), Types.BIGINT);
+                ps.setTimestamp(11, Timestamp.valueOf(now));
+            });
+        } else {
+            results = jdbcTemplate.batchUpdate(H2_MERGE_SQL, prices, batchSize, (ps, p) -> {
+                ps.setString(1, p.getStockCode());
+                ps.setDate(2, Date.valueOf(p.getTradeDate()));
+                ps.setString(3, p.getStockName());
+                ps.setString(4, p.getMarket());
+                ps.setBigDecimal(5, p.getOpenPrice());
+                ps.setBigDecimal(6, p.getHighPrice());
+                ps.setBigDecimal(7, p.getLowPrice());
+                ps.setBigDecimal(8, p.getClosePrice());
+                ps.setBigDecimal(9, p.getAdjClosePrice());
+                ps.setObject(10, p.getVolume(), Types.BIGINT);
+                ps.setTimestamp(11, Timestamp.valueOf(now));
+            });
+        }
+
+        int inserted = 0;
+        for (int[] batch : results) {
+            for (int count : batch) {
+                // reWriteBatchedInserts 등으로 건수를 알 수 없으면 insert 된 것으로 간주
+                if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                    inserted++;
+                }
+            }
+        }
+        return inserted;
+    }
+
+    // 엔티티/BigDecimal 을 만들지 않고 결과를 바로 primitive 배열로 채움
+    public StockPriceSeries findSeries(String stockCode, LocalDate startDate, LocalDate endDate) {
+        int expectedRows = (int) Math.min(ChronoUnit.DAYS.between(startDate, endDate) + 1, 4096);
+
+        return jdbcTemplate.query(SERIES_SQL, rs -> {
+            StockPriceSeries.Builder builder = new StockPriceSeries.Builder(stockCode, expectedRows);
+            while (rs.next()) {
+                builder.add(
+                        (int) rs.getDate(1).toLocalDate().toEpochDay(),
+                        getDouble(rs, 2),
+                        getDouble(rs, 3),
+                        getDouble(rs, 4),
+                        getDouble(rs, 5),
+                        getDouble(rs, 6),
+                        getLong(rs, 7)
+                );
+            }
+            return builder.build();
+        }, stockCode, Date.valueOf(startDate), Date.valueOf(endDate));
+    }
+
+    // 종목코드 순, 거래일 순으로 한 행씩 전달 (stockCodes 가 비어 있으면 전체 종목)
+    // PostgreSQL 은 트랜잭션 안(autocommit off)에서만 fetch size 로 나눠 읽으므로 호출하는 쪽에서 트랜잭션을 열어야 함
+    public void streamBars(List<String> stockCodes, LocalDate startDate, LocalDate endDate, BarHandler handler) {
+        StringBuilder sql = new StringBuilder(STREAM_SQL);
+        List<Object> args = new ArrayList<>();
+        args.add(Date.valueOf(startDate));
+        args.add(Date.valueOf(endDate));
+        if (!stockCodes.isEmpty()) {
+            sql.append(" AND stock_code IN (")
+                    .append(String.join(", ", Collections.nCopies(stockCodes.size(), "?")))
+                    .append(")");
+            args.addAll(stockCodes);
+        }
+        sql.append(" ORDER BY stock_code, trade_date");
+
+        streamingJdbcTemplate.query(sql.toString(), (RowCallbackHandler) rs -> handler.accept(
+                rs.getString(1),
+                rs.getDate(2).toLocalDate(),
+                getDouble(rs, 3),
+                getDouble(rs, 4),
+                getDouble(rs, 5),
+                getDouble(rs, 6),
+                getDouble(rs, 7),
+                getLong(rs, 8)
+        ), args.toArray());
+    }
+
+    private static double getDouble(ResultSet rs, int column) throws SQLException {
+        double value = rs.getDouble(column);
+        return rs.wasNull() ? Double.NaN : value;
+    }
+
+    private static long getLong(ResultSet rs, int column) throws SQLException {
+        long value = rs.getLong(column);
+        return rs.wasNull() ? -1L : value;
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) con ->
+                    con.getMetaData().getDatabaseProductName());
+            postgres = "PostgreSQL".equalsIgnoreCase(product);
+            log.info("Bulk insert dialect: {}", product);
+        }
+        return postgres;
+    }
+}
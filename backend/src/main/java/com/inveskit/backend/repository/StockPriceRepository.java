@@ -1,34 +1,70 @@
 package com.inveskit.backend.repository;
 
 import com.inveskit.backend.domain.StockPrice;
+import com.inveskit.backend.dto.StockPriceResponse;
+import com.inveskit.backend.dto.SymbolDailyPrice;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface StockPriceRepository extends JpaRepository<StockPrice, Long> {
 
-    @Query("SELECT sp FROM StockPrice sp " +
-            "WHERE sp.stockName = :stockName " +
+    //종목코드 + 기간 중 최근 거래일부터 - (stock_code, trade_date, close_price) 인덱스만으로 처리되도록 날짜/종가만 DTO 로 조회
+    //개수 제한은 Pageable 로 DB 에서 LIMIT
+    @Query("SELECT new com.inveskit.backend.dto.StockPriceResponse$DailyPrice(sp.tradeDate, sp.closePrice) " +
+            "FROM StockPrice sp " +
+            "WHERE sp.stockCode = :stockCode " +
             "AND sp.tradeDate BETWEEN :startDate AND :endDate " +
-            "ORDER BY sp.tradeDate ASC")
-    List<StockPrice> findByStockNameAndDateRange(
-            @Param("stockName") String stockName,
+            "ORDER BY sp.tradeDate DESC")
+    List<StockPriceResponse.DailyPrice> findRecentDailyPrices(
+            @Param("stockCode") String stockCode,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            Pageable pageable
+    );
+
+    //여러 종목의 기간 조회를 IN 쿼리 한 번으로
+    @Query("SELECT new com.inveskit.backend.dto.SymbolDailyPrice(sp.stockCode, sp.tradeDate, sp.closePrice) " +
+            "FROM StockPrice sp " +
+            "WHERE sp.stockCode IN :stockCodes " +
+            "AND sp.tradeDate BETWEEN :startDate AND :endDate " +
+            "ORDER BY sp.stockCode, sp.tradeDate")
+    List<SymbolDailyPrice> findDailyPricesByStockCodes(
+            @Param("stockCodes") Collection<String> stockCodes,
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate
     );
 
-    //특정 종목/날짜 데이터 존재 여부 확인
-    boolean existsByStockCodeAndTradeDate(String stockCode, LocalDate tradeDate);
+    //특정 종목의 기간 내 저장된 거래일 목록 (대량 적재 시 중복 체크를 한 번의 쿼리로)
+    @Query("SELECT sp.tradeDate FROM StockPrice sp " +
+            "WHERE sp.stockCode = :stockCode " +
+            "AND sp.tradeDate BETWEEN :startDate AND :endDate")
+    List<LocalDate> findTradeDatesByStockCode(
+            @Param("stockCode") String stockCode,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
 
-    //전체 데이터 개수 확인용
-    long count();
+    //종목별 마지막 저장 거래일 (증분 동기화 기준점)
+    @Query("SELECT sp.stockCode, MAX(sp.tradeDate) FROM StockPrice sp " +
+            "WHERE sp.stockCode IN :stockCodes " +
+            "GROUP BY sp.stockCode")
+    List<Object[]> findLatestTradeDates(@Param("stockCodes") Collection<String> stockCodes);
 
+    // 종목별 가장 최근 종가 (평가용)
+    @Query("SELECT new com.inveskit.backend.dto.SymbolDailyPrice(sp.stockCode, sp.tradeDate, sp.closePrice) " +
+            "FROM StockPrice sp " +
+            "WHERE sp.stockCode IN :stockCodes " +
+            "AND sp.tradeDate = (SELECT MAX(s2.tradeDate) FROM StockPrice s2 WHERE s2.stockCode = sp.stockCode)")
+    List<SymbolDailyPrice> findLatestCloses(@Param("stockCodes") Collection<String> stockCodes);
 
-    @Query("SELECT DISTINCT sp.stockName FROM StockPrice sp ORDER BY sp.stockName")
-    List<String> findDistinctStockNames();
+    //전체 데이터 개수 확인용
+    long count();
 }
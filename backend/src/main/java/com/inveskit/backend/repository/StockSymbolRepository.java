@@ -0,0 +1,9 @@
+package com.inveskit.backend.repository;
+
+import com.inveskit.backend.domain.StockSymbol;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface StockSymbolRepository extends JpaRepository<StockSymbol, String> {
+}
@@ -0,0 +1,104 @@
+package com.inveskit.backend.repository;
+
+import com.inveskit.backend.dto.TradeCursor;
+import com.inveskit.backend.dto.TradeFilter;
+import com.inveskit.backend.dto.TradeResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+// 거래 목록 조회 경로 - 엔티티 대신 응답 DTO 로 바로 매핑
+// - 페이지: (trade_date, id) keyset 커서, 최신순
+// - 내보내기: fetch size 단위로 커서를 읽으면서 한 행씩 넘김 (전체를 메모리에 올리지 않음)
+@Repository
+public class TradeJdbcRepository {
+
+    private static final String SELECT_SQL =
+            "SELECT id, stock_name, stock_code, trade_type, trade_date, price, quantity FROM trades WHERE 1 = 1";
+
+    private static final RowMapper<TradeResponse> ROW_MAPPER = (rs, rowNum) -> TradeResponse.builder()
+            .id(rs.getLong(1))
+            .stockName(rs.getString(2))
+            .stockCode(rs.getString(3))
+            .tradeType(rs.getString(4).toLowerCase())
+            .date(rs.getDate(5).toLocalDate())
+            .price(rs.getDouble(6))
+            .quantity(rs.getInt(7))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    public TradeJdbcRepository(JdbcTemplate jdbcTemplate, DataSource dataSource,
+                               @Value("${trade.export.fetch-size:500}") int exportFetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(exportFetchSize);
+    }
+
+    // after 이전(더 오래된) 거래를 최신순으로 limit 건
+    public List<TradeResponse> findPage(TradeFilter filter, TradeCursor after, int limit) {
+        StringBuilder sql = new StringBuilder(SELECT_SQL);
+        List<Object> args = new ArrayList<>();
+        appendFilter(sql, args, filter);
+        if (after != null) {
+            sql.append(" AND (trade_date < ? OR (trade_date = ? AND id < ?))");
+            args.add(Date.valueOf(after.tradeDate()));
+            args.add(Date.valueOf(after.tradeDate()));
+            args.add(after.id());
+        }
+        sql.append(" ORDER BY trade_date DESC, id DESC LIMIT ?");
+        args.add(limit);
+        return jdbcTemplate.query(sql.toString(), ROW_MAPPER, args.toArray());
+    }
+
+    // 조건에 맞는 전체 거래 (최신순)
+    public List<TradeResponse> findAll(TradeFilter filter) {
+        StringBuilder sql = new StringBuilder(SELECT_SQL);
+        List<Object> args = new ArrayList<>();
+        appendFilter(sql, args, filter);
+        sql.append(" ORDER BY trade_date DESC, id DESC");
+        return jdbcTemplate.query(sql.toString(), ROW_MAPPER, args.toArray());
+    }
+
+    // 조건에 맞는 전체 거래를 거래일 순으로 한 행씩 전달
+    // PostgreSQL 은 트랜잭션 안(autocommit off)에서만 fetch size 로 나눠 읽으므로 호출하는 쪽에서 트랜잭션을 열어야 함
+    public void streamAll(TradeFilter filter, Consumer<TradeResponse> consumer) {
+        StringBuilder sql = new StringBuilder(SELECT_SQL);
+        List<Object> args = new ArrayList<>();
+        appendFilter(sql, args, filter);
+        sql.append(" ORDER BY trade_date, id");
+
+        int[] row = {0};
+        streamingJdbcTemplate.query(sql.toString(),
+                (RowCallbackHandler) rs -> consumer.accept(ROW_MAPPER.mapRow(rs, row[0]++)),
+                args.toArray());
+    }
+
+    private static void appendFilter(StringBuilder sql, List<Object> args, TradeFilter filter) {
+        if (filter.getStockName() != null) {
+            sql.append(" AND stock_name = ?");
+            args.add(filter.getStockName());
+        }
+        if (filter.getTradeType() != null) {
+            sql.append(" AND trade_type = ?");
+            args.add(filter.getTradeType().name());
+        }
+        if (filter.getStartDate() != null) {
+            sql.append(" AND trade_date >= ?");
+            args.add(Date.valueOf(filter.getStartDate()));
+        }
+        if (filter.getEndDate() != null) {
+            sql.append(" AND trade_date <= ?");
+            args.add(Date.valueOf(filter.getEndDate()));
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.inveskit.backend.repository;
 
 import com.inveskit.backend.domain.Trade;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -16,6 +17,7 @@ public interface TradeRepository extends JpaRepository<Trade, Long> {
     // 특정 기간 거래 내역 조회
     List<Trade> findByTradeDateBetween(LocalDate startDate, LocalDate endDate);
 
-    // 전체 거래 내역 최신순 조회
-    List<Trade> findAllByOrderByTradeDateDesc();
+    // 종목별 마지막 거래일
+    @Query("SELECT t.stockName, MAX(t.tradeDate) FROM Trade t GROUP BY t.stockName")
+    List<Object[]> findLatestTradeDatesByStock();
 }
\ No newline at end of file
@@ -1,55 +1,118 @@
 package com.inveskit.backend.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.inveskit.backend.client.UpstreamGuard;
 import com.inveskit.backend.dto.AnalysisRequest;
 import com.inveskit.backend.dto.AnalysisResponse;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class AnalysisService {
 
     private final WebClient webClient;
+    private final UpstreamGuard guard;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
 
-    @Value("${analysis.api.url:https://aider-production-7367.up.railway.app}")
-    private String analysisApiUrl;
+    // 요청 내용(SHA-256) -> 분석 결과
+    // 같은 키로 진행 중인 호출이 있으면 새로 호출하지 않고 그 결과를 같이 기다림 (single-flight)
+    // 실패한 호출은 캐시에서 자동으로 제거됨
+    private final AsyncCache<String, AnalysisResponse> resultCache;
 
-    public AnalysisResponse analyzeTrading(AnalysisRequest request) {
-        log.info("Flask API 호출 시작: {}", analysisApiUrl);
-        log.info("요청 데이터 - trades: {}, stockPrices: {}, strategy: {}",
-                request.getTrades().size(),
-                request.getStockPrices().size(),
-                request.getStrategy());
+    public AnalysisService(
+            @Qualifier("analysisWebClient") WebClient webClient,
+            @Qualifier("analysisGuard") UpstreamGuard guard,
+            ObjectMapper objectMapper,
+            @Value("${analysis.cache.max-size:1000}") long maxSize,
+            @Value("${analysis.cache.ttl:PT10M}") Duration ttl,
+            MeterRegistry meterRegistry
+    ) {
+        this.webClient = webClient;
+        this.guard = guard;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.resultCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, resultCache, "analysis.results");
+    }
 
-        try {
-            // String으로 일단 받기
-            String responseBody = webClient.post()
-                    .uri(analysisApiUrl + "/api/analyze")
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
+    // 응답을 기다리는 동안 스레드를 점유하지 않음
+    // analysis.request: 캐시 적중을 포함한 응답 시간 (적중률은 cache.gets{cache=analysis.results})
+    // outcome: success / error / cancel (클라이언트가 끊은 느린 호출도 빠지지 않도록 취소도 기록)
+    public Mono<AnalysisResponse> analyzeTrading(AnalysisRequest request) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            String key = cacheKey(request);
+
+            // 구독 취소가 공유 중인 호출을 취소하지 않도록 suppressCancel
+            return Mono.fromFuture(() -> resultCache.get(key, (k, executor) -> callAnalysisApi(request).toFuture()), true)
+                    .doFinally(signal -> sample.stop(Timer.builder("analysis.request")
+                            .description("Trading analysis latency including cache hits")
+                            .tag("outcome", outcome(signal))
+                            .register(meterRegistry)));
+        });
+    }
 
-            log.info("Flask API 원본 응답: {}", responseBody);
+    private static String outcome(SignalType signal) {
+        return switch (signal) {
+            case ON_ERROR -> "error";
+            case CANCEL -> "cancel";
+            default -> "success";
+        };
+    }
 
-            // 객체로 직접 파싱
-            ObjectMapper mapper = new ObjectMapper();
-            AnalysisResponse response = mapper.readValue(responseBody, AnalysisResponse.class);
+    private Mono<AnalysisResponse> callAnalysisApi(AnalysisRequest request) {
+        log.debug("Flask API 호출 - trades: {}, stockPrices: {}, strategy: {}",
+                request.getTrades().size(),
+                request.getStockPrices().size(),
+                request.getStrategy());
 
-            log.info("Flask API 응답 성공 - totalScore: {}, analysis size: {}",
-                    response.getTotalScore(),
-                    response.getAnalysis() != null ? response.getAnalysis().size() : 0);
+        Mono<AnalysisResponse> call = webClient.post()
+                .uri("/api/analyze")
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(AnalysisResponse.class);
 
-            return response;
+        // 재시도/서킷 브레이커가 원래 예외(상태 코드)를 보고 판단하도록 감싸기 전에 protect
+        return guard.protect(call)
+                .doOnNext(response -> log.debug("Flask API 응답 성공 - totalScore: {}, analysis size: {}",
+                        response.getTotalScore(),
+                        response.getAnalysis() != null ? response.getAnalysis().size() : 0))
+                .switchIfEmpty(Mono.error(new IllegalStateException("빈 응답")))
+                .onErrorMap(e -> !UpstreamGuard.isRejected(e), e -> {
+                    log.error("Flask API 호출 실패: {}", e.getMessage(), e);
+                    return new RuntimeException("AI 분석 서비스 호출 실패: " + e.getMessage(), e);
+                });
+    }
 
-        } catch (Exception e) {
-            log.error("Flask API 호출 실패: {}", e.getMessage(), e);
-            throw new RuntimeException("AI 분석 서비스 호출 실패: " + e.getMessage(), e);
+    // 직렬화한 요청 본문의 해시 (거래 내역, 주가, 전략, externalUrl 이 모두 같으면 같은 키)
+    private String cacheKey(AnalysisRequest request) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(request);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("분석 요청 키 생성 실패", e);
         }
     }
-}
\ No newline at end of file
+}
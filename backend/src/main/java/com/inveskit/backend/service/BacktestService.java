@@ -0,0 +1,275 @@
+package com.inveskit.backend.service;
+
+import com.inveskit.backend.domain.BacktestRun;
+import com.inveskit.backend.domain.StockPriceSeries;
+import com.inveskit.backend.dto.BacktestRequest;
+import com.inveskit.backend.dto.BacktestResponse;
+import com.inveskit.backend.dto.StockDto;
+import com.inveskit.backend.repository.StockPriceJdbcRepository;
+import com.inveskit.backend.util.backtest.Backtester;
+import com.inveskit.backend.util.backtest.IndicatorColumns;
+import com.inveskit.backend.util.backtest.Operand;
+import com.inveskit.backend.util.backtest.Rule;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// 저장된 일봉으로 규칙 기반 전략을 재생
+// 종목 x 파라미터 조합을 작업 단위로 fork-join 풀에서 병렬 실행
+// 지표 컬럼은 종목별로 한 번만 계산해서 같은 종목의 조합끼리 공유
+@Service
+@Slf4j
+public class BacktestService {
+
+    // 지표 워밍업: 가장 긴 지표 기간의 몇 배 (거래일) 만큼만 시작일 이전 이력을 읽음 (EMA/RSI 가 수렴할 정도)
+    private static final int WARMUP_MULTIPLIER = 3;
+    // 거래일 -> 달력일 환산 시 휴장일 여유
+    private static final int HOLIDAY_MARGIN_DAYS = 15;
+    private static final int MAX_RUNS = 20_000;
+    private static final int SPLIT_THRESHOLD = 4;
+    private static final double DEFAULT_CAPITAL = 10_000_000;
+    private static final double DEFAULT_FEE_RATE = 0.001;
+
+    private final StockPriceJdbcRepository stockPriceJdbcRepository;
+    private final SymbolMasterService symbolMasterService;
+    private final ForkJoinPool backtestPool;
+    // 지표 기간 상한 (지표마다 기간 길이의 버퍼를 잡으므로 요청 하나로 메모리를 다 쓰지 않도록)
+    private final int maxPeriod;
+    // 한 요청에서 다루는 종목 수 상한 (시계열을 요청 스레드에서 종목별로 읽어 메모리에 모두 올림)
+    private final int maxSymbols;
+
+    public BacktestService(
+            StockPriceJdbcRepository stockPriceJdbcRepository,
+            SymbolMasterService symbolMasterService,
+            @Qualifier("backtestPool") ForkJoinPool backtestPool,
+            @Value("${backtest.max-period:500}") int maxPeriod,
+            @Value("${backtest.max-symbols:200}") int maxSymbols
+    ) {
+        this.stockPriceJdbcRepository = stockPriceJdbcRepository;
+        this.symbolMasterService = symbolMasterService;
+        this.backtestPool = backtestPool;
+        this.maxPeriod = maxPeriod;
+        this.maxSymbols = maxSymbols;
+    }
+
+    // 요청이 잘못되면 IllegalArgumentException
+    public BacktestResponse run(BacktestRequest request) {
+        long started = System.nanoTime();
+
+        LocalDate endDate = request.getEndDate() != null ? request.getEndDate() : LocalDate.now();
+        LocalDate startDate = request.getStartDate() != null ? request.getStartDate() : endDate.minusYears(1);
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦습니다.");
+        }
+        double capital = request.getInitialCapital() != null ? request.getInitialCapital() : DEFAULT_CAPITAL;
+        double feeRate = request.getFeeRate() != null ? request.getFeeRate() : DEFAULT_FEE_RATE;
+        if (!(capital > 0) || !(feeRate >= 0 && feeRate < 1)) {
+            throw new IllegalArgumentException("초기 자본은 0보다 크고, 비용 비율은 0 이상 1 미만이어야 합니다.");
+        }
+        if (request.getEntry() == null || request.getEntry().isEmpty()
+                || request.getExit() == null || request.getExit().isEmpty()) {
+            throw new IllegalArgumentException("진입/청산 조건이 필요합니다.");
+        }
+
+        List<Strategy> strategies = expandGrid(request.getParameters()).stream()
+                .map(params -> new Strategy(params,
+                        compile(request.getEntry(), params, maxPeriod),
+                        compile(request.getExit(), params, maxPeriod)))
+                .toList();
+
+        List<String> stockCodes = request.getStockCodes() != null && !request.getStockCodes().isEmpty()
+                ? request.getStockCodes().stream().distinct().toList()
+                : symbolMasterService.getListedStocks().stream().map(StockDto::getCode).distinct().toList();
+        if (stockCodes.size() > maxSymbols) {
+            throw new IllegalArgumentException("종목 수가 너무 많습니다 (최대 " + maxSymbols + ", stockCodes 로 지정)");
+        }
+        if ((long) stockCodes.size() * strategies.size() > MAX_RUNS) {
+            throw new IllegalArgumentException("종목 수 x 파라미터 조합이 너무 많습니다 (최대 " + MAX_RUNS + ")");
+        }
+
+        // DB 조회는 요청 스레드에서 먼저 끝내고, 풀에는 계산만 넘김
+        LocalDate historyStart = startDate.minusDays(warmupDays(strategies));
+        List<SymbolData> symbols = new ArrayList<>();
+        List<String> skipped = new ArrayList<>();
+        for (String stockCode : stockCodes) {
+            StockPriceSeries series = stockPriceJdbcRepository.findSeries(stockCode, historyStart, endDate);
+            int from = series.lowerBound(startDate);
+            int to = series.lowerBound(endDate.plusDays(1));
+            if (to - from < 2) {
+                skipped.add(stockCode);
+                continue;
+            }
+            symbols.add(new SymbolData(series, from, to));
+        }
+
+        BacktestRun[] results = new BacktestRun[symbols.size() * strategies.size()];
+        if (results.length > 0) {
+            backtestPool.invoke(new RunTask(symbols, strategies, capital, feeRate,
+                    request.isIncludeDetails(), results, 0, results.length));
+        }
+
+        List<BacktestRun> runs = new ArrayList<>(Arrays.asList(results));
+        runs.sort(Comparator.comparingDouble(BacktestRun::getSharpeRatio).reversed());
+
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        log.info("Backtest finished: {} symbols x {} combinations in {} ms",
+                symbols.size(), strategies.size(), elapsedMillis);
+
+        return BacktestResponse.builder()
+                .symbolCount(symbols.size())
+                .combinationCount(strategies.size())
+                .runs(runs)
+                .skippedStockCodes(skipped)
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    // 파라미터 값 목록의 모든 조합 (파라미터가 없으면 빈 조합 하나)
+    private static List<Map<String, Double>> expandGrid(Map<String, List<Double>> parameters) {
+        List<Map<String, Double>> combinations = new ArrayList<>();
+        combinations.add(new LinkedHashMap<>());
+        if (parameters == null) {
+            return combinations;
+        }
+        for (Map.Entry<String, List<Double>> parameter : parameters.entrySet()) {
+            if (parameter.getValue() == null || parameter.getValue().isEmpty()) {
+                throw new IllegalArgumentException("파라미터 값이 비어 있습니다: " + parameter.getKey());
+            }
+            List<Map<String, Double>> expanded = new ArrayList<>();
+            for (Map<String, Double> base : combinations) {
+                for (Double value : parameter.getValue()) {
+                    Map<String, Double> combination = new LinkedHashMap<>(base);
+                    combination.put(parameter.getKey(), value);
+                    expanded.add(combination);
+                }
+            }
+            combinations = expanded;
+            if (combinations.size() > MAX_RUNS) {
+                throw new IllegalArgumentException("파라미터 조합이 너무 많습니다 (최대 " + MAX_RUNS + ")");
+            }
+        }
+        return combinations;
+    }
+
+    // 규칙에서 쓰는 가장 긴 지표 기간 기준 워밍업 기간 (달력일)
+    private static long warmupDays(List<Strategy> strategies) {
+        int lookback = 1;
+        for (Strategy strategy : strategies) {
+            for (List<Rule> rules : List.of(strategy.entry(), strategy.exit())) {
+                for (Rule rule : rules) {
+                    for (Operand operand : List.of(rule.left(), rule.right())) {
+                        if (!operand.isConstant()) {
+                            lookback = Math.max(lookback, IndicatorColumns.lookback(operand.name(), operand.period()));
+                        }
+                    }
+                }
+            }
+        }
+        return (long) lookback * WARMUP_MULTIPLIER * 7 / 5 + HOLIDAY_MARGIN_DAYS;
+    }
+
+    private static List<Rule> compile(List<BacktestRequest.Condition> conditions, Map<String, Double> params,
+                                      int maxPeriod) {
+        List<Rule> rules = new ArrayList<>(conditions.size());
+        for (BacktestRequest.Condition condition : conditions) {
+            if (condition.getOperator() == null) {
+                throw new IllegalArgumentException("조건 연산자가 없습니다.");
+            }
+            Rule rule = new Rule(Operand.parse(condition.getLeft(), params), condition.getOperator(),
+                    Operand.parse(condition.getRight(), params));
+            for (Operand operand : List.of(rule.left(), rule.right())) {
+                if (!operand.isConstant()) {
+                    IndicatorColumns.validate(operand.name(), operand.period(), maxPeriod);
+                }
+            }
+            rules.add(rule);
+        }
+        return rules;
+    }
+
+    private record Strategy(Map<String, Double> parameters, List<Rule> entry, List<Rule> exit) {
+    }
+
+    // 종목 시계열 + 이 종목에서 계산한 지표 컬럼 (여러 작업이 동시에 채움)
+    private static final class SymbolData {
+        private final StockPriceSeries series;
+        private final int from;
+        private final int to;
+        private final Map<String, double[]> columns = new ConcurrentHashMap<>();
+
+        private SymbolData(StockPriceSeries series, int from, int to) {
+            this.series = series;
+            this.from = from;
+            this.to = to;
+        }
+
+        double[] column(Operand operand) {
+            return columns.computeIfAbsent(operand.key(),
+                    key -> IndicatorColumns.compute(series, operand.name(), operand.period()));
+        }
+
+        List<Rule.Bound> bind(List<Rule> rules) {
+            List<Rule.Bound> bound = new ArrayList<>(rules.size());
+            for (Rule rule : rules) {
+                bound.add(rule.bind(this::column));
+            }
+            return bound;
+        }
+    }
+
+    // 작업 단위 k = (종목 k / 조합 수, 조합 k % 조합 수), 구간을 반씩 나눠서 fork
+    private static final class RunTask extends RecursiveAction {
+        private final List<SymbolData> symbols;
+        private final List<Strategy> strategies;
+        private final double capital;
+        private final double feeRate;
+        private final boolean includeDetails;
+        private final BacktestRun[] results;
+        private final int lo;
+        private final int hi;
+
+        private RunTask(List<SymbolData> symbols, List<Strategy> strategies, double capital, double feeRate,
+                        boolean includeDetails, BacktestRun[] results, int lo, int hi) {
+            this.symbols = symbols;
+            this.strategies = strategies;
+            this.capital = capital;
+            this.feeRate = feeRate;
+            this.includeDetails = includeDetails;
+            this.results = results;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= SPLIT_THRESHOLD) {
+                for (int k = lo; k < hi; k++) {
+                    SymbolData symbol = symbols.get(k / strategies.size());
+                    Strategy strategy = strategies.get(k % strategies.size());
+                    results[k] = Backtester.run(symbol.series, symbol.from, symbol.to,
+                                    symbol.bind(strategy.entry()), symbol.bind(strategy.exit()),
+                                    capital, feeRate, includeDetails)
+                            .toBuilder()
+                            .parameters(strategy.parameters())
+                            .build();
+                }
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new RunTask(symbols, strategies, capital, feeRate, includeDetails, results, lo, mid),
+                    new RunTask(symbols, strategies, capital, feeRate, includeDetails, results, mid, hi));
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.inveskit.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.inveskit.backend.dto.ChartSeriesResponse;
+import com.inveskit.backend.event.StockPricesUpdatedEvent;
+import com.inveskit.backend.repository.StockPriceJdbcRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+// 차트 응답을 직렬화된 바이트(원본 + gzip)와 ETag 로 미리 만들어 보관
+// 요청마다 JSON 직렬화/압축을 하지 않고 바이트를 그대로 내려보냄
+// 새 일봉이 저장되면 해당 종목에서 겹치는 기간의 항목만 무효화 (다시 만드는 건 다음 요청 때, 적재 스레드에서는 하지 않음)
+// 만드는 도중 저장된 일봉을 놓치지 않도록 종목별 버전을 두고, 만드는 중에 버전이 바뀌면 방금 넣은 항목을 버림
+@Service
+@Slf4j
+public class ChartSeriesService {
+
+    private final StockPriceJdbcRepository stockPriceJdbcRepository;
+    private final ObjectMapper objectMapper;
+    private final Cache<Key, ChartPayload> payloads;
+    private final Map<String, Long> versions = new ConcurrentHashMap<>();
+
+    public ChartSeriesService(
+            StockPriceJdbcRepository stockPriceJdbcRepository,
+            ObjectMapper objectMapper,
+            @Value("${stock.chart.cache.max-size:2000}") long maxSize,
+            @Value("${stock.chart.cache.expire-after-access:PT1H}") Duration expireAfterAccess,
+            MeterRegistry meterRegistry
+    ) {
+        this.stockPriceJdbcRepository = stockPriceJdbcRepository;
+        this.objectMapper = objectMapper;
+        this.payloads = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(expireAfterAccess)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, payloads, "stock.charts");
+    }
+
+    public ChartPayload getChart(String stockCode, LocalDate startDate, LocalDate endDate, boolean delta) {
+        Key key = new Key(stockCode, startDate, endDate, delta);
+        long version = version(stockCode);
+        ChartPayload payload = payloads.get(key, this::build);
+        if (version(stockCode) != version) {
+            payloads.asMap().remove(key, payload);
+        }
+        return payload;
+    }
+
+    // 이벤트는 버전을 올린 뒤 항목을 지우므로, getChart 가 저장 후 버전을 다시 확인하면 오래된 항목이 남지 않음
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPricesUpdated(StockPricesUpdatedEvent event) {
+        versions.merge(event.getStockCode(), 1L, Long::sum);
+
+        int before = (int) payloads.estimatedSize();
+        payloads.asMap().keySet().removeIf(key -> key.stockCode().equals(event.getStockCode())
+                && !key.endDate().isBefore(event.getFromDate())
+                && !key.startDate().isAfter(event.getToDate()));
+        log.debug("Invalidated chart payloads for {}, size {} -> {}",
+                event.getStockCode(), before, payloads.estimatedSize());
+    }
+
+    private long version(String stockCode) {
+        return versions.getOrDefault(stockCode, 0L);
+    }
+
+    private ChartPayload build(Key key) {
+        ChartSeriesResponse response = ChartSeriesResponse.of(
+                stockPriceJdbcRepository.findSeries(key.stockCode(), key.startDate(), key.endDate()), key.delta());
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(response);
+            return new ChartPayload(json, gzip(json), etag(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("차트 응답 직렬화 실패: " + key.stockCode(), e);
+        }
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 2 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    // 본문 내용이 같으면 같은 값 (강한 ETag, SHA-256 앞 16바이트)
+    private static String etag(byte[] data) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Key(String stockCode, LocalDate startDate, LocalDate endDate, boolean delta) {
+    }
+
+    // 직렬화된 JSON, 같은 내용의 gzip, ETag (따옴표 없는 값)
+    public record ChartPayload(byte[] json, byte[] gzip, String etag) {
+    }
+}
@@ -0,0 +1,93 @@
+package com.inveskit.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.inveskit.backend.domain.IndicatorSeries;
+import com.inveskit.backend.domain.StockPriceSeries;
+import com.inveskit.backend.event.StockPricesUpdatedEvent;
+import com.inveskit.backend.repository.StockPriceJdbcRepository;
+import com.inveskit.backend.util.indicator.IndicatorEngine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+// 종목별 기술적 지표 (SMA/EMA, RSI, MACD, 볼린저, ATR, VWAP, 낙폭)
+// 종목의 전체 이력으로 한 번 계산해서 캐시하고, 이후 새 일봉은 이어 붙여서 갱신
+@Service
+@Slf4j
+public class IndicatorService {
+
+    // 지표 워밍업을 위해 저장된 이력 전체를 읽음
+    private static final LocalDate HISTORY_START = LocalDate.of(1970, 1, 1);
+
+    private final StockPriceJdbcRepository stockPriceJdbcRepository;
+
+    // 종목코드 -> 계산 상태 (엔진 자체에 대한 접근은 엔진 단위로 동기화)
+    private final Cache<String, IndicatorEngine> engines;
+
+    public IndicatorService(
+            StockPriceJdbcRepository stockPriceJdbcRepository,
+            @Value("${stock.cache.indicators.max-size:500}") long maxSize,
+            @Value("${stock.cache.indicators.expire-after-access:PT1H}") Duration expireAfterAccess,
+            MeterRegistry meterRegistry
+    ) {
+        this.stockPriceJdbcRepository = stockPriceJdbcRepository;
+        this.engines = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(expireAfterAccess)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, engines, "stock.indicators");
+    }
+
+    public IndicatorSeries getIndicators(String stockCode, LocalDate startDate, LocalDate endDate) {
+        IndicatorEngine engine = engines.get(stockCode, this::load);
+        synchronized (engine) {
+            return engine.slice(startDate, endDate);
+        }
+    }
+
+    private IndicatorEngine load(String stockCode) {
+        StockPriceSeries series = stockPriceJdbcRepository.findSeries(stockCode, HISTORY_START, LocalDate.now());
+        IndicatorEngine engine = new IndicatorEngine(stockCode, series.getSize() + 64);
+        engine.append(series);
+        log.debug("Computed indicators for {} over {} bars", stockCode, engine.size());
+        return engine;
+    }
+
+    // 마지막 계산일 이후 봉만 추가됐으면 그 봉만 읽어서 이어 붙이고,
+    // 이미 계산한 구간 안쪽이 보정됐으면 버리고 다음 조회 때 다시 계산
+    // DB 조회는 캐시 맵 락 밖에서 하고, 이어 붙이기만 엔진 모니터 안에서 (다른 종목의 조회/계산을 막지 않도록)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPricesUpdated(StockPricesUpdatedEvent event) {
+        String stockCode = event.getStockCode();
+        // 같은 종목의 최초 계산이 진행 중이면 끝날 때까지 기다렸다가 그 결과에 반영 (값은 그대로 둠)
+        IndicatorEngine engine = engines.asMap().computeIfPresent(stockCode, (code, current) -> current);
+        if (engine == null) {
+            return;
+        }
+
+        LocalDate lastDate;
+        synchronized (engine) {
+            lastDate = engine.getLastDate();
+        }
+        if (lastDate == null || !event.getFromDate().isAfter(lastDate)) {
+            engines.asMap().remove(stockCode, engine);
+            log.debug("Dropped indicators for {} (backfill {} ~ {})", stockCode, event.getFromDate(), event.getToDate());
+            return;
+        }
+
+        StockPriceSeries added = stockPriceJdbcRepository.findSeries(stockCode, lastDate.plusDays(1), event.getToDate());
+        synchronized (engine) {
+            // 그 사이 다른 이벤트가 먼저 이어 붙였으면 append 가 이미 반영한 날짜는 건너뜀
+            engine.append(added);
+            log.debug("Appended indicators for {} up to {}", stockCode, engine.getLastDate());
+        }
+    }
+}
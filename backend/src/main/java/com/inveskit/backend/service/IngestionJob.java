@@ -0,0 +1,126 @@
+package com.inveskit.backend.service;
+
+import com.inveskit.backend.dto.StockInitResult;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 데이터 적재 작업 진행 상태 (메모리에만 보관)
+@Getter
+public class IngestionJob {
+
+    private static final int MAX_ERRORS = 100;
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED, CANCELLED
+    }
+
+    private final String id = UUID.randomUUID().toString();
+    private final int totalSymbols;
+    private final Instant createdAt = Instant.now();
+
+    private final AtomicInteger symbolsDone = new AtomicInteger();
+    private final AtomicInteger symbolsFailed = new AtomicInteger();
+    private final AtomicLong rowsInserted = new AtomicLong();
+    private final AtomicLong rowsSkipped = new AtomicLong();
+    private final List<String> errors = new ArrayList<>();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile Future<?> future;
+
+    public IngestionJob(int totalSymbols) {
+        this.totalSymbols = totalSymbols;
+    }
+
+    void attach(Future<?> future) {
+        this.future = future;
+    }
+
+    // 실행 직전에 이미 취소됐으면 false
+    synchronized boolean markRunning() {
+        if (status != Status.QUEUED) {
+            return false;
+        }
+        startedAt = Instant.now();
+        status = Status.RUNNING;
+        return true;
+    }
+
+    // 이미 끝난(취소 포함) 작업의 상태는 바꾸지 않음
+    synchronized void finish(Status finalStatus) {
+        if (isFinished()) {
+            return;
+        }
+        finishedAt = Instant.now();
+        status = finalStatus;
+    }
+
+    synchronized void fail(String message) {
+        if (isFinished()) {
+            return;
+        }
+        addError(message);
+        finish(Status.FAILED);
+    }
+
+    // 종목 하나 처리될 때마다 호출
+    void record(StockInitResult result) {
+        symbolsDone.incrementAndGet();
+        rowsInserted.addAndGet(result.getInserted());
+        rowsSkipped.addAndGet(result.getSkipped());
+
+        if (!result.isSuccess()) {
+            symbolsFailed.incrementAndGet();
+            addError(String.format("%s(%s): %s", result.getStockName(), result.getStockCode(), result.getError()));
+        }
+    }
+
+    // 대기 중이면 실행하지 않고, 실행 중이면 인터럽트로 파이프라인 구독 취소
+    boolean cancel() {
+        synchronized (this) {
+            if (isFinished()) {
+                return false;
+            }
+            finish(Status.CANCELLED);
+        }
+        Future<?> f = future;
+        if (f != null) {
+            f.cancel(true);
+        }
+        return true;
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED || status == Status.CANCELLED;
+    }
+
+    public Duration getElapsed() {
+        if (startedAt == null) {
+            return Duration.ZERO;
+        }
+        return Duration.between(startedAt, finishedAt != null ? finishedAt : Instant.now());
+    }
+
+    public List<String> getErrors() {
+        synchronized (errors) {
+            return List.copyOf(errors);
+        }
+    }
+
+    private void addError(String message) {
+        synchronized (errors) {
+            if (errors.size() < MAX_ERRORS) {
+                errors.add(message);
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.inveskit.backend.service;
+
+import com.inveskit.backend.dto.StockDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+// 데이터 적재를 백그라운드 작업으로 실행하고 진행 상황을 추적
+@Service
+@Slf4j
+public class IngestionJobService {
+
+    private final StockIngestionService stockIngestionService;
+    private final ThreadPoolTaskExecutor ingestionExecutor;
+    private final Duration jobRetention;
+
+    private final Map<String, IngestionJob> jobs = new ConcurrentHashMap<>();
+
+    public IngestionJobService(
+            StockIngestionService stockIngestionService,
+            @Qualifier("ingestionExecutor") ThreadPoolTaskExecutor ingestionExecutor,
+            @Value("${stock.ingest.job-retention:PT1H}") Duration jobRetention
+    ) {
+        this.stockIngestionService = stockIngestionService;
+        this.ingestionExecutor = ingestionExecutor;
+        this.jobRetention = jobRetention;
+    }
+
+    // 작업을 등록하고 바로 반환 (실제 적재는 ingestionExecutor 에서)
+    public IngestionJob submit(List<StockDto> universe, StockIngestionService.Mode mode) {
+        evictExpiredJobs();
+
+        IngestionJob job = new IngestionJob(universe.size());
+        jobs.put(job.getId(), job);
+
+        try {
+            job.attach(ingestionExecutor.submit(() -> run(job, universe, mode)));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            throw new IllegalStateException("대기 중인 적재 작업이 너무 많습니다. 잠시 후 다시 시도해주세요.", e);
+        }
+
+        log.info("Submitted {} ingestion job {} for {} symbols", mode, job.getId(), universe.size());
+        return job;
+    }
+
+    public Optional<IngestionJob> getJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    public Optional<IngestionJob> cancel(String jobId) {
+        IngestionJob job = jobs.get(jobId);
+        if (job != null && job.cancel()) {
+            log.info("Cancelled ingestion job {}", jobId);
+        }
+        return Optional.ofNullable(job);
+    }
+
+    private void run(IngestionJob job, List<StockDto> universe, StockIngestionService.Mode mode) {
+        if (!job.markRunning()) {
+            return;
+        }
+
+        try {
+            stockIngestionService.ingest(universe, mode)
+                    .doOnNext(job::record)
+                    .blockLast();
+            job.finish(IngestionJob.Status.COMPLETED);
+            log.info("Ingestion job {} completed in {} ms. Symbols: {}, Failed: {}, Inserted: {}",
+                    job.getId(), job.getElapsed().toMillis(), job.getSymbolsDone().get(),
+                    job.getSymbolsFailed().get(), job.getRowsInserted().get());
+        } catch (Exception e) {
+            // 취소로 인한 인터럽트는 이미 CANCELLED 상태라 덮어쓰지 않음
+            job.fail(e.getMessage());
+            if (job.getStatus() == IngestionJob.Status.FAILED) {
+                log.error("Ingestion job {} failed: {}", job.getId(), e.getMessage(), e);
+            }
+        }
+    }
+
+    private void evictExpiredJobs() {
+        Instant threshold = Instant.now().minus(jobRetention);
+        jobs.values().removeIf(job -> job.isFinished()
+                && job.getFinishedAt() != null
+                && job.getFinishedAt().isBefore(threshold));
+    }
+}
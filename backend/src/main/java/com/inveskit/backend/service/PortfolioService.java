@@ -0,0 +1,217 @@
+package com.inveskit.backend.service;
+
+import com.inveskit.backend.domain.Trade;
+import com.inveskit.backend.dto.PortfolioResponse;
+import com.inveskit.backend.dto.PositionResponse;
+import com.inveskit.backend.dto.SymbolDailyPrice;
+import com.inveskit.backend.event.StockPricesUpdatedEvent;
+import com.inveskit.backend.event.TradeChangedEvent;
+import com.inveskit.backend.event.TradesImportedEvent;
+import com.inveskit.backend.repository.StockPriceRepository;
+import com.inveskit.backend.repository.TradeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 거래 내역을 종목별 보유 현황으로 접어서 메모리에 유지 (조회할 때마다 전체 거래를 다시 계산하지 않음)
+// 시작 시(와 일괄 적재 후) 전체를 반영하고, 이후에는 거래 추가/삭제 이벤트로 해당 종목만 갱신
+// 평가는 종목별 최근 종가 기준이고, 새 일봉이 저장되면 그 종목의 종가만 다시 읽음
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PortfolioService {
+
+    private final TradeRepository tradeRepository;
+    private final StockPriceRepository stockPriceRepository;
+    private final SymbolMasterService symbolMasterService;
+
+    // 종목명 -> 원장, 반영한 거래 id (모두 this 로 동기화)
+    private final Map<String, PositionLedger> ledgers = new HashMap<>();
+    private final Set<Long> appliedTradeIds = new HashSet<>();
+
+    public enum CostMethod {
+        AVERAGE, FIFO
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    // 일괄 적재는 거래마다 갱신하지 않고 전체를 한 번 다시 계산
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTradesImported(TradesImportedEvent event) {
+        rebuild();
+    }
+
+    // 조회 중에 커밋된 거래의 이벤트는 락을 기다렸다가 반영되고, 이미 반영된 거래는 id 로 걸러짐
+    private void rebuild() {
+        List<String> stockCodes;
+        int tradeCount;
+        synchronized (this) {
+            List<Trade> trades = tradeRepository.findAll(Sort.by("tradeDate", "id"));
+            ledgers.clear();
+            appliedTradeIds.clear();
+            for (Trade trade : trades) {
+                apply(TradeChangedEvent.created(trade));
+            }
+            stockCodes = ledgers.values().stream().map(PositionLedger::getStockCode).toList();
+            tradeCount = trades.size();
+        }
+        refreshMarks(stockCodes);
+        log.info("Portfolio rebuilt from {} trades ({} symbols)", tradeCount, stockCodes.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTradeChanged(TradeChangedEvent event) {
+        boolean newSymbol;
+        String stockCode;
+        synchronized (this) {
+            newSymbol = !ledgers.containsKey(event.getStockName());
+            PositionLedger ledger = apply(event);
+            stockCode = ledger != null ? ledger.getStockCode() : null;
+        }
+        // 처음 거래한 종목이면 평가용 종가를 읽어둠
+        if (newSymbol && stockCode != null) {
+            refreshMarks(List.of(stockCode));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPricesUpdated(StockPricesUpdatedEvent event) {
+        boolean held = false;
+        synchronized (this) {
+            PositionLedger ledger = ledgers.get(event.getStockName());
+            if (ledger != null && SymbolMasterService.UNKNOWN_CODE.equals(ledger.getStockCode())) {
+                // 종목 마스터에 없던 종목이 적재되면서 코드가 생긴 경우
+                ledger.setStockCode(event.getStockCode());
+            }
+            for (PositionLedger candidate : ledgers.values()) {
+                if (event.getStockCode().equals(candidate.getStockCode())
+                        && (candidate.getPriceDate() == null || !event.getToDate().isBefore(candidate.getPriceDate()))) {
+                    held = true;
+                    break;
+                }
+            }
+        }
+        if (held) {
+            refreshMarks(List.of(event.getStockCode()));
+        }
+    }
+
+    public synchronized PortfolioResponse getPortfolio(CostMethod method) {
+        List<PositionResponse> positions = new ArrayList<>(ledgers.size());
+        double totalCostBasis = 0;
+        double totalMarketValue = 0;
+        double totalUnrealizedPnl = 0;
+        double totalRealizedPnl = 0;
+
+        for (PositionLedger ledger : ledgers.values()) {
+            boolean fifo = method == CostMethod.FIFO;
+            double costBasis = fifo ? ledger.getFifoCostBasis() : ledger.getAverageCostBasis();
+            double unitCost = fifo ? ledger.getFifoUnitCost() : ledger.getAverageUnitCost();
+            double realizedPnl = fifo ? ledger.getFifoRealizedPnl() : ledger.getAverageRealizedPnl();
+
+            PositionResponse.PositionResponseBuilder position = PositionResponse.builder()
+                    .stockName(ledger.getStockName())
+                    .stockCode(ledger.getStockCode())
+                    .quantity(ledger.getQuantity())
+                    .averageCost(unitCost)
+                    .costBasis(costBasis)
+                    .realizedPnl(realizedPnl);
+
+            totalCostBasis += costBasis;
+            totalRealizedPnl += realizedPnl;
+
+            if (!Double.isNaN(ledger.getLastPrice())) {
+                double marketValue = ledger.getQuantity() * ledger.getLastPrice();
+                double unrealizedPnl = marketValue - costBasis;
+                position.lastPrice(ledger.getLastPrice())
+                        .priceDate(ledger.getPriceDate())
+                        .marketValue(marketValue)
+                        .unrealizedPnl(unrealizedPnl)
+                        .unrealizedPnlRate(costBasis > 0 ? unrealizedPnl / costBasis : null);
+                totalMarketValue += marketValue;
+                totalUnrealizedPnl += unrealizedPnl;
+            }
+            positions.add(position.build());
+        }
+
+        // 보유 중인 종목 먼저, 그 안에서는 종목명 순
+        positions.sort(Comparator.comparing((PositionResponse p) -> p.getQuantity() == 0)
+                .thenComparing(PositionResponse::getStockName));
+
+        return PortfolioResponse.builder()
+                .costMethod(method.name())
+                .positions(positions)
+                .totalCostBasis(totalCostBasis)
+                .totalMarketValue(totalMarketValue)
+                .totalUnrealizedPnl(totalUnrealizedPnl)
+                .totalRealizedPnl(totalRealizedPnl)
+                .build();
+    }
+
+    // 반영한 원장 반환 (이미 반영했거나 없는 거래면 null)
+    private PositionLedger apply(TradeChangedEvent event) {
+        if (event.getType() == TradeChangedEvent.Type.DELETED) {
+            if (!appliedTradeIds.remove(event.getTradeId())) {
+                return null;
+            }
+            PositionLedger ledger = ledgers.get(event.getStockName());
+            if (ledger != null && ledger.remove(event.getTradeId()) && ledger.isEmpty()) {
+                ledgers.remove(event.getStockName());
+            }
+            return ledger;
+        }
+
+        if (!appliedTradeIds.add(event.getTradeId())) {
+            return null;
+        }
+        PositionLedger ledger = ledgers.computeIfAbsent(event.getStockName(),
+                name -> new PositionLedger(name, resolveCode(name, event.getStockCode())));
+        ledger.add(new PositionLedger.Entry(event.getTradeId(), event.getTradeDate(), event.getTradeType(),
+                event.getPrice(), event.getQuantity()));
+        return ledger;
+    }
+
+    private String resolveCode(String stockName, String stockCode) {
+        if (stockCode != null && !SymbolMasterService.UNKNOWN_CODE.equals(stockCode)) {
+            return stockCode;
+        }
+        return symbolMasterService.getStockCode(stockName);
+    }
+
+    // DB 조회는 락 밖에서 하고 결과만 반영
+    private void refreshMarks(Collection<String> stockCodes) {
+        List<String> codes = stockCodes.stream()
+                .filter(code -> !SymbolMasterService.UNKNOWN_CODE.equals(code))
+                .distinct()
+                .toList();
+        if (codes.isEmpty()) {
+            return;
+        }
+        List<SymbolDailyPrice> closes = stockPriceRepository.findLatestCloses(codes);
+        synchronized (this) {
+            for (SymbolDailyPrice close : closes) {
+                for (PositionLedger ledger : ledgers.values()) {
+                    if (close.getStockCode().equals(ledger.getStockCode())) {
+                        ledger.mark(close.getTradeDate(), close.getClosePrice().doubleValue());
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.inveskit.backend.service;
+
+import com.inveskit.backend.domain.Trade;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+// 한 종목의 보유 수량 / 매입 원가 / 실현 손익 (평균 단가 방식과 FIFO 방식을 같이 유지)
+// 거래일 순서대로 들어오는 거래는 이어서 반영하고, 과거 날짜 거래가 끼어들거나 삭제되면 이 종목만 다시 계산
+// 스레드 안전하지 않음 - PortfolioService 에서 동기화
+@Slf4j
+@Getter
+class PositionLedger {
+
+    private static final Comparator<Entry> ORDER =
+            Comparator.comparing(Entry::date).thenComparingLong(Entry::id);
+
+    private final String stockName;
+    private String stockCode;
+
+    // 거래일, id 순으로 정렬된 거래
+    private final List<Entry> entries = new ArrayList<>();
+
+    private long quantity;
+
+    // 평균 단가 방식
+    private double averageCostBasis;
+    private double averageRealizedPnl;
+
+    // FIFO 방식 (먼저 산 lot 부터 매도)
+    private final ArrayDeque<Lot> lots = new ArrayDeque<>();
+    private double fifoCostBasis;
+    private double fifoRealizedPnl;
+
+    // 보유 수량보다 많이 판 수량 (공매도는 지원하지 않으므로 원가/손익 계산에서 제외)
+    private long oversoldQuantity;
+
+    // 평가 기준 종가
+    private LocalDate priceDate;
+    private double lastPrice = Double.NaN;
+
+    PositionLedger(String stockName, String stockCode) {
+        this.stockName = stockName;
+        this.stockCode = stockCode;
+    }
+
+    void add(Entry entry) {
+        if (entries.isEmpty() || ORDER.compare(entry, entries.get(entries.size() - 1)) >= 0) {
+            entries.add(entry);
+            apply(entry);
+            return;
+        }
+        int idx = Collections.binarySearch(entries, entry, ORDER);
+        entries.add(idx >= 0 ? idx : -idx - 1, entry);
+        replay();
+    }
+
+    // 삭제된 거래가 있었으면 true
+    boolean remove(long tradeId) {
+        if (!entries.removeIf(entry -> entry.id() == tradeId)) {
+            return false;
+        }
+        replay();
+        return true;
+    }
+
+    boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    void setStockCode(String stockCode) {
+        this.stockCode = stockCode;
+    }
+
+    void mark(LocalDate date, double close) {
+        this.priceDate = date;
+        this.lastPrice = close;
+    }
+
+    double getAverageUnitCost() {
+        return quantity > 0 ? averageCostBasis / quantity : 0;
+    }
+
+    double getFifoUnitCost() {
+        return quantity > 0 ? fifoCostBasis / quantity : 0;
+    }
+
+    private void replay() {
+        quantity = 0;
+        averageCostBasis = 0;
+        averageRealizedPnl = 0;
+        lots.clear();
+        fifoCostBasis = 0;
+        fifoRealizedPnl = 0;
+        oversoldQuantity = 0;
+        for (Entry entry : entries) {
+            apply(entry);
+        }
+    }
+
+    private void apply(Entry entry) {
+        if (entry.type() == Trade.TradeType.BUY) {
+            quantity += entry.quantity();
+            averageCostBasis += entry.quantity() * entry.price();
+            lots.addLast(new Lot(entry.quantity(), entry.price()));
+            fifoCostBasis += entry.quantity() * entry.price();
+            return;
+        }
+
+        long sold = Math.min(entry.quantity(), quantity);
+        if (sold < entry.quantity()) {
+            oversoldQuantity += entry.quantity() - sold;
+            log.warn("Sell of {} exceeds holdings for {} (trade {})", entry.quantity(), stockName, entry.id());
+        }
+        if (sold == 0) {
+            return;
+        }
+
+        double unitCost = averageCostBasis / quantity;
+        averageRealizedPnl += sold * (entry.price() - unitCost);
+        averageCostBasis -= sold * unitCost;
+
+        long remaining = sold;
+        while (remaining > 0) {
+            Lot lot = lots.peekFirst();
+            long taken = Math.min(remaining, lot.remaining);
+            fifoRealizedPnl += taken * (entry.price() - lot.price);
+            fifoCostBasis -= taken * lot.price;
+            lot.remaining -= taken;
+            remaining -= taken;
+            if (lot.remaining == 0) {
+                lots.pollFirst();
+            }
+        }
+
+        quantity -= sold;
+        if (quantity == 0) {
+            // 누적 오차 제거
+            averageCostBasis = 0;
+            fifoCostBasis = 0;
+        }
+    }
+
+    record Entry(long id, LocalDate date, Trade.TradeType type, double price, int quantity) {
+    }
+
+    private static final class Lot {
+        private long remaining;
+        private final double price;
+
+        private Lot(long remaining, double price) {
+            this.remaining = remaining;
+            this.price = price;
+        }
+    }
+}
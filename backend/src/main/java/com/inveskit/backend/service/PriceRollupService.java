@@ -0,0 +1,173 @@
+package com.inveskit.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.inveskit.backend.domain.StockPriceSeries;
+import com.inveskit.backend.domain.StockSymbol;
+import com.inveskit.backend.dto.StockPriceResponse;
+import com.inveskit.backend.event.StockPricesUpdatedEvent;
+import com.inveskit.backend.repository.StockPriceJdbcRepository;
+import com.inveskit.backend.util.rollup.Lttb;
+import com.inveskit.backend.util.rollup.OhlcRollup;
+import com.inveskit.backend.util.rollup.Resolution;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// 종목별 일봉/주봉/월봉 (메모리에 유지)
+// 처음 조회할 때 전체 이력을 한 번 읽어 묶고, 이후 새 일봉은 마지막 봉에 이어 붙이기만 함
+// 조회는 DB 없이 구간을 잘라 필요하면 LTTB 로 maxPoints 개까지 줄임 -> 기간이 길어도 응답 크기가 일정
+@Service
+@Slf4j
+public class PriceRollupService {
+
+    private static final LocalDate HISTORY_START = LocalDate.of(1970, 1, 1);
+    private static final List<Resolution> AUTO_CANDIDATES =
+            List.of(Resolution.DAILY, Resolution.WEEKLY, Resolution.MONTHLY);
+
+    private final StockPriceJdbcRepository stockPriceJdbcRepository;
+    private final SymbolMasterService symbolMasterService;
+
+    // 종목코드 -> 봉 단위별 집계 (집계 자체에 대한 접근은 Rollups 단위로 동기화)
+    private final Cache<String, Rollups> rollups;
+
+    public PriceRollupService(
+            StockPriceJdbcRepository stockPriceJdbcRepository,
+            SymbolMasterService symbolMasterService,
+            @Value("${stock.cache.rollups.max-size:500}") long maxSize,
+            @Value("${stock.cache.rollups.expire-after-access:PT1H}") Duration expireAfterAccess,
+            MeterRegistry meterRegistry
+    ) {
+        this.stockPriceJdbcRepository = stockPriceJdbcRepository;
+        this.symbolMasterService = symbolMasterService;
+        this.rollups = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(expireAfterAccess)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, rollups, "stock.rollups");
+    }
+
+    // AUTO 면 구간 안의 봉 수가 maxPoints 이하인 가장 세밀한 단위, 그래도 넘으면 LTTB 로 maxPoints 개만 남김
+    public StockPriceResponse getPrices(String stockName, LocalDate startDate, LocalDate endDate,
+                                        Resolution resolution, int maxPoints) {
+        String stockCode = symbolMasterService.findByName(stockName)
+                .map(StockSymbol::getStockCode)
+                .orElseThrow(() -> new RuntimeException("해당 종목의 주가 데이터가 없습니다: " + stockName));
+
+        Rollups set = rollups.get(stockCode, this::load);
+        StockPriceSeries series;
+        Resolution resolved;
+        synchronized (set) {
+            resolved = resolution == Resolution.AUTO ? set.pick(startDate, endDate, maxPoints) : resolution;
+            series = set.get(resolved).slice(startDate, endDate);
+        }
+
+        if (series.isEmpty()) {
+            throw new RuntimeException("해당 종목의 주가 데이터가 없습니다: " + stockName);
+        }
+
+        int[] selected = Lttb.downsample(series.getEpochDays(), series.getClose(), maxPoints);
+        List<StockPriceResponse.DailyPrice> prices = new ArrayList<>(selected.length);
+        for (int i : selected) {
+            // DB 에서 읽는 /prices 응답과 같은 소수점 둘째 자리
+            prices.add(new StockPriceResponse.DailyPrice(series.getDate(i),
+                    BigDecimal.valueOf(series.getClose()[i]).setScale(2, RoundingMode.HALF_UP)));
+        }
+
+        return StockPriceResponse.builder()
+                .stockName(stockName)
+                .stockCode(stockCode)
+                .prices(prices)
+                .resolution(resolved.name())
+                .build();
+    }
+
+    private Rollups load(String stockCode) {
+        StockPriceSeries series = stockPriceJdbcRepository.findSeries(stockCode, HISTORY_START, LocalDate.now());
+        Rollups set = new Rollups(stockCode, series.getSize());
+        set.append(series);
+        log.debug("Built rollups for {} from {} daily bars", stockCode, series.getSize());
+        return set;
+    }
+
+    // 마지막 반영일 이후 봉만 추가됐으면 그 봉만 읽어서 이어 붙이고 (마지막 주봉/월봉은 갱신),
+    // 이미 반영한 구간 안쪽이 보정됐으면 버리고 다음 조회 때 다시 계산
+    // DB 조회는 캐시 맵 락 밖에서 하고, 이어 붙이기만 집계 단위 모니터 안에서 (다른 종목의 조회/적재를 막지 않도록)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPricesUpdated(StockPricesUpdatedEvent event) {
+        String stockCode = event.getStockCode();
+        // 같은 종목의 최초 계산이 진행 중이면 끝날 때까지 기다렸다가 그 결과에 반영 (값은 그대로 둠)
+        Rollups set = rollups.asMap().computeIfPresent(stockCode, (code, current) -> current);
+        if (set == null) {
+            return;
+        }
+
+        LocalDate lastDate;
+        synchronized (set) {
+            lastDate = set.getLastDate();
+        }
+        if (lastDate == null || !event.getFromDate().isAfter(lastDate)) {
+            rollups.asMap().remove(stockCode, set);
+            log.debug("Dropped rollups for {} (backfill {} ~ {})", stockCode, event.getFromDate(), event.getToDate());
+            return;
+        }
+
+        StockPriceSeries added = stockPriceJdbcRepository.findSeries(stockCode, lastDate.plusDays(1), event.getToDate());
+        synchronized (set) {
+            // 그 사이 다른 이벤트가 먼저 이어 붙였으면 append 가 이미 반영한 날짜는 건너뜀
+            set.append(added);
+            log.debug("Appended rollups for {} up to {}", stockCode, set.getLastDate());
+        }
+    }
+
+    private static class Rollups {
+        private final OhlcRollup daily;
+        private final OhlcRollup weekly;
+        private final OhlcRollup monthly;
+
+        Rollups(String stockCode, int dailyBars) {
+            this.daily = new OhlcRollup(stockCode, Resolution.DAILY, dailyBars + 64);
+            this.weekly = new OhlcRollup(stockCode, Resolution.WEEKLY, dailyBars / 5 + 16);
+            this.monthly = new OhlcRollup(stockCode, Resolution.MONTHLY, dailyBars / 20 + 16);
+        }
+
+        void append(StockPriceSeries series) {
+            daily.append(series);
+            weekly.append(series);
+            monthly.append(series);
+        }
+
+        LocalDate getLastDate() {
+            return daily.getLastDate();
+        }
+
+        OhlcRollup get(Resolution resolution) {
+            return switch (resolution) {
+                case DAILY -> daily;
+                case WEEKLY -> weekly;
+                case MONTHLY -> monthly;
+                case AUTO -> throw new IllegalArgumentException("봉 단위를 먼저 정해야 합니다");
+            };
+        }
+
+        Resolution pick(LocalDate startDate, LocalDate endDate, int maxPoints) {
+            for (Resolution candidate : AUTO_CANDIDATES) {
+                if (get(candidate).count(startDate, endDate) <= maxPoints) {
+                    return candidate;
+                }
+            }
+            return Resolution.MONTHLY;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.inveskit.backend.service;
+
+import com.inveskit.backend.client.StockPriceData;
+import com.inveskit.backend.client.YahooFinanceClient;
+import com.inveskit.backend.domain.StockSymbol;
+import com.inveskit.backend.dto.PriceBarUpdate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 종목별 실시간 일봉 스트림
+// 종목마다 Yahoo 갱신 루프 하나를 hot Flux 로 공유 (구독자가 몇 명이든 종목당 호출은 refresh-interval 에 한 번)
+// - replay(1): 새 구독자는 마지막 봉을 바로 받음
+// - refCount(1, grace): 마지막 구독자가 나가고 grace 동안 아무도 없으면 갱신 루프 중단
+// - 구독자별로 버퍼를 따로 둬서 느린 클라이언트가 다른 구독자나 갱신 루프를 막지 않음 (넘치면 오래된 봉부터 버림)
+@Service
+@Slf4j
+public class PriceStreamService {
+
+    // 주말/휴장일이 끼어도 마지막 거래일 봉이 포함되도록 조회하는 기간
+    private static final int LOOKBACK_DAYS = 7;
+
+    private final YahooFinanceClient yahooFinanceClient;
+    private final SymbolMasterService symbolMasterService;
+    private final Duration refreshInterval;
+    private final Duration idleGrace;
+    private final int maxSymbols;
+    private final int subscriberBuffer;
+    private final Counter droppedUpdates;
+
+    // 종목코드 -> 공유 스트림
+    private final Map<String, Flux<PriceBarUpdate>> streams = new ConcurrentHashMap<>();
+
+    public PriceStreamService(
+            YahooFinanceClient yahooFinanceClient,
+            SymbolMasterService symbolMasterService,
+            @Value("${stock.stream.refresh-interval:PT15S}") Duration refreshInterval,
+            @Value("${stock.stream.idle-grace:PT30S}") Duration idleGrace,
+            @Value("${stock.stream.max-symbols:200}") int maxSymbols,
+            @Value("${stock.stream.subscriber-buffer:32}") int subscriberBuffer,
+            MeterRegistry meterRegistry
+    ) {
+        this.yahooFinanceClient = yahooFinanceClient;
+        this.symbolMasterService = symbolMasterService;
+        this.refreshInterval = refreshInterval;
+        this.idleGrace = idleGrace;
+        this.maxSymbols = maxSymbols;
+        this.subscriberBuffer = subscriberBuffer;
+        this.droppedUpdates = meterRegistry.counter("stock.stream.dropped");
+        meterRegistry.gaugeMapSize("stock.stream.symbols", List.of(), streams);
+    }
+
+    // 구독 (종목 마스터에 없는 코드는 IllegalArgumentException, 동시 스트림 종목 수 초과 시 IllegalStateException)
+    public Flux<PriceBarUpdate> subscribe(String stockCode) {
+        StockSymbol symbol = symbolMasterService.findByCode(stockCode)
+                .orElseThrow(() -> new IllegalArgumentException("종목을 찾을 수 없습니다: " + stockCode));
+
+        // 한도 확인과 등록을 같은 computeIfAbsent 안에서 (이미 있는 종목은 한도와 무관하게 공유)
+        Flux<PriceBarUpdate> shared = streams.computeIfAbsent(stockCode, code -> {
+            if (streams.size() >= maxSymbols) {
+                throw new IllegalStateException("실시간 스트림 종목 수 한도를 넘었습니다: " + maxSymbols);
+            }
+            return createStream(symbol);
+        });
+
+        // 응답 쓰기(서블릿 출력)는 블로킹이므로 구독자별로 boundedElastic 에서 하나씩 꺼내 씀
+        // 공유 스트림 쪽 스레드는 버퍼에 넣기만 하고 바로 다음 구독자로 넘어감
+        return shared.onBackpressureBuffer(subscriberBuffer,
+                        dropped -> droppedUpdates.increment(),
+                        BufferOverflowStrategy.DROP_OLDEST)
+                .publishOn(Schedulers.boundedElastic(), 1);
+    }
+
+    private Flux<PriceBarUpdate> createStream(StockSymbol symbol) {
+        String stockCode = symbol.getStockCode();
+        String yahooSymbol = symbol.getYahooSymbol();
+
+        // 루프가 멈추면 맵에서 자기 자신만 제거 (그 사이 같은 종목으로 새로 만든 스트림은 남겨 둠)
+        AtomicReference<Flux<PriceBarUpdate>> self = new AtomicReference<>();
+
+        // 이전 갱신이 끝나지 않았으면 그 틱은 건너뜀 (호출이 쌓이지 않도록)
+        Flux<PriceBarUpdate> shared = Flux.interval(Duration.ZERO, refreshInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> refresh(stockCode, yahooSymbol), 1)
+                .distinctUntilChanged()
+                .doOnSubscribe(s -> log.debug("Price stream started for {}", stockCode))
+                .doFinally(signal -> {
+                    log.debug("Price stream stopped for {} ({})", stockCode, signal);
+                    streams.remove(stockCode, self.get());
+                })
+                .replay(1)
+                .refCount(1, idleGrace);
+        self.set(shared);
+        return shared;
+    }
+
+    // 최근 며칠 일봉 중 마지막 봉 (호출 실패는 이번 틱만 건너뛰고 스트림은 유지)
+    private Mono<PriceBarUpdate> refresh(String stockCode, String yahooSymbol) {
+        LocalDate today = LocalDate.now();
+        return yahooFinanceClient.fetchStockPricesAsync(yahooSymbol, today.minusDays(LOOKBACK_DAYS), today)
+                .flatMap(prices -> prices.isEmpty()
+                        ? Mono.<PriceBarUpdate>empty()
+                        : Mono.just(PriceBarUpdate.of(stockCode, latest(prices))))
+                .onErrorResume(e -> {
+                    log.warn("Price stream refresh failed for {}: {}", stockCode, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private static StockPriceData latest(List<StockPriceData> prices) {
+        StockPriceData latest = prices.get(0);
+        for (StockPriceData data : prices) {
+            if (data.getDate().isAfter(latest.getDate())) {
+                latest = data;
+            }
+        }
+        return latest;
+    }
+}
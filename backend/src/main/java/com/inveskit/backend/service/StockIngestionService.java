@@ -0,0 +1,106 @@
+package com.inveskit.backend.service;
+
+import com.inveskit.backend.client.StockPriceData;
+import com.inveskit.backend.client.YahooFinanceClient;
+import com.inveskit.backend.dto.StockDto;
+import com.inveskit.backend.dto.StockInitResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+// 여러 종목을 병렬로 가져와서 배치 저장하는 대량 적재 파이프라인
+// Yahoo 조회는 fetch-concurrency 만큼 동시에, 토큰 버킷으로 초당 호출 수 제한
+// DB 저장은 별도 단계에서 persist-concurrency 만큼 동시에 (조회와 저장이 겹쳐서 진행)
+@Service
+@Slf4j
+public class StockIngestionService {
+
+    private final StockPriceService stockPriceService;
+    private final YahooFinanceClient yahooFinanceClient;
+    private final SymbolMasterService symbolMasterService;
+    private final int fetchConcurrency;
+    private final int persistConcurrency;
+
+    public StockIngestionService(
+            StockPriceService stockPriceService,
+            YahooFinanceClient yahooFinanceClient,
+            SymbolMasterService symbolMasterService,
+            @Value("${stock.ingest.fetch-concurrency:8}") int fetchConcurrency,
+            @Value("${stock.ingest.persist-concurrency:2}") int persistConcurrency
+    ) {
+        this.stockPriceService = stockPriceService;
+        this.yahooFinanceClient = yahooFinanceClient;
+        this.symbolMasterService = symbolMasterService;
+        this.fetchConcurrency = fetchConcurrency;
+        this.persistConcurrency = persistConcurrency;
+    }
+
+    // FULL: 초기 시작일부터 전체 조회, INCREMENTAL: 종목별 마지막 저장일 다음날부터만 조회
+    public enum Mode {
+        FULL, INCREMENTAL
+    }
+
+    // 종목별 결과를 완료되는 순서대로 내보냄
+    public Flux<StockInitResult> ingest(List<StockDto> universe, Mode mode) {
+        return Flux.defer(() -> {
+            LocalDate endDate = LocalDate.now();
+            Map<String, LocalDate> watermarks = mode == Mode.INCREMENTAL
+                    ? stockPriceService.getLatestTradeDates(universe.stream().map(StockDto::getCode).toList())
+                    : Map.of();
+
+            return Flux.fromIterable(universe)
+                    .flatMap(stock -> {
+                        LocalDate latest = watermarks.get(stock.getCode());
+                        LocalDate startDate = latest != null ? latest.plusDays(1) : StockPriceService.INITIAL_START_DATE;
+
+                        // 이미 최신이면 Yahoo 호출 생략
+                        if (startDate.isAfter(endDate)) {
+                            return Mono.just(new FetchedPrices(stock, List.of(), null));
+                        }
+                        return fetch(stock, startDate, endDate);
+                    }, fetchConcurrency)
+                    .flatMap(this::persist, persistConcurrency);
+        });
+    }
+
+    private Mono<FetchedPrices> fetch(StockDto stock, LocalDate startDate, LocalDate endDate) {
+        String yahooSymbol = symbolMasterService.toYahooSymbol(stock.getCode(), stock.getMarket());
+
+        // 초당 호출 제한은 yahooGuard 에서 시도마다 적용
+        return yahooFinanceClient.fetchStockPricesAsync(yahooSymbol, startDate, endDate)
+                .map(prices -> new FetchedPrices(stock, prices, null))
+                .onErrorResume(e -> {
+                    log.error("Failed to fetch {} ({}): {}", stock.getName(), stock.getCode(), e.getMessage());
+                    return Mono.just(new FetchedPrices(stock, List.of(), e.getMessage()));
+                });
+    }
+
+    private Mono<StockInitResult> persist(FetchedPrices fetched) {
+        StockDto stock = fetched.stock();
+        if (fetched.error() != null) {
+            return Mono.just(StockInitResult.failure(stock.getName(), stock.getCode(), fetched.error()));
+        }
+        if (fetched.prices().isEmpty()) {
+            return Mono.just(StockInitResult.empty(stock.getName(), stock.getCode()));
+        }
+
+        // JDBC 는 블로킹이므로 boundedElastic 에서 실행
+        return Mono.fromCallable(() -> stockPriceService.savePrices(
+                        stock.getName(), stock.getCode(), stock.getMarket(), fetched.prices()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> {
+                    log.error("Failed to save {} ({}): {}", stock.getName(), stock.getCode(), e.getMessage());
+                    return Mono.just(StockInitResult.failure(stock.getName(), stock.getCode(), e.getMessage()));
+                });
+    }
+
+    private record FetchedPrices(StockDto stock, List<StockPriceData> prices, String error) {
+    }
+}
@@ -0,0 +1,84 @@
+package com.inveskit.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.inveskit.backend.dto.StockPriceResponse;
+import com.inveskit.backend.event.StockPricesUpdatedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// 종목코드/기간별 주가 응답 캐시 (크기 + TTL 기반 만료)
+// 새 일봉이 저장되면 해당 종목에서 겹치는 기간의 항목만 무효화
+// 조회 도중 저장된 일봉을 놓치지 않도록 종목별 버전을 두고, 조회 중에 버전이 바뀌면 방금 넣은 항목을 버림
+@Component
+@Slf4j
+public class StockPriceCache {
+
+    private final Cache<Key, StockPriceResponse> cache;
+    private final Map<String, Long> versions = new ConcurrentHashMap<>();
+
+    public StockPriceCache(
+            @Value("${stock.cache.prices.max-size:10000}") long maxSize,
+            @Value("${stock.cache.prices.ttl:PT10M}") Duration ttl,
+            MeterRegistry meterRegistry
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "stock.prices");
+    }
+
+    // 캐시에 없으면 loader 로 조회 후 저장 (예외는 캐시하지 않음)
+    // 이벤트는 버전을 올린 뒤 항목을 지우므로, 저장 후 버전을 다시 확인하면 어느 순서로 겹쳐도 오래된 항목이 남지 않음
+    public StockPriceResponse get(String stockCode, LocalDate startDate, LocalDate endDate, int limit,
+                                  Supplier<StockPriceResponse> loader) {
+        Key key = new Key(stockCode, startDate, endDate, limit);
+        long version = version(stockCode);
+        StockPriceResponse response = cache.get(key, k -> loader.get());
+        if (version(stockCode) != version) {
+            cache.asMap().remove(key, response);
+        }
+        return response;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPricesUpdated(StockPricesUpdatedEvent event) {
+        versions.merge(event.getStockCode(), 1L, Long::sum);
+
+        int before = (int) cache.estimatedSize();
+        cache.asMap().keySet().removeIf(key -> key.stockCode().equals(event.getStockCode())
+                && !key.endDate().isBefore(event.getFromDate())
+                && !key.startDate().isAfter(event.getToDate()));
+
+        log.debug("Invalidated price cache for {} ({} ~ {}), size {} -> {}",
+                event.getStockName(), event.getFromDate(), event.getToDate(), before, cache.estimatedSize());
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private long version(String stockCode) {
+        return versions.getOrDefault(stockCode, 0L);
+    }
+
+    private record Key(String stockCode, LocalDate startDate, LocalDate endDate, int limit) {
+    }
+}
@@ -1,18 +1,41 @@
 package com.inveskit.backend.service;
 
 import com.inveskit.backend.client.StockPriceData;
-import com.inveskit.backend.client.YahooFinanceClient;
 import com.inveskit.backend.domain.StockPrice;
+import com.inveskit.backend.domain.StockPriceSeries;
+import com.inveskit.backend.domain.StockSymbol;
+import com.inveskit.backend.dto.StockInitResult;
 import com.inveskit.backend.dto.StockPriceResponse;
+import com.inveskit.backend.dto.SymbolDailyPrice;
+import com.inveskit.backend.event.StockPricesUpdatedEvent;
+import com.inveskit.backend.repository.StockPriceJdbcRepository;
 import com.inveskit.backend.repository.StockPriceRepository;
+import com.inveskit.backend.util.CsvUtils;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -20,17 +43,45 @@ import java.util.stream.Collectors;
 public class StockPriceService {
 
     private final StockPriceRepository stockPriceRepository;
-    private final YahooFinanceClient yahooFinanceClient;
+    private final StockPriceJdbcRepository stockPriceJdbcRepository;
+    private final StockPriceCache stockPriceCache;
+    private final StockSearchIndex stockSearchIndex;
+    private final SymbolMasterService symbolMasterService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
 
-    // 특정 종목의 60일 주가 데이터 조회
-    public StockPriceResponse getStockPrices(String stockName, LocalDate endDate) {
-        LocalDate startDate = endDate.minusDays(60);
+    // 초기 적재 시작일 (증분 동기화 시 저장된 데이터가 없는 종목도 여기서부터)
+    public static final LocalDate INITIAL_START_DATE = LocalDate.of(2025, 1, 1);
 
-        log.info("Fetching stock prices for {} from {} to {}", stockName, startDate, endDate);
+    private static final int WATERMARK_QUERY_CHUNK = 1000;
+    private static final int SEARCH_LIMIT = 10;
 
-        List<StockPrice> prices = stockPriceRepository.findByStockNameAndDateRange(
-                stockName, startDate, endDate
-        );
+    // 분석에 쓰는 주가 조회 기간 (기준일 이전 일수)
+    public static final int PRICE_WINDOW_DAYS = 60;
+
+    private static final String EXPORT_HEADER = "stockCode,date,open,high,low,close,adjClose,volume\n";
+
+    // 특정 종목의 [startDate, endDate] 주가 중 최근 limit 개 (캐시 우선)
+    // 종목명 -> 종목코드는 종목 마스터에서 한 번만 변환하고, 캐시와 조회는 종목코드 기준
+    public StockPriceResponse getStockPrices(String stockName, LocalDate startDate, LocalDate endDate, int limit) {
+        String stockCode = symbolMasterService.findByName(stockName)
+                .map(StockSymbol::getStockCode)
+                .orElseThrow(() -> new RuntimeException("해당 종목의 주가 데이터가 없습니다: " + stockName));
+
+        return stockPriceCache.get(stockCode, startDate, endDate, limit,
+                () -> loadStockPrices(stockName, stockCode, startDate, endDate, limit));
+    }
+
+    // 종목코드 + 기간 인덱스 범위 스캔으로 최근 거래일부터 limit 개만 읽고 날짜 순으로 뒤집음
+    private StockPriceResponse loadStockPrices(String stockName, String stockCode,
+                                               LocalDate startDate, LocalDate endDate, int limit) {
+        log.debug("Fetching stock prices for {} ({}) from {} to {} (limit {})",
+                stockName, stockCode, startDate, endDate, limit);
+
+        List<StockPriceResponse.DailyPrice> prices = new ArrayList<>(stockPriceRepository.findRecentDailyPrices(
+                stockCode, startDate, endDate, PageRequest.of(0, limit)
+        ));
+        Collections.reverse(prices);
 
         if (prices.isEmpty()) {
             throw new RuntimeException("해당 종목의 주가 데이터가 없습니다: " + stockName);
@@ -38,54 +89,192 @@ public class StockPriceService {
 
         return StockPriceResponse.builder()
                 .stockName(stockName)
-                .stockCode(prices.get(0).getStockCode())
-                .prices(prices.stream()
-                        .map(p -> StockPriceResponse.DailyPrice.builder()
-                                .date(p.getTradeDate())
-                                .closePrice(p.getClosePrice())
-                                .build())
-                        .collect(Collectors.toList()))
+                .stockCode(stockCode)
+                .prices(prices)
                 .build();
     }
 
-    //2025.01.01 부터 현재(2025.12.04)까지의 종가 데이터 DB에 저장하는 용도
-    @Transactional
-    public void initializeStockData(String stockName, String stockCode, String market) {
-        LocalDate startDate = LocalDate.of(2025, 1, 1);
-        LocalDate endDate = LocalDate.now();
+    // 일봉을 CSV 로 내보내기 (종목코드 순, 거래일 순으로 한 행씩 읽으면서 바로 씀 - 기간/종목 수와 무관하게 메모리 일정)
+    // stockCodes 가 비어 있으면 전체 종목
+    @Transactional(readOnly = true)
+    public void exportCsv(List<String> stockCodes, LocalDate startDate, LocalDate endDate,
+                          OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(EXPORT_HEADER);
+        StringBuilder line = new StringBuilder(128);
+        try {
+            stockPriceJdbcRepository.streamBars(stockCodes, startDate, endDate,
+                    (stockCode, tradeDate, open, high, low, close, adjClose, volume) -> {
+                        line.setLength(0);
+                        line.append(stockCode).append(',').append(tradeDate).append(',');
+                        CsvUtils.appendNumber(line, open);
+                        line.append(',');
+                        CsvUtils.appendNumber(line, high);
+                        line.append(',');
+                        CsvUtils.appendNumber(line, low);
+                        line.append(',');
+                        CsvUtils.appendNumber(line, close);
+                        line.append(',');
+                        CsvUtils.appendNumber(line, adjClose);
+                        line.append(',');
+                        if (volume >= 0) {
+                            line.append(volume);
+                        }
+                        line.append('\n');
+                        try {
+                            writer.append(line);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+        } catch (UncheckedIOException e) {
+            // 클라이언트가 연결을 끊은 경우 등
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    // 종목명 -> 기준일 별로 각 종목의 60일 주가 조회
+    // 기준일이 같은 종목끼리 묶어 묶음마다 IN 쿼리 한 번 (종목마다 자기 기간만 읽도록 - 기준일이 넓게 퍼져도 합집합 기간을 읽지 않음)
+    // 종목코드나 데이터가 없는 종목은 빠지고, 순서는 입력 순서 유지
+    @Transactional(readOnly = true)
+    public Map<String, StockPriceResponse> getPriceWindows(Map<String, LocalDate> endDateByStockName) {
+        Map<String, String> codesByName = new LinkedHashMap<>();
+        Map<LocalDate, List<String>> codesByEndDate = new HashMap<>();
+        for (Map.Entry<String, LocalDate> entry : endDateByStockName.entrySet()) {
+            Optional<StockSymbol> symbol = symbolMasterService.findByName(entry.getKey());
+            if (symbol.isEmpty()) {
+                log.warn("종목코드를 찾을 수 없어 주가 조회에서 제외: {}", entry.getKey());
+                continue;
+            }
+            String stockCode = symbol.get().getStockCode();
+            codesByName.put(entry.getKey(), stockCode);
+            codesByEndDate.computeIfAbsent(entry.getValue(), end -> new ArrayList<>()).add(stockCode);
+        }
+        if (codesByName.isEmpty()) {
+            return Map.of();
+        }
 
-        log.info("Initializing stock data for {} ({}) from {} to {}",
-                stockName, stockCode, startDate, endDate);
+        // (종목코드, 기준일) -> 일봉
+        Map<String, Map<LocalDate, List<StockPriceResponse.DailyPrice>>> pricesByCode = new HashMap<>();
+        for (Map.Entry<LocalDate, List<String>> group : codesByEndDate.entrySet()) {
+            LocalDate end = group.getKey();
+            LocalDate start = end.minusDays(PRICE_WINDOW_DAYS);
+            List<String> codes = group.getValue().stream().distinct().toList();
+            for (int from = 0; from < codes.size(); from += WATERMARK_QUERY_CHUNK) {
+                List<String> chunk = codes.subList(from, Math.min(from + WATERMARK_QUERY_CHUNK, codes.size()));
+                for (SymbolDailyPrice row : stockPriceRepository.findDailyPricesByStockCodes(chunk, start, end)) {
+                    pricesByCode.computeIfAbsent(row.getStockCode(), code -> new HashMap<>())
+                            .computeIfAbsent(end, date -> new ArrayList<>())
+                            .add(new StockPriceResponse.DailyPrice(row.getTradeDate(), row.getClosePrice()));
+                }
+            }
+        }
 
-        // Yahoo Finance에서 데이터 가져오기
-        String yahooSymbol = stockCode + ".KS";  // 코스피: .KS, 코스닥: .KQ
-        List<StockPriceData> priceDataList = yahooFinanceClient.fetchStockPrices(
-                yahooSymbol, startDate, endDate
-        );
+        Map<String, StockPriceResponse> windows = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : codesByName.entrySet()) {
+            String stockName = entry.getKey();
+            String stockCode = entry.getValue();
+            LocalDate end = endDateByStockName.get(stockName);
+            List<StockPriceResponse.DailyPrice> prices = pricesByCode.getOrDefault(stockCode, Map.of())
+                    .getOrDefault(end, List.of());
+            if (prices.isEmpty()) {
+                log.warn("주가 데이터가 없어 분석에서 제외: {} ({} ~ {})", stockName, end.minusDays(PRICE_WINDOW_DAYS), end);
+                continue;
+            }
+            windows.put(stockName, StockPriceResponse.builder()
+                    .stockName(stockName)
+                    .stockCode(stockCode)
+                    .prices(prices)
+                    .build());
+        }
+        return windows;
+    }
 
+    // 이미 저장된 거래일은 한 번에 조회해서 걸러내고, 나머지만 배치 insert
+    @Transactional
+    public StockInitResult savePrices(String stockName, String stockCode, String market,
+                                      List<StockPriceData> priceDataList) {
         if (priceDataList.isEmpty()) {
-            log.warn("No data fetched for {}", stockName);
-            return;
+            return StockInitResult.empty(stockName, stockCode);
+        }
+
+        LocalDate minDate = priceDataList.get(0).getDate();
+        LocalDate maxDate = minDate;
+        for (StockPriceData data : priceDataList) {
+            if (data.getDate().isBefore(minDate)) minDate = data.getDate();
+            if (data.getDate().isAfter(maxDate)) maxDate = data.getDate();
         }
 
-        // DB 저장 (중복 체크)
-        int savedCount = 0;
+        Set<LocalDate> existingDates = new HashSet<>(
+                stockPriceRepository.findTradeDatesByStockCode(stockCode, minDate, maxDate)
+        );
+
+        List<StockPrice> newPrices = new ArrayList<>();
+        LocalDate firstNewDate = null;
+        LocalDate lastNewDate = null;
         for (StockPriceData data : priceDataList) {
-            if (!stockPriceRepository.existsByStockCodeAndTradeDate(stockCode, data.getDate())) {
-                StockPrice stockPrice = StockPrice.builder()
+            // 같은 응답 안의 중복 날짜도 한 번만 저장
+            if (existingDates.add(data.getDate())) {
+                if (firstNewDate == null || data.getDate().isBefore(firstNewDate)) firstNewDate = data.getDate();
+                if (lastNewDate == null || data.getDate().isAfter(lastNewDate)) lastNewDate = data.getDate();
+
+                newPrices.add(StockPrice.builder()
                         .stockCode(stockCode)
                         .stockName(stockName)
                         .market(market)
                         .tradeDate(data.getDate())
+                        .openPrice(data.getOpenPrice())
+                        .highPrice(data.getHighPrice())
+                        .lowPrice(data.getLowPrice())
                         .closePrice(data.getClosePrice())
-                        .build();
-
-                stockPriceRepository.save(stockPrice);
-                savedCount++;
+                        .adjClosePrice(data.getAdjClosePrice())
+                        .volume(data.getVolume())
+                        .build());
             }
         }
 
-        log.info("Saved {} price records for {}", savedCount, stockName);
+        int inserted = meterRegistry.timer("stock.persist")
+                .record(() -> stockPriceJdbcRepository.insertIgnoreDuplicates(newPrices));
+        int skipped = priceDataList.size() - inserted;
+
+        meterRegistry.counter("stock.rows.inserted").increment(inserted);
+        meterRegistry.counter("stock.rows.skipped").increment(skipped);
+
+        log.info("Saved {} price records for {} ({} skipped)", inserted, stockName, skipped);
+
+        if (inserted > 0) {
+            eventPublisher.publishEvent(new StockPricesUpdatedEvent(
+                    stockCode, stockName, market, firstNewDate, lastNewDate, inserted));
+        }
+
+        return StockInitResult.builder()
+                .stockName(stockName)
+                .stockCode(stockCode)
+                .fetched(priceDataList.size())
+                .inserted(inserted)
+                .skipped(skipped)
+                .build();
+    }
+
+    // 종목의 기간 내 일봉 전체를 컬럼 배열 하나로 조회 (OHLCV + 수정 종가)
+    @Transactional(readOnly = true)
+    public StockPriceSeries getPriceSeries(String stockCode, LocalDate startDate, LocalDate endDate) {
+        return stockPriceJdbcRepository.findSeries(stockCode, startDate, endDate);
+    }
+
+    // 종목코드별 마지막 저장 거래일 (저장된 데이터가 없는 종목은 빠짐)
+    @Transactional(readOnly = true)
+    public Map<String, LocalDate> getLatestTradeDates(List<String> stockCodes) {
+        Map<String, LocalDate> latest = new HashMap<>();
+        // IN 절 파라미터 수 제한 때문에 나눠서 조회
+        for (int from = 0; from < stockCodes.size(); from += WATERMARK_QUERY_CHUNK) {
+            List<String> chunk = stockCodes.subList(from, Math.min(from + WATERMARK_QUERY_CHUNK, stockCodes.size()));
+            for (Object[] row : stockPriceRepository.findLatestTradeDates(chunk)) {
+                latest.put((String) row[0], (LocalDate) row[1]);
+            }
+        }
+        return latest;
     }
 
     //DB에 저장된 데이터 개수 확인
@@ -93,15 +282,9 @@ public class StockPriceService {
         return stockPriceRepository.count();
     }
 
-    @Transactional(readOnly = true)
+    // 종목명 / 종목코드 / 초성 자동완성 (DB 조회 없이 메모리 인덱스에서)
     public List<String> searchStockNames(String keyword) {
-        log.info("Searching for stocks with keyword: {}", keyword);
-
-        List<String> allStocks = stockPriceRepository.findDistinctStockNames();
-
-        return allStocks.stream()
-                .filter(name -> name.contains(keyword))
-                .limit(10)
-                .collect(Collectors.toList());
+        log.debug("Searching for stocks with keyword: {}", keyword);
+        return stockSearchIndex.search(keyword, SEARCH_LIMIT);
     }
 }
@@ -0,0 +1,182 @@
+package com.inveskit.backend.service;
+
+import com.inveskit.backend.dto.StockDto;
+import com.inveskit.backend.event.StockPricesUpdatedEvent;
+import com.inveskit.backend.util.KoreanChosung;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+// 종목 자동완성용 메모리 인덱스 (종목명 / 종목코드 / 초성)
+// 불변 스냅샷을 통째로 교체하는 방식이라 조회 시 락이 없음
+// 정렬된 키 배열에서 이진 탐색으로 접두어 매칭, 결과가 부족할 때만 부분 문자열 매칭
+@Component
+@Slf4j
+public class StockSearchIndex {
+
+    // 매칭 종류별 순위 (낮을수록 우선)
+    private static final int EXACT = 0;
+    private static final int NAME_PREFIX = 1;
+    private static final int CODE_PREFIX = 2;
+    private static final int CHOSUNG_PREFIX = 3;
+    private static final int NAME_INFIX = 4;
+    private static final int CHOSUNG_INFIX = 5;
+
+    private volatile Snapshot snapshot = Snapshot.of(List.of());
+
+    // 종목 목록으로 인덱스 전체 재구성 (종목 마스터 로딩 시)
+    // register 와 같은 모니터에서 교체 (등록이 이전 스냅샷 위에서 만든 결과로 덮어쓰지 않도록)
+    public synchronized void rebuild(Collection<StockDto> stocks) {
+        List<Entry> entries = new ArrayList<>(stocks.size());
+        for (StockDto stock : stocks) {
+            entries.add(new Entry(stock.getName(), stock.getCode()));
+        }
+        snapshot = Snapshot.of(entries);
+        log.info("Stock search index rebuilt with {} symbols", snapshot.entries.length);
+    }
+
+    // 새 종목 추가 (이미 있으면 무시)
+    public synchronized void register(String stockName, String stockCode) {
+        Snapshot current = snapshot;
+        if (current.containsName(stockName)) {
+            return;
+        }
+        List<Entry> entries = new ArrayList<>(Arrays.asList(current.entries));
+        entries.add(new Entry(stockName, stockCode));
+        snapshot = Snapshot.of(entries);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPricesUpdated(StockPricesUpdatedEvent event) {
+        register(event.getStockName(), event.getStockCode());
+    }
+
+    // 순위가 높은 종목명 최대 limit 개
+    public List<String> search(String keyword, int limit) {
+        String query = normalize(keyword);
+        if (query.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Snapshot current = snapshot;
+        boolean chosungQuery = KoreanChosung.containsChosung(query);
+        String chosung = chosungQuery ? KoreanChosung.toChosung(query) : null;
+
+        // 종목별 최고 순위만 유지
+        Map<Entry, Integer> ranks = new LinkedHashMap<>();
+        current.collectPrefix(current.byName, e -> e.normalizedName, query, NAME_PREFIX, ranks);
+        current.collectPrefix(current.byCode, e -> e.code, query, CODE_PREFIX, ranks);
+        if (chosungQuery) {
+            current.collectPrefix(current.byChosung, e -> e.chosung, chosung, CHOSUNG_PREFIX, ranks);
+        }
+
+        // 접두어 매칭만으로 부족하면 부분 문자열 매칭
+        if (ranks.size() < limit) {
+            for (Entry entry : current.entries) {
+                if (entry.normalizedName.contains(query)) {
+                    ranks.merge(entry, NAME_INFIX, Math::min);
+                } else if (chosungQuery && entry.chosung.contains(chosung)) {
+                    ranks.merge(entry, CHOSUNG_INFIX, Math::min);
+                }
+            }
+        }
+
+        return ranks.entrySet().stream()
+                .map(e -> Map.entry(e.getKey(), e.getKey().normalizedName.equals(query) ? EXACT : e.getValue()))
+                .sorted(Map.Entry.<Entry, Integer>comparingByValue()
+                        .thenComparingInt(e -> e.getKey().name.length())
+                        .thenComparing(e -> e.getKey().name))
+                .limit(limit)
+                .map(e -> e.getKey().name)
+                .toList();
+    }
+
+    public int size() {
+        return snapshot.entries.length;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Entry {
+        final String name;
+        final String code;
+        final String normalizedName;
+        final String chosung;
+
+        Entry(String name, String code) {
+            this.name = name;
+            this.code = code;
+            this.normalizedName = normalize(name);
+            this.chosung = KoreanChosung.toChosung(normalizedName);
+        }
+    }
+
+    private static final class Snapshot {
+        final Entry[] entries;
+        final Entry[] byName;
+        final Entry[] byCode;
+        final Entry[] byChosung;
+        final Map<String, Entry> nameLookup;
+
+        private Snapshot(Entry[] entries) {
+            this.entries = entries;
+            this.byName = sorted(entries, e -> e.normalizedName);
+            this.byCode = sorted(entries, e -> e.code);
+            this.byChosung = sorted(entries, e -> e.chosung);
+            this.nameLookup = new HashMap<>();
+            for (Entry entry : entries) {
+                nameLookup.put(entry.name, entry);
+            }
+        }
+
+        static Snapshot of(List<Entry> entries) {
+            // 종목명 기준 중복 제거 (나중 항목 우선)
+            Map<String, Entry> unique = new LinkedHashMap<>();
+            for (Entry entry : entries) {
+                unique.put(entry.name, entry);
+            }
+            return new Snapshot(unique.values().toArray(new Entry[0]));
+        }
+
+        boolean containsName(String name) {
+            return nameLookup.containsKey(name);
+        }
+
+        // key 가 prefix 로 시작하는 구간을 이진 탐색으로 찾아서 수집
+        void collectPrefix(Entry[] sorted, Function<Entry, String> key, String prefix,
+                           int rank, Map<Entry, Integer> ranks) {
+            int lo = 0;
+            int hi = sorted.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (key.apply(sorted[mid]).compareTo(prefix) < 0) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            for (int i = lo; i < sorted.length && key.apply(sorted[i]).startsWith(prefix); i++) {
+                ranks.merge(sorted[i], rank, Math::min);
+            }
+        }
+
+        private static Entry[] sorted(Entry[] entries, Function<Entry, String> key) {
+            Entry[] copy = entries.clone();
+            Arrays.sort(copy, Comparator.comparing(key));
+            return copy;
+        }
+    }
+}
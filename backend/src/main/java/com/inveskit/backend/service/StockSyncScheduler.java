@@ -0,0 +1,37 @@
+package com.inveskit.backend.service;
+
+import com.inveskit.backend.dto.StockDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 장 마감 후 종목 마스터의 상장 종목을 증분 동기화 (stock.sync.enabled=true 일 때만)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "stock.sync.enabled", havingValue = "true")
+public class StockSyncScheduler {
+
+    private final SymbolMasterService symbolMasterService;
+    private final IngestionJobService ingestionJobService;
+
+    @Scheduled(cron = "${stock.sync.cron:0 0 16 * * MON-FRI}", zone = "${stock.sync.zone:Asia/Seoul}")
+    public void syncListedStocks() {
+        List<StockDto> universe = symbolMasterService.getListedStocks();
+        if (universe.isEmpty()) {
+            log.info("Scheduled sync skipped: no listed stocks");
+            return;
+        }
+
+        try {
+            IngestionJob job = ingestionJobService.submit(universe, StockIngestionService.Mode.INCREMENTAL);
+            log.info("Scheduled incremental sync submitted: job {} ({} symbols)", job.getId(), universe.size());
+        } catch (IllegalStateException e) {
+            log.warn("Scheduled sync rejected: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package com.inveskit.backend.service;
+
+import com.inveskit.backend.domain.StockSymbol;
+import com.inveskit.backend.dto.StockDto;
+import com.inveskit.backend.dto.SymbolImportResult;
+import com.inveskit.backend.event.StockPricesUpdatedEvent;
+import com.inveskit.backend.repository.StockSymbolRepository;
+import com.inveskit.backend.util.CsvUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 종목 마스터 조회/적재
+// 조회는 불변 스냅샷(Map.copyOf)에서 DB 없이 O(1), 적재 후 스냅샷을 통째로 교체
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SymbolMasterService {
+
+    public static final String UNKNOWN_CODE = "UNKNOWN";
+
+    // 마스터가 비어 있을 때 넣는 KOSPI 주요 종목
+    private static final List<StockDto> DEFAULT_SYMBOLS = List.of(
+            new StockDto("삼성전자", "005930", "KOSPI"),
+            new StockDto("SK하이닉스", "000660", "KOSPI"),
+            new StockDto("LG에너지솔루션", "373220", "KOSPI"),
+            new StockDto("삼성바이오로직스", "207940", "KOSPI"),
+            new StockDto("현대차", "005380", "KOSPI"),
+            new StockDto("기아", "000270", "KOSPI"),
+            new StockDto("POSCO홀딩스", "005490", "KOSPI"),
+            new StockDto("네이버", "035420", "KOSPI"),
+            new StockDto("카카오", "035720", "KOSPI"),
+            new StockDto("셀트리온", "068270", "KOSPI")
+    );
+
+    private final StockSymbolRepository stockSymbolRepository;
+    private final StockSearchIndex stockSearchIndex;
+    private final TransactionTemplate transactionTemplate;
+
+    private volatile Snapshot snapshot = new Snapshot(List.of());
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (stockSymbolRepository.count() == 0) {
+                stockSymbolRepository.saveAll(DEFAULT_SYMBOLS.stream()
+                        .map(stock -> newSymbol(stock.getName(), stock.getCode(), stock.getMarket()))
+                        .toList());
+                log.info("Seeded symbol master with {} default symbols", DEFAULT_SYMBOLS.size());
+            }
+        });
+        reload();
+    }
+
+    // DB 에서 다시 읽어 스냅샷 교체 + 검색 인덱스 재구성
+    // register 와 같은 모니터로 직렬화 (읽는 동안 등록된 종목이 이전 목록으로 덮여 사라지지 않도록)
+    public synchronized void reload() {
+        List<StockSymbol> symbols = transactionTemplate.execute(status -> stockSymbolRepository.findAll());
+        snapshot = new Snapshot(symbols);
+        stockSearchIndex.rebuild(getListedStocks());
+        log.info("Symbol master loaded: {} symbols ({} listed)", symbols.size(), snapshot.listed.size());
+    }
+
+    // 마스터에 없는 종목의 주가가 적재되면 마스터에도 등록 (이름 -> 코드 조회가 가능하도록)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPricesUpdated(StockPricesUpdatedEvent event) {
+        if (snapshot.byCode.containsKey(event.getStockCode())) {
+            return;
+        }
+        register(newSymbol(event.getStockName(), event.getStockCode(), event.getMarket()));
+    }
+
+    private synchronized void register(StockSymbol symbol) {
+        // 락을 기다리는 동안 reload 나 다른 이벤트로 이미 등록됐을 수 있음
+        if (snapshot.byCode.containsKey(symbol.getStockCode())) {
+            return;
+        }
+
+        // 커밋 이후 단계에서 호출되므로 새 트랜잭션으로 저장
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        StockSymbol saved = requiresNew.execute(status -> stockSymbolRepository.findById(symbol.getStockCode())
+                .orElseGet(() -> stockSymbolRepository.save(symbol)));
+
+        List<StockSymbol> symbols = new ArrayList<>(snapshot.byCode.values());
+        symbols.add(saved);
+        snapshot = new Snapshot(symbols);
+        log.info("Registered new symbol {} ({})", saved.getStockName(), saved.getStockCode());
+    }
+
+    public Optional<StockSymbol> findByCode(String stockCode) {
+        return Optional.ofNullable(snapshot.byCode.get(stockCode));
+    }
+
+    public Optional<StockSymbol> findByName(String stockName) {
+        return Optional.ofNullable(snapshot.byName.get(stockName));
+    }
+
+    // 종목명 -> 종목코드 (모르는 종목은 UNKNOWN)
+    public String getStockCode(String stockName) {
+        StockSymbol symbol = snapshot.byName.get(stockName);
+        return symbol != null ? symbol.getStockCode() : UNKNOWN_CODE;
+    }
+
+    public boolean hasStockCode(String stockName) {
+        return snapshot.byName.containsKey(stockName);
+    }
+
+    // 마스터에 있으면 등록된 접미사, 없으면 시장 구분으로 판단 (코스피: .KS, 코스닥: .KQ)
+    public String toYahooSymbol(String stockCode, String market) {
+        StockSymbol symbol = snapshot.byCode.get(stockCode);
+        return symbol != null ? symbol.getYahooSymbol() : stockCode + StockSymbol.yahooSuffixOf(market);
+    }
+
+    public List<StockDto> getListedStocks() {
+        return snapshot.listed;
+    }
+
+    // KRX 상장종목 CSV 적재 (단축코드/종목코드, 한글 종목약명/종목명, 시장구분 컬럼 사용)
+    // markMissingDelisted 이면 파일에 있는 시장의 기존 종목 중 파일에 없는 종목은 상장폐지로 표시
+    public SymbolImportResult importKrxCsv(InputStream in, Charset charset, boolean markMissingDelisted) throws IOException {
+        List<StockDto> rows = new ArrayList<>();
+        int skipped = 0;
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, charset))) {
+            String headerLine = CsvUtils.stripBom(reader.readLine());
+            if (headerLine == null) {
+                throw new IllegalArgumentException("빈 파일입니다.");
+            }
+
+            List<String> header = CsvUtils.parseLine(headerLine);
+            int codeIdx = CsvUtils.indexOf(header, "단축코드", "종목코드");
+            int nameIdx = CsvUtils.indexOf(header, "한글 종목약명", "종목명", "한글 종목명");
+            int marketIdx = CsvUtils.indexOf(header, "시장구분");
+            if (codeIdx < 0 || nameIdx < 0 || marketIdx < 0) {
+                throw new IllegalArgumentException("CSV 헤더에 종목코드/종목명/시장구분 컬럼이 필요합니다: " + header);
+            }
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                List<String> fields = CsvUtils.parseLine(line);
+                if (fields.size() <= Math.max(codeIdx, Math.max(nameIdx, marketIdx))) {
+                    skipped++;
+                    continue;
+                }
+
+                String market = fields.get(marketIdx).toUpperCase();
+                // Yahoo 에서 조회 가능한 코스피/코스닥만
+                if (!market.startsWith("KOSPI") && !market.startsWith("KOSDAQ")) {
+                    skipped++;
+                    continue;
+                }
+                rows.add(new StockDto(fields.get(nameIdx), fields.get(codeIdx),
+                        market.startsWith("KOSDAQ") ? "KOSDAQ" : "KOSPI"));
+            }
+        }
+
+        final int skippedRows = skipped;
+        SymbolImportResult result = transactionTemplate.execute(status -> upsert(rows, markMissingDelisted, skippedRows));
+        reload();
+
+        log.info("Imported symbol master: total {}, inserted {}, updated {}, delisted {}, skipped {}",
+                result.getTotal(), result.getInserted(), result.getUpdated(), result.getDelisted(), result.getSkipped());
+        return result;
+    }
+
+    private SymbolImportResult upsert(List<StockDto> rows, boolean markMissingDelisted, int skipped) {
+        Map<String, StockSymbol> existing = stockSymbolRepository.findAll().stream()
+                .collect(Collectors.toMap(StockSymbol::getStockCode, Function.identity()));
+
+        List<StockSymbol> newSymbols = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        int updated = 0;
+
+        for (StockDto row : rows) {
+            if (!seen.add(row.getCode())) {
+                continue;
+            }
+            StockSymbol symbol = existing.get(row.getCode());
+            if (symbol == null) {
+                newSymbols.add(newSymbol(row.getName(), row.getCode(), row.getMarket()));
+            } else {
+                // 영속 상태이므로 변경 감지로 update
+                symbol.update(row.getName(), row.getMarket(), StockSymbol.ListingStatus.LISTED);
+                updated++;
+            }
+        }
+
+        // KRX 파일은 시장별로 받으므로 파일에 있는 시장의 종목만 상장폐지 대상
+        // (코스닥 파일로 코스피 종목이 빠지거나, 적재할 행이 없는 파일로 전체가 빠지지 않도록)
+        Set<String> markets = rows.stream().map(StockDto::getMarket).collect(Collectors.toSet());
+        int delisted = 0;
+        if (markMissingDelisted && !rows.isEmpty()) {
+            for (StockSymbol symbol : existing.values()) {
+                if (!seen.contains(symbol.getStockCode()) && symbol.isListed()
+                        && markets.contains(symbol.getMarket())) {
+                    symbol.update(symbol.getStockName(), symbol.getMarket(), StockSymbol.ListingStatus.DELISTED);
+                    delisted++;
+                }
+            }
+        }
+
+        stockSymbolRepository.saveAll(newSymbols);
+
+        return SymbolImportResult.builder()
+                .total(rows.size())
+                .inserted(newSymbols.size())
+                .updated(updated)
+                .delisted(delisted)
+                .skipped(skipped)
+                .build();
+    }
+
+    private static StockSymbol newSymbol(String stockName, String stockCode, String market) {
+        return StockSymbol.builder()
+                .stockCode(stockCode)
+                .stockName(stockName)
+                .market(market)
+                .yahooSuffix(StockSymbol.yahooSuffixOf(market))
+                .listingStatus(StockSymbol.ListingStatus.LISTED)
+                .build();
+    }
+
+    // 조회 전용 불변 스냅샷
+    private static final class Snapshot {
+        final Map<String, StockSymbol> byCode;
+        final Map<String, StockSymbol> byName;
+        final List<StockDto> listed;
+
+        Snapshot(List<StockSymbol> symbols) {
+            Map<String, StockSymbol> codes = new HashMap<>();
+            Map<String, StockSymbol> names = new HashMap<>();
+            List<StockDto> listedStocks = new ArrayList<>();
+
+            for (StockSymbol symbol : symbols) {
+                codes.put(symbol.getStockCode(), symbol);
+                // 같은 이름이 있으면 상장 종목 우선
+                StockSymbol sameName = names.get(symbol.getStockName());
+                if (sameName == null || (!sameName.isListed() && symbol.isListed())) {
+                    names.put(symbol.getStockName(), symbol);
+                }
+                if (symbol.isListed()) {
+                    listedStocks.add(new StockDto(symbol.getStockName(), symbol.getStockCode(), symbol.getMarket()));
+                }
+            }
+
+            this.byCode = Map.copyOf(codes);
+            this.byName = Map.copyOf(names);
+            this.listed = List.copyOf(listedStocks);
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package com.inveskit.backend.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inveskit.backend.domain.StockSymbol;
+import com.inveskit.backend.domain.Trade;
+import com.inveskit.backend.dto.TradeImportResult;
+import com.inveskit.backend.event.TradesImportedEvent;
+import com.inveskit.backend.util.CsvUtils;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+// 증권사 거래 내역 CSV / JSON 일괄 적재
+// 파일을 한 행씩 읽으면서 검증하고, batch_size 마다 flush/clear 해서 insert 를 JDBC 배치로 보냄
+// 검증에 실패한 행은 건너뛰고, DB 오류가 나면 전체 롤백
+@Service
+@Slf4j
+public class TradeImportService {
+
+    private static final int MAX_ERRORS = 100;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final SymbolMasterService symbolMasterService;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+
+    public TradeImportService(
+            SymbolMasterService symbolMasterService,
+            ObjectMapper objectMapper,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:500}") int batchSize
+    ) {
+        this.symbolMasterService = symbolMasterService;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+    }
+
+    // 헤더: 종목명(stockName) 또는 종목코드(stockCode), 매매구분(tradeType), 거래일(date), 단가(price), 수량(quantity)
+    // /api/trades/export 결과도 그대로 다시 적재 가능
+    @Transactional
+    public TradeImportResult importCsv(InputStream in, Charset charset) throws IOException {
+        Importer importer = new Importer();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, charset))) {
+            String headerLine = CsvUtils.stripBom(reader.readLine());
+            if (headerLine == null) {
+                throw new IllegalArgumentException("빈 파일입니다.");
+            }
+
+            List<String> header = CsvUtils.parseLine(headerLine);
+            int nameIdx = CsvUtils.indexOf(header, "stockName", "종목명");
+            int codeIdx = CsvUtils.indexOf(header, "stockCode", "종목코드");
+            int typeIdx = CsvUtils.indexOf(header, "tradeType", "매매구분", "구분");
+            int dateIdx = CsvUtils.indexOf(header, "date", "tradeDate", "거래일", "거래일자", "체결일");
+            int priceIdx = CsvUtils.indexOf(header, "price", "단가", "체결가");
+            int quantityIdx = CsvUtils.indexOf(header, "quantity", "수량", "체결수량");
+            if ((nameIdx < 0 && codeIdx < 0) || typeIdx < 0 || dateIdx < 0 || priceIdx < 0 || quantityIdx < 0) {
+                throw new IllegalArgumentException(
+                        "CSV 헤더에 종목명(또는 종목코드)/매매구분/거래일/단가/수량 컬럼이 필요합니다: " + header);
+            }
+
+            String line;
+            int row = 1;
+            while ((line = reader.readLine()) != null) {
+                row++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                List<String> fields = CsvUtils.parseLine(line);
+                importer.accept(row,
+                        field(fields, nameIdx),
+                        field(fields, codeIdx),
+                        field(fields, typeIdx),
+                        field(fields, dateIdx),
+                        field(fields, priceIdx),
+                        field(fields, quantityIdx));
+            }
+        }
+
+        return importer.finish();
+    }
+
+    // 거래 객체 배열: [{"stockName": "삼성전자", "tradeType": "buy", "date": "2025-03-04", "price": 70000, "quantity": 10}, ...]
+    // 배열 전체를 트리로 읽지 않고 원소 하나씩 파싱
+    @Transactional
+    public TradeImportResult importJson(InputStream in) throws IOException {
+        Importer importer = new Importer();
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("거래 객체의 JSON 배열이어야 합니다.");
+            }
+            int row = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+                row++;
+                if (token != JsonToken.START_OBJECT) {
+                    // 객체가 아닌 원소는 그 행만 오류로 남기고 다음 원소로
+                    String value = parser.getText();
+                    parser.skipChildren();
+                    importer.reject(row, "거래 객체가 아닙니다: " + value);
+                    continue;
+                }
+                JsonNode node = parser.readValueAsTree();
+                importer.accept(row,
+                        text(node, "stockName"),
+                        text(node, "stockCode"),
+                        text(node, "tradeType"),
+                        text(node, "date"),
+                        text(node, "price"),
+                        text(node, "quantity"));
+            }
+        }
+
+        return importer.finish();
+    }
+
+    private static String field(List<String> fields, int idx) {
+        return idx >= 0 && idx < fields.size() ? fields.get(idx) : null;
+    }
+
+    private static String text(JsonNode node, String name) {
+        JsonNode value = node.get(name);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    // 한 번의 적재 요청 상태 (행 검증 + 배치 저장)
+    private class Importer {
+        private final LocalDate today = LocalDate.now();
+        private final List<String> errors = new ArrayList<>();
+        private int total;
+        private int inserted;
+        private int skipped;
+        private int pending;
+
+        void accept(int row, String stockName, String stockCode, String tradeType,
+                    String date, String price, String quantity) {
+            total++;
+            try {
+                Trade trade = toTrade(stockName, stockCode, tradeType, date, price, quantity);
+                entityManager.persist(trade);
+                inserted++;
+                if (++pending >= batchSize) {
+                    // 모은 insert 를 배치로 보내고 영속성 컨텍스트를 비워서 메모리 사용을 일정하게 유지
+                    entityManager.flush();
+                    entityManager.clear();
+                    pending = 0;
+                }
+            } catch (IllegalArgumentException e) {
+                skip(row, e.getMessage());
+            }
+        }
+
+        // 거래로 읽을 수 없는 행
+        void reject(int row, String message) {
+            total++;
+            skip(row, message);
+        }
+
+        private void skip(int row, String message) {
+            skipped++;
+            if (errors.size() < MAX_ERRORS) {
+                errors.add(row + "행: " + message);
+            }
+        }
+
+        TradeImportResult finish() {
+            entityManager.flush();
+            entityManager.clear();
+
+            if (inserted > 0) {
+                eventPublisher.publishEvent(new TradesImportedEvent(inserted));
+            }
+            log.info("Imported trades: total {}, inserted {}, skipped {}", total, inserted, skipped);
+
+            return TradeImportResult.builder()
+                    .total(total)
+                    .inserted(inserted)
+                    .skipped(skipped)
+                    .errors(errors)
+                    .build();
+        }
+
+        private Trade toTrade(String stockName, String stockCode, String tradeType,
+                              String date, String price, String quantity) {
+            StockSymbol symbol = resolveSymbol(stockName, stockCode)
+                    .orElseThrow(() -> new IllegalArgumentException("종목 마스터에 없는 종목입니다: "
+                            + (stockName != null ? stockName : stockCode)));
+
+            LocalDate tradeDate = parseDate(date);
+            if (tradeDate.isAfter(today)) {
+                throw new IllegalArgumentException("미래 날짜입니다: " + date);
+            }
+            double tradePrice = parseNumber(price, "단가");
+            if (!Double.isFinite(tradePrice) || tradePrice <= 0) {
+                throw new IllegalArgumentException("단가는 0보다 커야 합니다: " + price);
+            }
+            double tradeQuantity = parseNumber(quantity, "수량");
+            if (!Double.isFinite(tradeQuantity) || tradeQuantity <= 0
+                    || tradeQuantity != Math.rint(tradeQuantity) || tradeQuantity > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("수량은 양의 정수여야 합니다: " + quantity);
+            }
+
+            return Trade.builder()
+                    .stockName(symbol.getStockName())
+                    .stockCode(symbol.getStockCode())
+                    .tradeType(parseTradeType(tradeType))
+                    .tradeDate(tradeDate)
+                    .price(tradePrice)
+                    .quantity((int) tradeQuantity)
+                    .build();
+        }
+
+        // 종목코드가 있으면 코드 우선, 없으면 종목명으로
+        private Optional<StockSymbol> resolveSymbol(String stockName, String stockCode) {
+            if (stockCode != null && !stockCode.isBlank()) {
+                Optional<StockSymbol> byCode = symbolMasterService.findByCode(stockCode.trim());
+                if (byCode.isPresent()) {
+                    return byCode;
+                }
+            }
+            if (stockName != null && !stockName.isBlank()) {
+                return symbolMasterService.findByName(stockName.trim());
+            }
+            return Optional.empty();
+        }
+    }
+
+    private static Trade.TradeType parseTradeType(String value) {
+        String normalized = value == null ? "" : value.trim().toLowerCase();
+        return switch (normalized) {
+            case "buy", "매수" -> Trade.TradeType.BUY;
+            case "sell", "매도" -> Trade.TradeType.SELL;
+            default -> throw new IllegalArgumentException("매매구분은 buy/sell(매수/매도) 이어야 합니다: " + value);
+        };
+    }
+
+    // 2025-03-04, 2025.03.04, 2025/03/04, 20250304
+    private static LocalDate parseDate(String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("거래일이 없습니다.");
+        }
+        String normalized = value.trim().replace('.', '-').replace('/', '-');
+        if (normalized.length() == 8 && normalized.chars().allMatch(Character::isDigit)) {
+            normalized = normalized.substring(0, 4) + "-" + normalized.substring(4, 6) + "-" + normalized.substring(6);
+        }
+        try {
+            return LocalDate.parse(normalized);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("거래일 형식이 잘못되었습니다: " + value);
+        }
+    }
+
+    // 천 단위 쉼표 허용 ("70,000")
+    private static double parseNumber(String value, String label) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException(label + "이(가) 없습니다.");
+        }
+        try {
+            return Double.parseDouble(value.trim().replace(",", ""));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(label + " 형식이 잘못되었습니다: " + value);
+        }
+    }
+}
@@ -2,14 +2,31 @@ package com.inveskit.backend.service;
 
 import com.inveskit.backend.domain.Trade;
 import com.inveskit.backend.dto.TradeCreateRequest;
+import com.inveskit.backend.dto.TradeCursor;
+import com.inveskit.backend.dto.TradeFilter;
+import com.inveskit.backend.dto.TradePageResponse;
 import com.inveskit.backend.dto.TradeResponse;
+import com.inveskit.backend.event.TradeChangedEvent;
+import com.inveskit.backend.repository.TradeJdbcRepository;
 import com.inveskit.backend.repository.TradeRepository;
+import com.inveskit.backend.util.CsvUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -17,7 +34,13 @@ import java.util.stream.Collectors;
 @Slf4j
 public class TradeService {
 
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final String EXPORT_HEADER = "id,stockName,stockCode,tradeType,date,price,quantity\n";
+
     private final TradeRepository tradeRepository;
+    private final TradeJdbcRepository tradeJdbcRepository;
+    private final SymbolMasterService symbolMasterService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 거래 생성
     @Transactional
@@ -25,19 +48,80 @@ public class TradeService {
         log.info("Creating trade: {} {} on {}",
                 request.getStockName(), request.getTradeType(), request.getDate());
 
-        Trade trade = request.toEntity();
+        Trade trade = request.toEntity(symbolMasterService.getStockCode(request.getStockName()));
         Trade saved = tradeRepository.save(trade);
+        eventPublisher.publishEvent(TradeChangedEvent.created(saved));
 
         return TradeResponse.from(saved);
     }
 
-    // 전체 거래 조회 (최신순)
+    // 전체 거래 조회 (최신순, 엔티티 없이 DTO 로 바로 조회)
     @Transactional(readOnly = true)
     public List<TradeResponse> getAllTrades() {
-        return tradeRepository.findAllByOrderByTradeDateDesc()
-                .stream()
-                .map(TradeResponse::from)
-                .collect(Collectors.toList());
+        return tradeJdbcRepository.findAll(TradeFilter.none());
+    }
+
+    // 거래 목록 한 페이지 (최신순) - cursor 는 이전 페이지의 nextCursor
+    // 커서가 잘못되면 IllegalArgumentException
+    @Transactional(readOnly = true)
+    public TradePageResponse getTradePage(TradeFilter filter, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        TradeCursor after = cursor == null || cursor.isBlank() ? null : TradeCursor.decode(cursor);
+
+        // 한 건 더 읽어서 다음 페이지 여부 판단
+        List<TradeResponse> trades = tradeJdbcRepository.findPage(filter, after, pageSize + 1);
+        boolean hasNext = trades.size() > pageSize;
+        if (hasNext) {
+            trades = trades.subList(0, pageSize);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            TradeResponse last = trades.get(trades.size() - 1);
+            nextCursor = new TradeCursor(last.getDate(), last.getId()).encode();
+        }
+
+        return TradePageResponse.builder()
+                .trades(trades)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    // 조건에 맞는 전체 거래를 CSV 로 내보내기 (거래일 순, 한 행씩 읽으면서 바로 씀)
+    @Transactional(readOnly = true)
+    public void exportCsv(TradeFilter filter, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(EXPORT_HEADER);
+        try {
+            tradeJdbcRepository.streamAll(filter, trade -> {
+                try {
+                    writer.write(trade.getId() + ","
+                            + CsvUtils.escape(trade.getStockName()) + ","
+                            + CsvUtils.escape(trade.getStockCode()) + ","
+                            + trade.getTradeType() + ","
+                            + trade.getDate() + ","
+                            + trade.getPrice() + ","
+                            + trade.getQuantity() + "\n");
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            // 클라이언트가 연결을 끊은 경우 등
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    // 종목명 -> 마지막 거래일 (마지막 거래일이 최근인 종목부터)
+    @Transactional(readOnly = true)
+    public Map<String, LocalDate> getLatestTradeDatesByStock() {
+        Map<String, LocalDate> latest = new LinkedHashMap<>();
+        tradeRepository.findLatestTradeDatesByStock().stream()
+                .sorted((a, b) -> ((LocalDate) b[1]).compareTo((LocalDate) a[1]))
+                .forEach(row -> latest.put((String) row[0], (LocalDate) row[1]));
+        return latest;
     }
 
     // 특정 거래 조회
@@ -63,11 +147,11 @@ public class TradeService {
     public void deleteTrade(Long id) {
         log.info("Deleting trade: {}", id);
 
-        if (!tradeRepository.existsById(id)) {
-            throw new RuntimeException("거래 내역을 찾을 수 없습니다: " + id);
-        }
+        Trade trade = tradeRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("거래 내역을 찾을 수 없습니다: " + id));
 
-        tradeRepository.deleteById(id);
+        tradeRepository.delete(trade);
+        eventPublisher.publishEvent(TradeChangedEvent.deleted(trade));
     }
 
     // 전체 거래 개수
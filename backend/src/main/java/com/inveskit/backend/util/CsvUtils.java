@@ -0,0 +1,78 @@
+package com.inveskit.backend.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 따옴표로 감싼 필드("1,234")를 지원하는 CSV 한 줄 파서
+public class CsvUtils {
+
+    public static List<String> parseLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');  // "" -> "
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString().trim());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString().trim());
+        return fields;
+    }
+
+    // 숫자 값 (정수면 소수점 없이, NaN 은 빈 칸)
+    public static void appendNumber(StringBuilder line, double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            line.append((long) value);
+        } else {
+            line.append(value);
+        }
+    }
+
+    // 쉼표, 따옴표, 줄바꿈이 있는 값은 따옴표로 감쌈 (parseLine 과 반대)
+    public static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    // 헤더에서 후보 이름 중 처음 발견되는 컬럼 위치 (없으면 -1)
+    public static int indexOf(List<String> header, String... candidates) {
+        for (String candidate : candidates) {
+            int idx = header.indexOf(candidate);
+            if (idx >= 0) {
+                return idx;
+            }
+        }
+        return -1;
+    }
+
+    // UTF-8 BOM 제거
+    public static String stripBom(String line) {
+        return line != null && !line.isEmpty() && line.charAt(0) == '\uFEFF' ? line.substring(1) : line;
+    }
+}
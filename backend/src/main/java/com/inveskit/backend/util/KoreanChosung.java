@@ -0,0 +1,39 @@
+package com.inveskit.backend.util;
+
+// 한글 초성 변환 ("삼성전자" -> "ㅅㅅㅈㅈ")
+public class KoreanChosung {
+
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private static final char HANGUL_BEGIN = 0xAC00;  // 가
+    private static final char HANGUL_END = 0xD7A3;    // 힣
+    private static final int SYLLABLES_PER_CHOSUNG = 21 * 28;
+
+    // 한글 음절은 초성으로, 나머지 문자는 그대로
+    public static String toChosung(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= HANGUL_BEGIN && c <= HANGUL_END) {
+                sb.append(CHOSUNG[(c - HANGUL_BEGIN) / SYLLABLES_PER_CHOSUNG]);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    // 자음(ㄱ~ㅎ)이 하나라도 섞여 있으면 초성 검색어로 판단
+    public static boolean containsChosung(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= 'ㄱ' && c <= 'ㅎ') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
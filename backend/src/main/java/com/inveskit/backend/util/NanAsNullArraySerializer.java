@@ -0,0 +1,28 @@
+package com.inveskit.backend.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+// double[] 직렬화 시 NaN/무한대는 null 로 (기본 직렬화는 "NaN" 을 그대로 써서 JSON 으로 읽을 수 없음)
+public class NanAsNullArraySerializer extends StdSerializer<double[]> {
+
+    public NanAsNullArraySerializer() {
+        super(double[].class);
+    }
+
+    @Override
+    public void serialize(double[] values, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartArray(values, values.length);
+        for (double value : values) {
+            if (Double.isFinite(value)) {
+                gen.writeNumber(value);
+            } else {
+                gen.writeNull();
+            }
+        }
+        gen.writeEndArray();
+    }
+}
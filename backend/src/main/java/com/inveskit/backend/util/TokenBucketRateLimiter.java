@@ -0,0 +1,53 @@
+package com.inveskit.backend.util;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+// 토큰 버킷 방식 호출 제한 (초당 ratePerSecond 개, 최대 burst 개까지 몰아서 허용)
+public class TokenBucketRateLimiter {
+
+    private final long nanosPerToken;
+    private final double capacity;
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucketRateLimiter(double ratePerSecond, int burst) {
+        this(ratePerSecond, burst, System::nanoTime);
+    }
+
+    // nanoClock: 테스트에서 시간을 직접 움직일 수 있도록 주입
+    public TokenBucketRateLimiter(double ratePerSecond, int burst, LongSupplier nanoClock) {
+        if (ratePerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("ratePerSecond, burst는 0보다 커야 합니다.");
+        }
+        this.nanosPerToken = (long) (1_000_000_000L / ratePerSecond);
+        this.capacity = burst;
+        this.tokens = burst;
+        this.nanoClock = nanoClock;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    // 토큰을 하나 예약하고, 사용 가능해질 때까지 기다려야 하는 시간(ns)을 반환
+    public synchronized long reserve() {
+        long now = nanoClock.getAsLong();
+        tokens = Math.min(capacity, tokens + (double) (now - lastRefillNanos) / nanosPerToken);
+        lastRefillNanos = now;
+
+        tokens -= 1;
+        return tokens >= 0 ? 0 : (long) (-tokens * nanosPerToken);
+    }
+
+    // 토큰이 생길 때까지 스레드를 잡지 않고 지연
+    public Mono<Void> acquire() {
+        return Mono.defer(() -> {
+            long waitNanos = reserve();
+            return waitNanos == 0
+                    ? Mono.empty()
+                    : Mono.delay(Duration.ofNanos(waitNanos)).then();
+        });
+    }
+}
@@ -0,0 +1,123 @@
+package com.inveskit.backend.util.backtest;
+
+import com.inveskit.backend.domain.BacktestRun;
+import com.inveskit.backend.domain.StockPriceSeries;
+import com.inveskit.backend.util.indicator.Drawdown;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 종가 기준 롱 온리 전략 시뮬레이터
+// - 진입 조건(모두 만족)이 켜진 봉의 종가에 가용 현금 전부로 매수, 청산 조건이 켜진 봉의 종가에 전량 매도
+// - 수수료는 매수/매도 금액에 feeRate 만큼, 기간 끝까지 들고 있으면 마지막 종가로 청산
+// - 마지막 봉에서는 진입하지 않음 (같은 종가에 사고 바로 청산할 수 없으므로 열린 포지션이 남음)
+// - 지표는 from 이전 이력으로 워밍업된 컬럼을 받으므로 [from, to) 구간만 거래
+public final class Backtester {
+
+    private static final double TRADING_DAYS_PER_YEAR = 252;
+
+    private Backtester() {
+    }
+
+    public static BacktestRun run(StockPriceSeries series, int from, int to,
+                                  List<Rule.Bound> entry, List<Rule.Bound> exit,
+                                  double initialCapital, double feeRate, boolean includeDetails) {
+        double[] close = series.getClose();
+        int bars = Math.max(to - from, 0);
+
+        int[] curveDays = includeDetails ? new int[bars] : null;
+        double[] curve = includeDetails ? new double[bars] : null;
+        List<BacktestRun.TradeRecord> trades = includeDetails ? new ArrayList<>() : null;
+
+        double cash = initialCapital;
+        long shares = 0;
+        int entryIndex = -1;
+        double entryCost = 0;
+
+        int tradeCount = 0;
+        int wins = 0;
+
+        Drawdown drawdown = new Drawdown();
+        double previousEquity = initialCapital;
+        double sumReturns = 0;
+        double sumSquaredReturns = 0;
+        int returnCount = 0;
+
+        for (int i = from; i < to; i++) {
+            double price = close[i];
+
+            if (shares == 0) {
+                if (i < to - 1 && allTrue(entry, i)) {
+                    long quantity = (long) Math.floor(cash / (price * (1 + feeRate)));
+                    if (quantity > 0) {
+                        entryCost = quantity * price * (1 + feeRate);
+                        cash -= entryCost;
+                        shares = quantity;
+                        entryIndex = i;
+                    }
+                }
+            } else if (allTrue(exit, i) || i == to - 1) {
+                double proceeds = shares * price * (1 - feeRate);
+                cash += proceeds;
+                double pnl = proceeds - entryCost;
+                tradeCount++;
+                if (pnl > 0) {
+                    wins++;
+                }
+                if (trades != null) {
+                    trades.add(new BacktestRun.TradeRecord(series.getDate(entryIndex), close[entryIndex],
+                            series.getDate(i), price, shares, pnl, pnl / entryCost));
+                }
+                shares = 0;
+            }
+
+            double equity = cash + shares * price;
+            if (i > from) {
+                double r = equity / previousEquity - 1;
+                sumReturns += r;
+                sumSquaredReturns += r * r;
+                returnCount++;
+            }
+            previousEquity = equity;
+            drawdown.update(equity);
+
+            if (curve != null) {
+                curveDays[i - from] = series.getEpochDays()[i];
+                curve[i - from] = equity;
+            }
+        }
+
+        double finalEquity = cash + shares * (bars > 0 ? close[to - 1] : 0);
+        double sharpe = 0;
+        if (returnCount > 1) {
+            double mean = sumReturns / returnCount;
+            double variance = (sumSquaredReturns - returnCount * mean * mean) / (returnCount - 1);
+            if (variance > 0) {
+                sharpe = mean / Math.sqrt(variance) * Math.sqrt(TRADING_DAYS_PER_YEAR);
+            }
+        }
+
+        return BacktestRun.builder()
+                .stockCode(series.getStockCode())
+                .totalReturn(finalEquity / initialCapital - 1)
+                .buyAndHoldReturn(bars > 0 ? close[to - 1] / close[from] - 1 : 0)
+                .sharpeRatio(sharpe)
+                .maxDrawdown(drawdown.getMaxDrawdown())
+                .tradeCount(tradeCount)
+                .winRate(tradeCount > 0 ? (double) wins / tradeCount : 0)
+                .finalEquity(finalEquity)
+                .equityEpochDays(curveDays)
+                .equity(curve)
+                .trades(trades)
+                .build();
+    }
+
+    private static boolean allTrue(List<Rule.Bound> rules, int i) {
+        for (int r = 0; r < rules.size(); r++) {
+            if (!rules.get(r).test(i)) {
+                return false;
+            }
+        }
+        return !rules.isEmpty();
+    }
+}
@@ -0,0 +1,123 @@
+package com.inveskit.backend.util.backtest;
+
+import com.inveskit.backend.domain.StockPriceSeries;
+import com.inveskit.backend.util.indicator.AverageTrueRange;
+import com.inveskit.backend.util.indicator.BollingerBands;
+import com.inveskit.backend.util.indicator.Drawdown;
+import com.inveskit.backend.util.indicator.ExponentialMovingAverage;
+import com.inveskit.backend.util.indicator.Macd;
+import com.inveskit.backend.util.indicator.RelativeStrengthIndex;
+import com.inveskit.backend.util.indicator.SimpleMovingAverage;
+import com.inveskit.backend.util.indicator.Vwap;
+
+import java.util.Set;
+
+// 규칙에서 참조하는 지표 하나를 종목 시계열 전체에 대해 컬럼으로 계산
+// 이름: CLOSE, SMA(n), EMA(n), RSI(n), MACD, MACD_SIGNAL, MACD_HIST, BB_UPPER(n), BB_MIDDLE(n), BB_LOWER(n),
+//       ATR(n), VWAP, DRAWDOWN  (기간을 생략하면 SMA/EMA/BB 20, RSI/ATR 14, MACD 는 12/26/9 고정)
+public final class IndicatorColumns {
+
+    private static final Set<String> NAMES = Set.of(
+            "CLOSE", "SMA", "EMA", "RSI", "MACD", "MACD_SIGNAL", "MACD_HIST",
+            "BB_UPPER", "BB_MIDDLE", "BB_LOWER", "ATR", "VWAP", "DRAWDOWN");
+
+    // 기간을 받는 지표 (나머지는 기간을 주면 거부)
+    private static final Set<String> PERIODIC = Set.of(
+            "SMA", "EMA", "RSI", "BB_UPPER", "BB_MIDDLE", "BB_LOWER", "ATR");
+
+    // MACD 12/26/9: 시그널까지 값이 나오는 데 필요한 봉 수
+    private static final int MACD_LOOKBACK = 26 + 9;
+
+    private IndicatorColumns() {
+    }
+
+    // 지원하지 않는 이름, 기간이 없는 지표에 준 기간, maxPeriod 를 넘는 기간이면 IllegalArgumentException
+    public static void validate(String name, int period, int maxPeriod) {
+        if (!NAMES.contains(name)) {
+            throw new IllegalArgumentException("지원하지 않는 지표입니다: " + name);
+        }
+        if (period > 0 && !PERIODIC.contains(name)) {
+            throw new IllegalArgumentException("기간을 지정할 수 없는 지표입니다: " + name + "(" + period + ")");
+        }
+        if (period > maxPeriod) {
+            throw new IllegalArgumentException("지표 기간이 너무 깁니다 (최대 " + maxPeriod + "): " + name + "(" + period + ")");
+        }
+    }
+
+    // 값이 나오기 시작할 때까지 필요한 봉 수 (CLOSE/VWAP/DRAWDOWN 은 첫 봉부터)
+    public static int lookback(String name, int period) {
+        if (name.startsWith("MACD")) {
+            return MACD_LOOKBACK;
+        }
+        return PERIODIC.contains(name) ? period(period, defaultPeriod(name)) : 1;
+    }
+
+    // 지원하지 않는 이름이면 IllegalArgumentException
+    public static double[] compute(StockPriceSeries series, String name, int period) {
+        int n = series.getSize();
+        double[] close = series.getClose();
+        double[] out = new double[n];
+
+        switch (name) {
+            case "CLOSE" -> System.arraycopy(close, 0, out, 0, n);
+            case "SMA" -> {
+                SimpleMovingAverage sma = new SimpleMovingAverage(period(period, defaultPeriod(name)));
+                for (int i = 0; i < n; i++) out[i] = sma.update(close[i]);
+            }
+            case "EMA" -> {
+                ExponentialMovingAverage ema = new ExponentialMovingAverage(period(period, defaultPeriod(name)));
+                for (int i = 0; i < n; i++) out[i] = ema.update(close[i]);
+            }
+            case "RSI" -> {
+                RelativeStrengthIndex rsi = new RelativeStrengthIndex(period(period, defaultPeriod(name)));
+                for (int i = 0; i < n; i++) out[i] = rsi.update(close[i]);
+            }
+            case "MACD", "MACD_SIGNAL", "MACD_HIST" -> {
+                Macd macd = new Macd(12, 26, 9);
+                for (int i = 0; i < n; i++) {
+                    macd.update(close[i]);
+                    out[i] = switch (name) {
+                        case "MACD" -> macd.getMacd();
+                        case "MACD_SIGNAL" -> macd.getSignal();
+                        default -> macd.getHistogram();
+                    };
+                }
+            }
+            case "BB_UPPER", "BB_MIDDLE", "BB_LOWER" -> {
+                BollingerBands bands = new BollingerBands(period(period, defaultPeriod(name)), 2.0);
+                for (int i = 0; i < n; i++) {
+                    bands.update(close[i]);
+                    out[i] = switch (name) {
+                        case "BB_UPPER" -> bands.getUpper();
+                        case "BB_MIDDLE" -> bands.getMiddle();
+                        default -> bands.getLower();
+                    };
+                }
+            }
+            case "ATR" -> {
+                AverageTrueRange atr = new AverageTrueRange(period(period, defaultPeriod(name)));
+                for (int i = 0; i < n; i++) out[i] = atr.update(series.getHigh()[i], series.getLow()[i], close[i]);
+            }
+            case "VWAP" -> {
+                Vwap vwap = new Vwap();
+                for (int i = 0; i < n; i++) {
+                    out[i] = vwap.update(series.getHigh()[i], series.getLow()[i], close[i], series.getVolume()[i]);
+                }
+            }
+            case "DRAWDOWN" -> {
+                Drawdown drawdown = new Drawdown();
+                for (int i = 0; i < n; i++) out[i] = drawdown.update(close[i]);
+            }
+            default -> throw new IllegalArgumentException("지원하지 않는 지표입니다: " + name);
+        }
+        return out;
+    }
+
+    private static int defaultPeriod(String name) {
+        return name.equals("RSI") || name.equals("ATR") ? 14 : 20;
+    }
+
+    private static int period(int requested, int defaultPeriod) {
+        return requested > 0 ? requested : defaultPeriod;
+    }
+}
@@ -0,0 +1,79 @@
+package com.inveskit.backend.util.backtest;
+
+import java.util.Map;
+
+// 규칙의 한쪽 값: 숫자 상수 또는 지표 (예: "30", "RSI(14)", "SMA($fast)", "CLOSE")
+// $이름 은 파라미터 그리드의 값으로 치환
+public record Operand(String name, int period, double constant) {
+
+    public boolean isConstant() {
+        return name == null;
+    }
+
+    // 같은 종목 안에서 지표 컬럼을 재사용하기 위한 키
+    public String key() {
+        return name + "(" + period + ")";
+    }
+
+    // 형식이 잘못됐거나 파라미터가 없으면 IllegalArgumentException
+    public static Operand parse(String expression, Map<String, Double> parameters) {
+        if (expression == null || expression.isBlank()) {
+            throw new IllegalArgumentException("비어 있는 조건 값입니다.");
+        }
+        String expr = substitute(expression.trim(), parameters);
+
+        try {
+            return new Operand(null, 0, Double.parseDouble(expr));
+        } catch (NumberFormatException ignored) {
+            // 지표
+        }
+
+        int open = expr.indexOf('(');
+        if (open < 0) {
+            return new Operand(expr.toUpperCase(), 0, Double.NaN);
+        }
+        if (!expr.endsWith(")")) {
+            throw new IllegalArgumentException("지표 형식이 잘못되었습니다: " + expression);
+        }
+        String name = expr.substring(0, open).trim().toUpperCase();
+        String arg = expr.substring(open + 1, expr.length() - 1).trim();
+        try {
+            double period = Double.parseDouble(arg);
+            if (period < 1 || period != Math.rint(period)) {
+                throw new IllegalArgumentException("지표 기간은 양의 정수여야 합니다: " + expression);
+            }
+            if (period > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("지표 기간이 너무 깁니다: " + expression);
+            }
+            return new Operand(name, (int) period, Double.NaN);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("지표 기간이 숫자가 아닙니다: " + expression);
+        }
+    }
+
+    private static String substitute(String expr, Map<String, Double> parameters) {
+        int dollar = expr.indexOf('$');
+        if (dollar < 0) {
+            return expr;
+        }
+        StringBuilder out = new StringBuilder();
+        int i = 0;
+        while (dollar >= 0) {
+            out.append(expr, i, dollar);
+            int end = dollar + 1;
+            while (end < expr.length() && (Character.isLetterOrDigit(expr.charAt(end)) || expr.charAt(end) == '_')) {
+                end++;
+            }
+            String param = expr.substring(dollar + 1, end);
+            Double value = parameters.get(param);
+            if (value == null) {
+                throw new IllegalArgumentException("정의되지 않은 파라미터입니다: $" + param);
+            }
+            out.append(value == Math.rint(value) ? String.valueOf(value.longValue()) : String.valueOf(value));
+            i = end;
+            dollar = expr.indexOf('$', end);
+        }
+        out.append(expr.substring(i));
+        return out.toString();
+    }
+}
@@ -0,0 +1,56 @@
+package com.inveskit.backend.util.backtest;
+
+import java.util.function.Function;
+
+// 조건 하나: left <op> right (예: RSI(14) LT 30, SMA(5) CROSS_ABOVE SMA(20))
+public record Rule(Operand left, Operator operator, Operand right) {
+
+    public enum Operator {
+        GT, LT, CROSS_ABOVE, CROSS_BELOW
+    }
+
+    // 종목의 지표 컬럼에 연결 (columns 는 Operand -> 컬럼, 상수는 null)
+    public Bound bind(Function<Operand, double[]> columns) {
+        return new Bound(
+                left.isConstant() ? null : columns.apply(left), left.constant(),
+                right.isConstant() ? null : columns.apply(right), right.constant(),
+                operator);
+    }
+
+    // 지표 값이 아직 없는(NaN) 봉에서는 항상 false
+    public static final class Bound {
+        private final double[] left;
+        private final double leftConstant;
+        private final double[] right;
+        private final double rightConstant;
+        private final Operator operator;
+
+        private Bound(double[] left, double leftConstant, double[] right, double rightConstant, Operator operator) {
+            this.left = left;
+            this.leftConstant = leftConstant;
+            this.right = right;
+            this.rightConstant = rightConstant;
+            this.operator = operator;
+        }
+
+        public boolean test(int i) {
+            double l = left != null ? left[i] : leftConstant;
+            double r = right != null ? right[i] : rightConstant;
+            switch (operator) {
+                case GT:
+                    return l > r;
+                case LT:
+                    return l < r;
+                default:
+                    if (i == 0) {
+                        return false;
+                    }
+                    double prevL = left != null ? left[i - 1] : leftConstant;
+                    double prevR = right != null ? right[i - 1] : rightConstant;
+                    return operator == Operator.CROSS_ABOVE
+                            ? prevL <= prevR && l > r
+                            : prevL >= prevR && l < r;
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.inveskit.backend.util.indicator;
+
+// ATR (Wilder 평활) - 고가/저가가 없는 봉은 종가로 대신 계산
+public final class AverageTrueRange {
+
+    private final int period;
+    private double previousClose = Double.NaN;
+    private int count;
+    private double value;
+
+    public AverageTrueRange(int period) {
+        if (period < 1) {
+            throw new IllegalArgumentException("period must be positive: " + period);
+        }
+        this.period = period;
+    }
+
+    public double update(double high, double low, double close) {
+        double h = Double.isNaN(high) ? close : high;
+        double l = Double.isNaN(low) ? close : low;
+        double trueRange = Double.isNaN(previousClose)
+                ? h - l
+                : Math.max(h - l, Math.max(Math.abs(h - previousClose), Math.abs(l - previousClose)));
+        previousClose = close;
+
+        if (count < period) {
+            value += trueRange;
+            count++;
+            if (count < period) {
+                return Double.NaN;
+            }
+            value /= period;
+            return value;
+        }
+        value = (value * (period - 1) + trueRange) / period;
+        return value;
+    }
+}
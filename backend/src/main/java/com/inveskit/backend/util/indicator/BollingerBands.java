@@ -0,0 +1,52 @@
+package com.inveskit.backend.util.indicator;
+
+import lombok.Getter;
+
+// 볼린저 밴드 - 기간 내 평균 ± k * 표준편차 (모표준편차)
+// 링 버퍼에 합과 제곱합을 같이 유지해서 봉마다 O(1)
+@Getter
+public final class BollingerBands {
+
+    private final double[] window;
+    private final double width;
+    private int count;
+    private int next;
+    private double sum;
+    private double sumOfSquares;
+
+    private double middle = Double.NaN;
+    private double upper = Double.NaN;
+    private double lower = Double.NaN;
+
+    public BollingerBands(int period, double width) {
+        if (period < 1) {
+            throw new IllegalArgumentException("period must be positive: " + period);
+        }
+        this.window = new double[period];
+        this.width = width;
+    }
+
+    public void update(double value) {
+        if (count == window.length) {
+            double removed = window[next];
+            sum -= removed;
+            sumOfSquares -= removed * removed;
+        } else {
+            count++;
+        }
+        window[next] = value;
+        sum += value;
+        sumOfSquares += value * value;
+        next = (next + 1) % window.length;
+
+        if (count < window.length) {
+            return;
+        }
+        middle = sum / count;
+        // 누적 오차로 아주 작은 음수가 나올 수 있음
+        double variance = Math.max(sumOfSquares / count - middle * middle, 0);
+        double band = width * Math.sqrt(variance);
+        upper = middle + band;
+        lower = middle - band;
+    }
+}
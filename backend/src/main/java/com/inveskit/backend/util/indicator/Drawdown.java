@@ -0,0 +1,20 @@
+package com.inveskit.backend.util.indicator;
+
+import lombok.Getter;
+
+// 고점 대비 하락률 (0 이하, -0.2 = 고점 대비 20% 하락)
+@Getter
+public final class Drawdown {
+
+    private double peak = Double.NaN;
+    private double maxDrawdown;
+
+    public double update(double close) {
+        if (Double.isNaN(peak) || close > peak) {
+            peak = close;
+        }
+        double drawdown = peak > 0 ? close / peak - 1 : 0;
+        maxDrawdown = Math.min(maxDrawdown, drawdown);
+        return drawdown;
+    }
+}
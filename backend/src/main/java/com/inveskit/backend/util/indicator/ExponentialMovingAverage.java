@@ -0,0 +1,32 @@
+package com.inveskit.backend.util.indicator;
+
+// 지수 이동평균 - 첫 값은 처음 period 개의 단순 평균으로 시작
+public final class ExponentialMovingAverage {
+
+    private final int period;
+    private final double alpha;
+    private int count;
+    private double value = Double.NaN;
+
+    public ExponentialMovingAverage(int period) {
+        if (period < 1) {
+            throw new IllegalArgumentException("period must be positive: " + period);
+        }
+        this.period = period;
+        this.alpha = 2.0 / (period + 1);
+    }
+
+    public double update(double x) {
+        if (count < period) {
+            count++;
+            value = count == 1 ? x : value + x;
+            if (count < period) {
+                return Double.NaN;
+            }
+            value /= period;
+            return value;
+        }
+        value += alpha * (x - value);
+        return value;
+    }
+}
@@ -0,0 +1,142 @@
+package com.inveskit.backend.util.indicator;
+
+import com.inveskit.backend.domain.IndicatorSeries;
+import com.inveskit.backend.domain.StockPriceSeries;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+// 한 종목의 지표 계산 상태 + 결과 컬럼
+// 새 일봉은 append 로 뒤에만 붙이고, 계산기 상태를 그대로 이어서 봉마다 O(1) 로 갱신
+// 스레드 안전하지 않음 - 호출하는 쪽에서 동기화
+public class IndicatorEngine {
+
+    private static final int SMA = 0;
+    private static final int EMA = 1;
+    private static final int RSI = 2;
+    private static final int MACD = 3;
+    private static final int MACD_SIGNAL = 4;
+    private static final int MACD_HISTOGRAM = 5;
+    private static final int BB_UPPER = 6;
+    private static final int BB_MIDDLE = 7;
+    private static final int BB_LOWER = 8;
+    private static final int ATR = 9;
+    private static final int VWAP = 10;
+    private static final int DRAWDOWN = 11;
+    private static final int COLUMN_COUNT = 12;
+
+    private final String stockCode;
+
+    private final SimpleMovingAverage sma = new SimpleMovingAverage(20);
+    private final ExponentialMovingAverage ema = new ExponentialMovingAverage(20);
+    private final RelativeStrengthIndex rsi = new RelativeStrengthIndex(14);
+    private final Macd macd = new Macd(12, 26, 9);
+    private final BollingerBands bollinger = new BollingerBands(20, 2.0);
+    private final AverageTrueRange atr = new AverageTrueRange(14);
+    private final Vwap vwap = new Vwap();
+    private final Drawdown drawdown = new Drawdown();
+
+    private int size;
+    private int[] epochDays;
+    private double[] close;
+    private final double[][] columns = new double[COLUMN_COUNT][];
+
+    public IndicatorEngine(String stockCode, int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 16);
+        this.stockCode = stockCode;
+        this.epochDays = new int[capacity];
+        this.close = new double[capacity];
+        for (int c = 0; c < COLUMN_COUNT; c++) {
+            columns[c] = new double[capacity];
+        }
+    }
+
+    // 마지막으로 반영한 거래일 (없으면 null)
+    public LocalDate getLastDate() {
+        return size == 0 ? null : LocalDate.ofEpochDay(epochDays[size - 1]);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // 마지막 거래일 이후의 봉만 이어 붙임 (그 이전 날짜는 무시 - 중간 보정은 새로 계산해야 함)
+    public void append(StockPriceSeries series) {
+        int from = 0;
+        if (size > 0) {
+            from = series.lowerBound(LocalDate.ofEpochDay(epochDays[size - 1] + 1L));
+        }
+        for (int i = from; i < series.getSize(); i++) {
+            double c = series.getClose()[i];
+            if (Double.isNaN(c)) {
+                continue;
+            }
+            add(series.getEpochDays()[i], series.getHigh()[i], series.getLow()[i], c, series.getVolume()[i]);
+        }
+    }
+
+    private void add(int epochDay, double high, double low, double c, long volume) {
+        if (size == epochDays.length) {
+            grow();
+        }
+        epochDays[size] = epochDay;
+        close[size] = c;
+
+        columns[SMA][size] = sma.update(c);
+        columns[EMA][size] = ema.update(c);
+        columns[RSI][size] = rsi.update(c);
+
+        macd.update(c);
+        columns[MACD][size] = macd.getMacd();
+        columns[MACD_SIGNAL][size] = macd.getSignal();
+        columns[MACD_HISTOGRAM][size] = macd.getHistogram();
+
+        bollinger.update(c);
+        columns[BB_UPPER][size] = bollinger.getUpper();
+        columns[BB_MIDDLE][size] = bollinger.getMiddle();
+        columns[BB_LOWER][size] = bollinger.getLower();
+
+        columns[ATR][size] = atr.update(high, low, c);
+        columns[VWAP][size] = vwap.update(high, low, c, volume);
+        columns[DRAWDOWN][size] = drawdown.update(c);
+        size++;
+    }
+
+    // [startDate, endDate] 구간을 복사해서 반환 (워밍업은 전체 이력으로 이미 끝난 상태)
+    public IndicatorSeries slice(LocalDate startDate, LocalDate endDate) {
+        int from = lowerBound((int) startDate.toEpochDay());
+        int to = lowerBound((int) endDate.toEpochDay() + 1);
+        if (to < from) {
+            to = from;
+        }
+        return new IndicatorSeries(stockCode,
+                Arrays.copyOfRange(epochDays, from, to),
+                Arrays.copyOfRange(close, from, to),
+                Arrays.copyOfRange(columns[SMA], from, to),
+                Arrays.copyOfRange(columns[EMA], from, to),
+                Arrays.copyOfRange(columns[RSI], from, to),
+                Arrays.copyOfRange(columns[MACD], from, to),
+                Arrays.copyOfRange(columns[MACD_SIGNAL], from, to),
+                Arrays.copyOfRange(columns[MACD_HISTOGRAM], from, to),
+                Arrays.copyOfRange(columns[BB_UPPER], from, to),
+                Arrays.copyOfRange(columns[BB_MIDDLE], from, to),
+                Arrays.copyOfRange(columns[BB_LOWER], from, to),
+                Arrays.copyOfRange(columns[ATR], from, to),
+                Arrays.copyOfRange(columns[VWAP], from, to),
+                Arrays.copyOfRange(columns[DRAWDOWN], from, to));
+    }
+
+    private int lowerBound(int epochDay) {
+        int idx = Arrays.binarySearch(epochDays, 0, size, epochDay);
+        return idx >= 0 ? idx : -idx - 1;
+    }
+
+    private void grow() {
+        int capacity = epochDays.length * 2;
+        epochDays = Arrays.copyOf(epochDays, capacity);
+        close = Arrays.copyOf(close, capacity);
+        for (int c = 0; c < COLUMN_COUNT; c++) {
+            columns[c] = Arrays.copyOf(columns[c], capacity);
+        }
+    }
+}
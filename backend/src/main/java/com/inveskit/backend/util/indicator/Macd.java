@@ -0,0 +1,35 @@
+package com.inveskit.backend.util.indicator;
+
+import lombok.Getter;
+
+// MACD = 단기 EMA - 장기 EMA, 시그널 = MACD 의 EMA, 히스토그램 = MACD - 시그널
+// update 후 getter 로 세 값을 읽음
+@Getter
+public final class Macd {
+
+    private final ExponentialMovingAverage fast;
+    private final ExponentialMovingAverage slow;
+    private final ExponentialMovingAverage signalEma;
+
+    private double macd = Double.NaN;
+    private double signal = Double.NaN;
+    private double histogram = Double.NaN;
+
+    public Macd(int fastPeriod, int slowPeriod, int signalPeriod) {
+        this.fast = new ExponentialMovingAverage(fastPeriod);
+        this.slow = new ExponentialMovingAverage(slowPeriod);
+        this.signalEma = new ExponentialMovingAverage(signalPeriod);
+    }
+
+    public void update(double close) {
+        double fastValue = fast.update(close);
+        double slowValue = slow.update(close);
+        if (Double.isNaN(fastValue) || Double.isNaN(slowValue)) {
+            macd = signal = histogram = Double.NaN;
+            return;
+        }
+        macd = fastValue - slowValue;
+        signal = signalEma.update(macd);
+        histogram = Double.isNaN(signal) ? Double.NaN : macd - signal;
+    }
+}
@@ -0,0 +1,48 @@
+package com.inveskit.backend.util.indicator;
+
+// RSI (Wilder 평활) - 처음 period 개 변화량의 평균으로 시작
+public final class RelativeStrengthIndex {
+
+    private final int period;
+    private double previous = Double.NaN;
+    private int count;
+    private double avgGain;
+    private double avgLoss;
+
+    public RelativeStrengthIndex(int period) {
+        if (period < 1) {
+            throw new IllegalArgumentException("period must be positive: " + period);
+        }
+        this.period = period;
+    }
+
+    public double update(double close) {
+        if (Double.isNaN(previous)) {
+            previous = close;
+            return Double.NaN;
+        }
+        double change = close - previous;
+        previous = close;
+        double gain = Math.max(change, 0);
+        double loss = Math.max(-change, 0);
+
+        if (count < period) {
+            avgGain += gain;
+            avgLoss += loss;
+            count++;
+            if (count < period) {
+                return Double.NaN;
+            }
+            avgGain /= period;
+            avgLoss /= period;
+        } else {
+            avgGain = (avgGain * (period - 1) + gain) / period;
+            avgLoss = (avgLoss * (period - 1) + loss) / period;
+        }
+
+        if (avgLoss == 0) {
+            return avgGain == 0 ? 50 : 100;
+        }
+        return 100 - 100 / (1 + avgGain / avgLoss);
+    }
+}
@@ -0,0 +1,30 @@
+package com.inveskit.backend.util.indicator;
+
+// 단순 이동평균 - 링 버퍼 + 누적 합으로 봉마다 O(1)
+// 기간이 다 찰 때까지는 NaN
+public final class SimpleMovingAverage {
+
+    private final double[] window;
+    private int count;
+    private int next;
+    private double sum;
+
+    public SimpleMovingAverage(int period) {
+        if (period < 1) {
+            throw new IllegalArgumentException("period must be positive: " + period);
+        }
+        this.window = new double[period];
+    }
+
+    public double update(double value) {
+        if (count == window.length) {
+            sum -= window[next];
+        } else {
+            count++;
+        }
+        window[next] = value;
+        sum += value;
+        next = (next + 1) % window.length;
+        return count == window.length ? sum / count : Double.NaN;
+    }
+}
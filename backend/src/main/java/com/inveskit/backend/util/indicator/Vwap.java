@@ -0,0 +1,19 @@
+package com.inveskit.backend.util.indicator;
+
+// 누적 VWAP (시계열 시작 시점 기준) - 대표가격 (고+저+종)/3 을 거래량으로 가중 평균
+// 거래량이 없는 봉은 반영하지 않음
+public final class Vwap {
+
+    private double priceVolume;
+    private double volume;
+
+    public double update(double high, double low, double close, long barVolume) {
+        if (barVolume > 0) {
+            double h = Double.isNaN(high) ? close : high;
+            double l = Double.isNaN(low) ? close : low;
+            priceVolume += (h + l + close) / 3 * barVolume;
+            volume += barVolume;
+        }
+        return volume > 0 ? priceVolume / volume : Double.NaN;
+    }
+}
@@ -0,0 +1,63 @@
+package com.inveskit.backend.util.rollup;
+
+// Largest-Triangle-Three-Buckets 다운샘플링
+// 처음/마지막 점은 그대로 두고, 나머지를 (threshold - 2) 개 구간으로 나눠 구간마다
+// 이전에 고른 점과 다음 구간 평균점으로 만든 삼각형 넓이가 가장 큰 점 하나를 고름 (고점/저점이 살아남음)
+public final class Lttb {
+
+    private Lttb() {
+    }
+
+    // 고른 점의 인덱스 (오름차순). 점이 threshold 이하이거나 threshold < 3 이면 전체
+    public static int[] downsample(int[] x, double[] y, int threshold) {
+        int n = x.length;
+        if (threshold >= n || threshold < 3) {
+            int[] all = new int[n];
+            for (int i = 0; i < n; i++) {
+                all[i] = i;
+            }
+            return all;
+        }
+
+        int[] selected = new int[threshold];
+        double bucketSize = (double) (n - 2) / (threshold - 2);
+        int a = 0;
+        selected[0] = 0;
+
+        for (int bucket = 0; bucket < threshold - 2; bucket++) {
+            // 다음 구간 평균점
+            int nextStart = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+            int nextEnd = Math.min((int) Math.floor((bucket + 2) * bucketSize) + 1, n);
+            // 마지막 구간의 다음 구간은 마지막 점 하나
+            nextEnd = Math.max(nextEnd, nextStart + 1);
+            double avgX = 0;
+            double avgY = 0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                avgX += x[i];
+                avgY += y[i];
+            }
+            int nextCount = nextEnd - nextStart;
+            avgX /= nextCount;
+            avgY /= nextCount;
+
+            // 현재 구간에서 삼각형 넓이가 가장 큰 점
+            int start = (int) Math.floor(bucket * bucketSize) + 1;
+            int end = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+            double maxArea = -1;
+            int maxIndex = start;
+            for (int i = start; i < end; i++) {
+                double area = Math.abs((x[a] - avgX) * (y[i] - y[a]) - (x[a] - x[i]) * (avgY - y[a]));
+                if (area > maxArea) {
+                    maxArea = area;
+                    maxIndex = i;
+                }
+            }
+
+            selected[bucket + 1] = maxIndex;
+            a = maxIndex;
+        }
+
+        selected[threshold - 1] = n - 1;
+        return selected;
+    }
+}
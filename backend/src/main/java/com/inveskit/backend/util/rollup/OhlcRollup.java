@@ -0,0 +1,149 @@
+package com.inveskit.backend.util.rollup;
+
+import com.inveskit.backend.domain.StockPriceSeries;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+// 일봉을 주봉/월봉으로 묶은 OHLCV (컬럼 배열)
+// 새 일봉은 append 로 뒤에만 붙이고, 마지막 봉과 같은 기간이면 그 봉을 갱신 (봉마다 O(1))
+// 봉의 날짜는 그 기간의 마지막 거래일
+// 스레드 안전하지 않음 - 호출하는 쪽에서 동기화
+public class OhlcRollup {
+
+    private final String stockCode;
+    private final Resolution resolution;
+
+    private int size;
+    private int[] periodKeys;
+    private int[] epochDays;
+    private double[] open;
+    private double[] high;
+    private double[] low;
+    private double[] close;
+    private double[] adjClose;
+    private long[] volume;
+
+    public OhlcRollup(String stockCode, Resolution resolution, int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 16);
+        this.stockCode = stockCode;
+        this.resolution = resolution;
+        this.periodKeys = new int[capacity];
+        this.epochDays = new int[capacity];
+        this.open = new double[capacity];
+        this.high = new double[capacity];
+        this.low = new double[capacity];
+        this.close = new double[capacity];
+        this.adjClose = new double[capacity];
+        this.volume = new long[capacity];
+    }
+
+    public Resolution getResolution() {
+        return resolution;
+    }
+
+    // 마지막으로 반영한 거래일 (없으면 null)
+    public LocalDate getLastDate() {
+        return size == 0 ? null : LocalDate.ofEpochDay(epochDays[size - 1]);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // 마지막 거래일 이후의 일봉만 반영 (그 이전 날짜는 무시 - 중간 보정은 새로 계산해야 함)
+    public void append(StockPriceSeries series) {
+        int from = 0;
+        if (size > 0) {
+            from = series.lowerBound(LocalDate.ofEpochDay(epochDays[size - 1] + 1L));
+        }
+        for (int i = from; i < series.getSize(); i++) {
+            if (Double.isNaN(series.getClose()[i])) {
+                continue;
+            }
+            add(series.getEpochDays()[i], series.getOpen()[i], series.getHigh()[i], series.getLow()[i],
+                    series.getClose()[i], series.getAdjClose()[i], series.getVolume()[i]);
+        }
+    }
+
+    private void add(int epochDay, double o, double h, double l, double c, double ac, long v) {
+        int key = resolution.periodKey(epochDay);
+        if (size > 0 && periodKeys[size - 1] == key) {
+            int last = size - 1;
+            epochDays[last] = epochDay;
+            high[last] = maxIgnoringNaN(high[last], h);
+            low[last] = minIgnoringNaN(low[last], l);
+            close[last] = c;
+            adjClose[last] = ac;
+            if (v >= 0) {
+                volume[last] = volume[last] < 0 ? v : volume[last] + v;
+            }
+            return;
+        }
+
+        if (size == epochDays.length) {
+            grow();
+        }
+        periodKeys[size] = key;
+        epochDays[size] = epochDay;
+        open[size] = o;
+        high[size] = h;
+        low[size] = l;
+        close[size] = c;
+        adjClose[size] = ac;
+        volume[size] = v;
+        size++;
+    }
+
+    // 마지막 거래일이 [startDate, endDate] 안에 있는 봉 수
+    public int count(LocalDate startDate, LocalDate endDate) {
+        return Math.max(upperIndex(endDate) - lowerIndex(startDate), 0);
+    }
+
+    // [startDate, endDate] 구간을 복사해서 반환
+    public StockPriceSeries slice(LocalDate startDate, LocalDate endDate) {
+        int from = lowerIndex(startDate);
+        int to = Math.max(upperIndex(endDate), from);
+        return new StockPriceSeries(stockCode,
+                Arrays.copyOfRange(epochDays, from, to),
+                Arrays.copyOfRange(open, from, to),
+                Arrays.copyOfRange(high, from, to),
+                Arrays.copyOfRange(low, from, to),
+                Arrays.copyOfRange(close, from, to),
+                Arrays.copyOfRange(adjClose, from, to),
+                Arrays.copyOfRange(volume, from, to));
+    }
+
+    private int lowerIndex(LocalDate startDate) {
+        return lowerBound((int) startDate.toEpochDay());
+    }
+
+    private int upperIndex(LocalDate endDate) {
+        return lowerBound((int) endDate.toEpochDay() + 1);
+    }
+
+    private int lowerBound(int epochDay) {
+        int idx = Arrays.binarySearch(epochDays, 0, size, epochDay);
+        return idx >= 0 ? idx : -idx - 1;
+    }
+
+    private static double maxIgnoringNaN(double a, double b) {
+        return Double.isNaN(a) ? b : Double.isNaN(b) ? a : Math.max(a, b);
+    }
+
+    private static double minIgnoringNaN(double a, double b) {
+        return Double.isNaN(a) ? b : Double.isNaN(b) ? a : Math.min(a, b);
+    }
+
+    private void grow() {
+        int capacity = epochDays.length * 2;
+        periodKeys = Arrays.copyOf(periodKeys, capacity);
+        epochDays = Arrays.copyOf(epochDays, capacity);
+        open = Arrays.copyOf(open, capacity);
+        high = Arrays.copyOf(high, capacity);
+        low = Arrays.copyOf(low, capacity);
+        close = Arrays.copyOf(close, capacity);
+        adjClose = Arrays.copyOf(adjClose, capacity);
+        volume = Arrays.copyOf(volume, capacity);
+    }
+}
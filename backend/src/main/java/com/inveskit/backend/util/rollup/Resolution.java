@@ -0,0 +1,22 @@
+package com.inveskit.backend.util.rollup;
+
+import java.time.LocalDate;
+
+// 차트 봉 단위 (AUTO: 요청한 점 개수 안에 들어오는 가장 세밀한 단위)
+public enum Resolution {
+    DAILY, WEEKLY, MONTHLY, AUTO;
+
+    // 같은 봉에 묶이는 거래일은 같은 키 (주봉: 월요일 시작, 월봉: 달력 월)
+    public int periodKey(int epochDay) {
+        return switch (this) {
+            case DAILY -> epochDay;
+            // epoch-day 0 (1970-01-01) 이 목요일이므로 +3 하면 월요일 경계
+            case WEEKLY -> Math.floorDiv(epochDay + 3, 7);
+            case MONTHLY -> {
+                LocalDate date = LocalDate.ofEpochDay(epochDay);
+                yield date.getYear() * 12 + date.getMonthValue() - 1;
+            }
+            case AUTO -> throw new IllegalStateException("AUTO 는 실제 봉 단위가 아닙니다");
+        };
+    }
+}
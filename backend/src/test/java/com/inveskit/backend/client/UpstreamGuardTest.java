@@ -0,0 +1,66 @@
+package com.inveskit.backend.client;
+
+import com.inveskit.backend.util.TokenBucketRateLimiter;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UpstreamGuardTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void everyRetryAttemptTakesARateLimiterToken() {
+        // 시계를 멈춰 두면 토큰이 다시 채워지지 않으므로 남은 토큰 수로 시도 횟수를 확인할 수 있음
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 3, () -> 0L);
+        UpstreamGuard guard = guard(limiter);
+
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<String> call = Mono.defer(() -> attempts.incrementAndGet() <= 2
+                ? Mono.error(unavailable())
+                : Mono.just("ok"));
+
+        assertThat(guard.protect(call).block(Duration.ofSeconds(5))).isEqualTo("ok");
+        assertThat(attempts).hasValue(3);
+        // 3번의 시도가 토큰 3개를 모두 썼으므로 다음 예약은 1초(토큰 하나) 기다려야 함
+        assertThat(limiter.reserve()).isEqualTo(1_000_000_000L);
+    }
+
+    @Test
+    void failedAttemptsAreCountedByStatus() {
+        UpstreamGuard guard = guard(null);
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<String> call = Mono.defer(() -> attempts.incrementAndGet() <= 2
+                ? Mono.error(unavailable())
+                : Mono.just("ok"));
+
+        guard.protect(call).block(Duration.ofSeconds(5));
+
+        assertThat(meterRegistry.get("upstream.errors")
+                .tag("upstream", "test")
+                .tag("status", "503")
+                .counter()
+                .count()).isEqualTo(2.0);
+    }
+
+    private UpstreamGuard guard(TokenBucketRateLimiter limiter) {
+        return new UpstreamGuard("test",
+                CircuitBreaker.ofDefaults("test"),
+                Bulkhead.ofDefaults("test"),
+                2, Duration.ofMillis(1), Duration.ofMillis(5),
+                limiter, meterRegistry);
+    }
+
+    private static WebClientResponseException unavailable() {
+        return WebClientResponseException.create(503, "Service Unavailable", HttpHeaders.EMPTY, new byte[0], null);
+    }
+}
@@ -0,0 +1,200 @@
+package com.inveskit.backend.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class YahooChartParserTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    @Test
+    void parsesOneYearFixture() throws IOException {
+        YahooChart chart = YahooChartParser.parse(fixture("chart-005930.KS-1y.json"));
+
+        assertThat(chart.getSize()).isEqualTo(250);
+        assertThat(chart.getTimestamps()[0]).isEqualTo(1735743600L);
+        assertThat(chart.getOpen()[0]).isEqualTo(52960.0);
+        assertThat(chart.getClose()[0]).isEqualTo(54300.0);
+        assertThat(chart.getClose()[1]).isEqualTo(54620.0);
+        assertThat(chart.getClose()[249]).isEqualTo(52800.0);
+        assertThat(chart.getVolume()[0]).isEqualTo(5445363L);
+
+        // 6번째 봉은 값이 모두 null
+        assertThat(chart.getClose()[5]).isNaN();
+        assertThat(chart.getOpen()[5]).isNaN();
+        assertThat(chart.getAdjClose()[5]).isNaN();
+        assertThat(chart.getVolume()[5]).isEqualTo(-1L);
+
+        assertThat(chart.getAdjClose()).hasSize(250);
+        assertThat(chart.getAdjClose()[0]).isEqualTo(53485.5);
+    }
+
+    @Test
+    void convertsFixtureToPriceDataSkippingNullCloses() throws IOException {
+        List<StockPriceData> prices = YahooChartParser.parse(fixture("chart-005930.KS-1y.json")).toPriceData(SEOUL);
+
+        assertThat(prices).hasSize(243);
+        assertThat(prices.get(0).getDate()).isEqualTo(LocalDate.of(2025, 1, 2));
+        assertThat(prices.get(0).getClosePrice()).isEqualByComparingTo(new BigDecimal("54300"));
+        assertThat(prices.get(prices.size() - 1).getDate()).isEqualTo(LocalDate.of(2025, 12, 17));
+        assertThat(prices.get(prices.size() - 1).getClosePrice()).isEqualByComparingTo(new BigDecimal("52800"));
+    }
+
+    @Test
+    void parsesFiveYearFixture() throws IOException {
+        YahooChart chart = YahooChartParser.parse(fixture("chart-000660.KS-5y.json"));
+
+        assertThat(chart.getSize()).isEqualTo(1250);
+        assertThat(chart.getTimestamps()[0]).isEqualTo(1577890800L);
+        assertThat(chart.getTimestamps()[1249]).isEqualTo(1729004400L);
+        assertThat(chart.getClose()[0]).isEqualTo(94010.0);
+        assertThat(chart.getVolume()[0]).isEqualTo(12338772L);
+        assertThat(chart.toPriceData(SEOUL)).hasSize(1242);
+    }
+
+    // 한 바이트씩 나눠 넣어도 한 번에 넣은 것과 같은 결과
+    @Test
+    void byteByByteFeedMatchesWholeBody() throws IOException {
+        byte[] body;
+        try (InputStream in = fixture("chart-005930.KS-1y.json")) {
+            body = in.readAllBytes();
+        }
+
+        YahooChart chart;
+        try (YahooChartParser parser = new YahooChartParser(Long.MAX_VALUE)) {
+            for (int i = 0; i < body.length; i++) {
+                parser.feed(body, i, 1);
+            }
+            chart = parser.finish();
+        }
+        YahooChart whole = YahooChartParser.parse(new ByteArrayInputStream(body));
+
+        assertThat(chart.getTimestamps()).isEqualTo(whole.getTimestamps());
+        assertThat(chart.getClose()).isEqualTo(whole.getClose());
+        assertThat(chart.getVolume()).isEqualTo(whole.getVolume());
+    }
+
+    @Test
+    void nullValuesBecomeNaNAndNullVolumeBecomesMinusOne() throws IOException {
+        YahooChart chart = parse("""
+                {"chart":{"result":[{"meta":{"validRanges":["1d","5d"]},
+                  "timestamp":[1700000000,1700086400,1700172800],
+                  "indicators":{
+                    "quote":[{"open":[1.5,null,3],"high":[2,null,4],"low":[1,null,2],
+                              "close":[1.75,null,3.25],"volume":[100,null,300]}],
+                    "adjclose":[{"adjclose":[1.7,null,3.2]}]}}],
+                "error":null}}
+                """);
+
+        assertThat(chart.getSize()).isEqualTo(3);
+        assertThat(chart.getOpen()).containsExactly(1.5, Double.NaN, 3.0);
+        assertThat(chart.getClose()).containsExactly(1.75, Double.NaN, 3.25);
+        assertThat(chart.getAdjClose()).containsExactly(1.7, Double.NaN, 3.2);
+        assertThat(chart.getVolume()).containsExactly(100L, -1L, 300L);
+    }
+
+    // 타임스탬프가 null 인 봉은 종가가 있어도 저장하지 않음 (1970-01-01 로 저장되지 않도록)
+    @Test
+    void nullTimestampBarIsSkipped() throws IOException {
+        YahooChart chart = parse("""
+                {"chart":{"result":[{"timestamp":[1735743600,null,1736175600],
+                  "indicators":{"quote":[{"close":[54300,54400,54500],"volume":[1,2,3]}]}}]}}
+                """);
+
+        assertThat(chart.getTimestamps()).containsExactly(1735743600L, -1L, 1736175600L);
+
+        List<StockPriceData> prices = chart.toPriceData(SEOUL);
+        assertThat(prices).extracting(StockPriceData::getDate)
+                .containsExactly(LocalDate.of(2025, 1, 2), LocalDate.of(2025, 1, 7));
+        assertThat(prices).extracting(StockPriceData::getClosePrice)
+                .containsExactly(new BigDecimal("54300.00"), new BigDecimal("54500.00"));
+    }
+
+    // 응답에 없는 컬럼은 결측값으로 채움
+    @Test
+    void missingColumnsAreFilled() throws IOException {
+        YahooChart chart = parse("""
+                {"chart":{"result":[{"timestamp":[1,2],"indicators":{"quote":[{"close":[10,11]}]}}]}}
+                """);
+
+        assertThat(chart.getOpen()).containsExactly(Double.NaN, Double.NaN);
+        assertThat(chart.getAdjClose()).containsExactly(Double.NaN, Double.NaN);
+        assertThat(chart.getVolume()).containsExactly(-1L, -1L);
+    }
+
+    // result / quote 배열은 첫 번째 원소만 사용
+    @Test
+    void readsOnlyFirstResultAndQuote() throws IOException {
+        YahooChart chart = parse("""
+                {"chart":{"result":[
+                  {"timestamp":[1],"indicators":{"quote":[{"close":[10]},{"close":[99]}]}},
+                  {"timestamp":[2,3],"indicators":{"quote":[{"close":[20,30]}]}}]}}
+                """);
+
+        assertThat(chart.getTimestamps()).containsExactly(1L);
+        assertThat(chart.getClose()).containsExactly(10.0);
+    }
+
+    @Test
+    void emptyOrNullResultIsEmptyChart() throws IOException {
+        assertThat(parse("{\"chart\":{\"result\":[],\"error\":null}}")).isSameAs(YahooChart.EMPTY);
+        assertThat(parse("{\"chart\":{\"result\":null,\"error\":null}}")).isSameAs(YahooChart.EMPTY);
+        assertThat(parse("")).isSameAs(YahooChart.EMPTY);
+    }
+
+    @Test
+    void errorObjectFails() {
+        assertThatThrownBy(() -> parse("""
+                {"chart":{"result":null,"error":{"code":"Not Found","description":"No data found, symbol may be delisted"}}}
+                """))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("No data found, symbol may be delisted");
+    }
+
+    @Test
+    void timestampCloseSizeMismatchFails() {
+        assertThatThrownBy(() -> parse("""
+                {"chart":{"result":[{"timestamp":[1,2],"indicators":{"quote":[{"close":[10]}]}}]}}
+                """))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("size mismatch");
+    }
+
+    @Test
+    void truncatedBodyFails() {
+        assertThatThrownBy(() -> parse("{\"chart\":{\"result\":[{\"timestamp\":[1,2"))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void bodyOverLimitFails() throws IOException {
+        byte[] body = "{\"chart\":{\"result\":[]}}".getBytes(StandardCharsets.UTF_8);
+
+        try (YahooChartParser parser = new YahooChartParser(body.length - 1)) {
+            assertThatThrownBy(() -> parser.feed(body, 0, body.length))
+                    .isInstanceOf(IOException.class)
+                    .hasMessageContaining("exceeds");
+        }
+    }
+
+    private static YahooChart parse(String json) throws IOException {
+        return YahooChartParser.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private InputStream fixture(String name) {
+        InputStream in = getClass().getResourceAsStream("/yahoo/" + name);
+        assertThat(in).as("fixture %s", name).isNotNull();
+        return in;
+    }
+}
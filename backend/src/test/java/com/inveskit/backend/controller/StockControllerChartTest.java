@@ -0,0 +1,129 @@
+package com.inveskit.backend.controller;
+
+import com.inveskit.backend.service.ChartSeriesService;
+import com.inveskit.backend.service.IndicatorService;
+import com.inveskit.backend.service.IngestionJobService;
+import com.inveskit.backend.service.PriceRollupService;
+import com.inveskit.backend.service.PriceStreamService;
+import com.inveskit.backend.service.StockPriceCache;
+import com.inveskit.backend.service.StockPriceService;
+import com.inveskit.backend.service.SymbolMasterService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class StockControllerChartTest {
+
+    private static final String ETAG = "0123456789abcdef0123456789abcdef";
+    private static final byte[] JSON = "{\"stockCode\":\"005930\"}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] GZIP = {0x1f, (byte) 0x8b, 8, 0};
+
+    private final ChartSeriesService chartSeriesService = mock(ChartSeriesService.class);
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        StockController controller = new StockController(mock(StockPriceService.class),
+                mock(IngestionJobService.class), mock(StockPriceCache.class), mock(SymbolMasterService.class),
+                mock(IndicatorService.class), mock(PriceStreamService.class), chartSeriesService,
+                mock(PriceRollupService.class));
+        ReflectionTestUtils.setField(controller, "chartMaxAge", Duration.ofMinutes(1));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+
+        when(chartSeriesService.getChart(eq("005930"), any(), any(), anyBoolean()))
+                .thenReturn(new ChartSeriesService.ChartPayload(JSON, GZIP, ETAG));
+    }
+
+    @Test
+    void servesPlainAndGzipVariantsWithDistinctEtags() throws Exception {
+        mockMvc.perform(get("/api/stocks/chart").param("stockCode", "005930"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, quoted(ETAG)))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().bytes(JSON));
+
+        mockMvc.perform(get("/api/stocks/chart").param("stockCode", "005930")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, quoted(ETAG + "-gz")))
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andExpect(content().bytes(GZIP));
+    }
+
+    // 보내는 표현과 같은 ETag 일 때만 304
+    @Test
+    void matchingEtagOfServedVariantIsNotModified() throws Exception {
+        mockMvc.perform(get("/api/stocks/chart").param("stockCode", "005930")
+                        .header(HttpHeaders.IF_NONE_MATCH, quoted(ETAG)))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+
+        mockMvc.perform(get("/api/stocks/chart").param("stockCode", "005930")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, quoted(ETAG + "-gz")))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    // 다른 표현의 ETag 로는 304 가 나가지 않음 (gzip 본문을 받은 캐시가 원본 요청에 재사용하지 않도록)
+    @Test
+    void etagOfOtherVariantIsServedInFull() throws Exception {
+        mockMvc.perform(get("/api/stocks/chart").param("stockCode", "005930")
+                        .header(HttpHeaders.IF_NONE_MATCH, quoted(ETAG + "-gz")))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().bytes(JSON));
+
+        mockMvc.perform(get("/api/stocks/chart").param("stockCode", "005930")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, quoted(ETAG)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(content().bytes(GZIP));
+    }
+
+    // q 값이 0 이면 (표기와 관계없이) gzip 거부
+    @Test
+    void gzipWithZeroQualityIsNotUsed() throws Exception {
+        for (String acceptEncoding : new String[]{"gzip;q=0, identity", "gzip;q=0.0", "gzip; q=0.000", "GZIP;Q=0"}) {
+            mockMvc.perform(get("/api/stocks/chart").param("stockCode", "005930")
+                            .header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, quoted(ETAG)))
+                    .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                    .andExpect(content().bytes(JSON));
+        }
+    }
+
+    @Test
+    void gzipWithPositiveQualityIsUsed() throws Exception {
+        for (String acceptEncoding : new String[]{"gzip;q=0.001", "deflate, gzip; q=1.0", "br;q=1, gzip;q=0.5"}) {
+            mockMvc.perform(get("/api/stocks/chart").param("stockCode", "005930")
+                            .header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                    .andExpect(content().bytes(GZIP));
+        }
+    }
+
+    private static String quoted(String etag) {
+        return "\"" + etag + "\"";
+    }
+}
@@ -0,0 +1,60 @@
+package com.inveskit.backend.controller;
+
+import com.inveskit.backend.dto.SymbolImportResult;
+import com.inveskit.backend.service.SymbolMasterService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class SymbolControllerTest {
+
+    private final SymbolMasterService symbolMasterService = mock(SymbolMasterService.class);
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new SymbolController(symbolMasterService)).build();
+    }
+
+    @Test
+    void importsCsv() throws Exception {
+        when(symbolMasterService.importKrxCsv(any(), any(), anyBoolean()))
+                .thenReturn(SymbolImportResult.builder().total(1).inserted(1).build());
+
+        mockMvc.perform(multipart("/api/symbols/import").file(file("단축코드,한글 종목약명,시장구분\n")))
+                .andExpect(status().isOk());
+    }
+
+    // 빈 파일 / 헤더 컬럼 누락은 서비스가 IllegalArgumentException -> 400
+    @Test
+    void invalidFileIsBadRequest() throws Exception {
+        when(symbolMasterService.importKrxCsv(any(), any(), anyBoolean()))
+                .thenThrow(new IllegalArgumentException("빈 파일입니다."));
+
+        mockMvc.perform(multipart("/api/symbols/import").file(file("")))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void unknownCharsetIsBadRequest() throws Exception {
+        mockMvc.perform(multipart("/api/symbols/import").file(file("a,b,c\n")).param("charset", "NO-SUCH-CHARSET"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(multipart("/api/symbols/import").file(file("a,b,c\n")).param("charset", "bad name!"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static MockMultipartFile file(String body) {
+        return new MockMultipartFile("file", "symbols.csv", "text/csv", body.getBytes(StandardCharsets.UTF_8));
+    }
+}
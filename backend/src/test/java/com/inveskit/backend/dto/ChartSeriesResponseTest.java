@@ -0,0 +1,83 @@
+package com.inveskit.backend.dto;
+
+import com.inveskit.backend.domain.StockPriceSeries;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ChartSeriesResponseTest {
+
+    private static final int D0 = (int) LocalDate.of(2025, 3, 3).toEpochDay();
+
+    // 종가가 없는 날은 빠지고, 소수점 둘째 자리까지 있으면 scale 2
+    @Test
+    void plainEncodingSkipsMissingClosesAndScalesToIntegers() {
+        ChartSeriesResponse response = ChartSeriesResponse.of(series(), false);
+
+        assertThat(response.getEncoding()).isEqualTo(ChartSeriesResponse.PLAIN);
+        assertThat(response.getScale()).isEqualTo(2);
+        assertThat(response.getDates()).containsExactly(D0, D0 + 1, D0 + 3, D0 + 7);
+        assertThat(response.getClose()).containsExactly(7_000_000L, 7_050_050L, 6_980_025L, 7_100_000L);
+    }
+
+    // delta 를 누적합으로 복원하면 plain 과 같고, 10^scale 로 나누면 원래 종가
+    @Test
+    void deltaDecodeRoundTripsToPlain() {
+        ChartSeriesResponse plain = ChartSeriesResponse.of(series(), false);
+        ChartSeriesResponse delta = ChartSeriesResponse.of(series(), true);
+
+        assertThat(delta.getEncoding()).isEqualTo(ChartSeriesResponse.DELTA);
+        assertThat(delta.getScale()).isEqualTo(plain.getScale());
+        assertThat(delta.getDates()).containsExactly(D0, 1, 2, 4);
+        assertThat(delta.getClose()).containsExactly(7_000_000L, 50_050L, -70_025L, 119_975L);
+
+        int[] dates = delta.getDates().clone();
+        long[] close = delta.getClose().clone();
+        for (int i = 1; i < dates.length; i++) {
+            dates[i] += dates[i - 1];
+            close[i] += close[i - 1];
+        }
+        assertThat(dates).isEqualTo(plain.getDates());
+        assertThat(close).isEqualTo(plain.getClose());
+
+        double factor = Math.pow(10, delta.getScale());
+        assertThat(close[1] / factor).isCloseTo(70500.5, within(1e-9));
+        assertThat(close[2] / factor).isCloseTo(69800.25, within(1e-9));
+    }
+
+    // 원화 정수 종가는 scale 0
+    @Test
+    void integerClosesUseScaleZero() {
+        StockPriceSeries series = new StockPriceSeries.Builder("005930", 2)
+                .add(D0, 1, 1, 1, 70000, 70000, 1)
+                .add(D0 + 1, 1, 1, 1, 69000, 69000, 1)
+                .build();
+
+        ChartSeriesResponse response = ChartSeriesResponse.of(series, true);
+
+        assertThat(response.getScale()).isZero();
+        assertThat(response.getClose()).containsExactly(70000L, -1000L);
+    }
+
+    @Test
+    void emptySeriesEncodesToEmptyArrays() {
+        ChartSeriesResponse response = ChartSeriesResponse.of(new StockPriceSeries.Builder("005930", 0).build(), true);
+
+        assertThat(response.getStockCode()).isEqualTo("005930");
+        assertThat(response.getDates()).isEmpty();
+        assertThat(response.getClose()).isEmpty();
+    }
+
+    private static StockPriceSeries series() {
+        return new StockPriceSeries.Builder("005930", 5)
+                .add(D0, 1, 1, 1, 70000, 70000, 1)
+                .add(D0 + 1, 1, 1, 1, 70500.5, 70500.5, 1)
+                .add(D0 + 2, Double.NaN, Double.NaN, Double.NaN, Double.NaN, Double.NaN, -1)
+                .add(D0 + 3, 1, 1, 1, 69800.25, 69800.25, 1)
+                .add(D0 + 7, 1, 1, 1, 71000, 71000, 1)
+                .build();
+    }
+}
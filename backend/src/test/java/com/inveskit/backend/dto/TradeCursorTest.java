@@ -0,0 +1,54 @@
+package com.inveskit.backend.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TradeCursorTest {
+
+    @Test
+    void roundTrip() {
+        TradeCursor cursor = new TradeCursor(LocalDate.of(2025, 3, 4), 123L);
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).doesNotContain("=", "+", "/", "2025-03-04");
+        assertThat(TradeCursor.decode(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    void roundTripWithLargeId() {
+        TradeCursor cursor = new TradeCursor(LocalDate.of(1999, 12, 31), Long.MAX_VALUE);
+
+        assertThat(TradeCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void garbageIsRejected() {
+        assertInvalid("%%%not-base64%%%");
+        assertInvalid("");
+    }
+
+    @Test
+    void tamperedPayloadIsRejected() {
+        assertInvalid(encode("2025-13-40:1"));
+        assertInvalid(encode("2025-03-04"));
+        assertInvalid(encode("2025-03-04:abc"));
+        assertInvalid(encode(":1"));
+    }
+
+    private static void assertInvalid(String cursor) {
+        assertThatThrownBy(() -> TradeCursor.decode(cursor))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("잘못된 커서");
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,103 @@
+package com.inveskit.backend.repository;
+
+import com.inveskit.backend.domain.Trade;
+import com.inveskit.backend.dto.TradeCursor;
+import com.inveskit.backend.dto.TradeFilter;
+import com.inveskit.backend.dto.TradeResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(TradeJdbcRepository.class)
+class TradeJdbcRepositoryTest {
+
+    private static final LocalDate D1 = LocalDate.of(2025, 1, 2);
+    private static final LocalDate D2 = LocalDate.of(2025, 1, 3);
+
+    @Autowired
+    private TradeRepository tradeRepository;
+
+    @Autowired
+    private TradeJdbcRepository tradeJdbcRepository;
+
+    private final List<Long> expectedOrder = new ArrayList<>();
+
+    // 같은 거래일에 여러 건 - 페이지 경계가 같은 날짜 한가운데 걸리도록
+    @BeforeEach
+    void setUp() {
+        List<Trade> d1 = List.of(trade("삼성전자", D1), trade("SK하이닉스", D1));
+        List<Trade> d2 = List.of(trade("삼성전자", D2), trade("삼성전자", D2), trade("현대차", D2));
+        tradeRepository.saveAll(d1);
+        tradeRepository.saveAll(d2);
+        tradeRepository.flush();
+
+        // 최신순: 거래일 내림차순, 같은 날은 id 내림차순
+        d2.stream().map(Trade::getId).sorted((a, b) -> Long.compare(b, a)).forEach(expectedOrder::add);
+        d1.stream().map(Trade::getId).sorted((a, b) -> Long.compare(b, a)).forEach(expectedOrder::add);
+    }
+
+    @Test
+    void pagesThroughSameDateRowsWithoutGapsOrDuplicates() {
+        List<Long> seen = new ArrayList<>();
+        TradeCursor cursor = null;
+        int pages = 0;
+        while (true) {
+            List<TradeResponse> page = tradeJdbcRepository.findPage(TradeFilter.none(), cursor, 2);
+            if (page.isEmpty()) {
+                break;
+            }
+            page.forEach(trade -> seen.add(trade.getId()));
+            TradeResponse last = page.get(page.size() - 1);
+            // 응답으로 나간 커서를 그대로 다시 받는 경로
+            cursor = TradeCursor.decode(new TradeCursor(last.getDate(), last.getId()).encode());
+            pages++;
+        }
+
+        assertThat(seen).containsExactlyElementsOf(expectedOrder);
+        assertThat(pages).isEqualTo(3);
+    }
+
+    @Test
+    void cursorInsideSameDateContinuesWithLowerIds() {
+        Long middle = expectedOrder.get(1);
+
+        List<TradeResponse> page = tradeJdbcRepository.findPage(
+                TradeFilter.none(), new TradeCursor(D2, middle), 10);
+
+        assertThat(page).extracting(TradeResponse::getId)
+                .containsExactlyElementsOf(expectedOrder.subList(2, expectedOrder.size()));
+    }
+
+    @Test
+    void filterAppliesWithCursor() {
+        TradeFilter filter = new TradeFilter("삼성전자", null, null, null);
+
+        List<TradeResponse> first = tradeJdbcRepository.findPage(filter, null, 2);
+        TradeResponse last = first.get(first.size() - 1);
+        List<TradeResponse> second = tradeJdbcRepository.findPage(filter, new TradeCursor(last.getDate(), last.getId()), 2);
+
+        assertThat(first).extracting(TradeResponse::getDate).containsExactly(D2, D2);
+        assertThat(second).extracting(TradeResponse::getDate).containsExactly(D1);
+        assertThat(second).extracting(TradeResponse::getStockName).containsOnly("삼성전자");
+    }
+
+    private static Trade trade(String stockName, LocalDate date) {
+        return Trade.builder()
+                .stockName(stockName)
+                .stockCode("000000")
+                .tradeType(Trade.TradeType.BUY)
+                .tradeDate(date)
+                .price(1000.0)
+                .quantity(1)
+                .build();
+    }
+}
@@ -0,0 +1,75 @@
+package com.inveskit.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inveskit.backend.client.UpstreamGuard;
+import com.inveskit.backend.dto.AnalysisRequest;
+import com.inveskit.backend.dto.AnalysisResponse;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnalysisServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void successIsRecorded() {
+        AnalysisService service = service(request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body("{\"total_score\":80,\"analysis\":[]}")
+                .build()));
+
+        AnalysisResponse response = service.analyzeTrading(request()).block(Duration.ofSeconds(5));
+
+        assertThat(response.getTotalScore()).isEqualTo(80);
+        assertThat(count("success")).isEqualTo(1);
+    }
+
+    // 클라이언트가 끊어 구독이 취소돼도 응답 시간은 cancel 로 기록
+    @Test
+    void cancelIsRecordedAsItsOwnOutcome() {
+        AnalysisService service = service(request -> Mono.never());
+
+        Disposable subscription = service.analyzeTrading(request()).subscribe();
+        subscription.dispose();
+
+        assertThat(count("cancel")).isEqualTo(1);
+        assertThat(meterRegistry.find("analysis.request").tag("outcome", "success").timer()).isNull();
+    }
+
+    private long count(String outcome) {
+        return meterRegistry.get("analysis.request").tag("outcome", outcome).timer().count();
+    }
+
+    private AnalysisService service(ExchangeFunction exchange) {
+        UpstreamGuard guard = new UpstreamGuard("analysis",
+                CircuitBreaker.ofDefaults("analysis"),
+                Bulkhead.ofDefaults("analysis"),
+                0, Duration.ofMillis(1), Duration.ofMillis(5),
+                null, meterRegistry);
+        return new AnalysisService(WebClient.builder().exchangeFunction(exchange).build(), guard,
+                new ObjectMapper(), 100, Duration.ofMinutes(10), meterRegistry);
+    }
+
+    private static AnalysisRequest request() {
+        return AnalysisRequest.builder()
+                .trades(List.of())
+                .stockPrices(List.of())
+                .strategy("swing")
+                .build();
+    }
+}
@@ -0,0 +1,99 @@
+package com.inveskit.backend.service;
+
+import com.inveskit.backend.domain.StockPriceSeries;
+import com.inveskit.backend.dto.BacktestRequest;
+import com.inveskit.backend.dto.BacktestResponse;
+import com.inveskit.backend.dto.StockDto;
+import com.inveskit.backend.repository.StockPriceJdbcRepository;
+import com.inveskit.backend.util.backtest.Rule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BacktestServiceTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+    private static final LocalDate END = LocalDate.of(2025, 12, 31);
+
+    private final StockPriceJdbcRepository repository = mock(StockPriceJdbcRepository.class);
+    private final SymbolMasterService symbolMaster = mock(SymbolMasterService.class);
+    private final ForkJoinPool pool = new ForkJoinPool(1);
+    private BacktestService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new BacktestService(repository, symbolMaster, pool, 500, 2);
+        when(repository.findSeries(anyString(), any(), any()))
+                .thenAnswer(invocation -> new StockPriceSeries.Builder(invocation.getArgument(0), 0).build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    // 가장 긴 지표 60일 -> 60 x 3 거래일 = 252 달력일 + 휴장일 여유 15일만 시작일 이전에서 읽음
+    @Test
+    void loadsBoundedWarmUpBeforeStartDate() {
+        BacktestResponse response = service.run(request(List.of("005930"), "SMA($fast)", "SMA($slow)",
+                Map.of("fast", List.of(5.0, 20.0), "slow", List.of(60.0))));
+
+        verify(repository).findSeries("005930", START.minusDays(267), END);
+        assertThat(response.getSkippedStockCodes()).containsExactly("005930");
+    }
+
+    @Test
+    void macdWarmUpUsesItsFixedPeriods() {
+        service.run(request(List.of("005930"), "MACD", "MACD_SIGNAL", null));
+
+        // (26 + 9) x 3 x 7 / 5 + 15
+        verify(repository).findSeries("005930", START.minusDays(162), END);
+    }
+
+    @Test
+    void rejectsTooManyStockCodes() {
+        assertThatThrownBy(() -> service.run(request(List.of("005930", "000660", "005380"), "CLOSE", "SMA(5)", null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("종목 수");
+        verify(repository, never()).findSeries(any(), any(), any());
+    }
+
+    // stockCodes 를 비우면 상장 종목 마스터 전체 (상한을 넘으면 거부)
+    @Test
+    void defaultUniverseIsCappedToo() {
+        when(symbolMaster.getListedStocks()).thenReturn(List.of(
+                new StockDto("삼성전자", "005930", "KOSPI"),
+                new StockDto("SK하이닉스", "000660", "KOSPI"),
+                new StockDto("현대차", "005380", "KOSPI")));
+
+        assertThatThrownBy(() -> service.run(request(null, "CLOSE", "SMA(5)", null)))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(repository, never()).findSeries(any(), any(), any());
+    }
+
+    private static BacktestRequest request(List<String> stockCodes, String left, String right,
+                                           Map<String, List<Double>> parameters) {
+        BacktestRequest request = new BacktestRequest();
+        request.setStockCodes(stockCodes);
+        request.setStartDate(START);
+        request.setEndDate(END);
+        request.setEntry(List.of(new BacktestRequest.Condition(left, Rule.Operator.CROSS_ABOVE, right)));
+        request.setExit(List.of(new BacktestRequest.Condition(left, Rule.Operator.CROSS_BELOW, right)));
+        request.setParameters(parameters);
+        return request;
+    }
+}
@@ -0,0 +1,90 @@
+package com.inveskit.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inveskit.backend.domain.StockPriceSeries;
+import com.inveskit.backend.event.StockPricesUpdatedEvent;
+import com.inveskit.backend.repository.StockPriceJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChartSeriesServiceTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+    private static final LocalDate END = LocalDate.of(2025, 3, 31);
+
+    private final StockPriceJdbcRepository repository = mock(StockPriceJdbcRepository.class);
+    private ChartSeriesService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ChartSeriesService(repository, new ObjectMapper(), 100, Duration.ofHours(1),
+                new SimpleMeterRegistry());
+        when(repository.findSeries("005930", START, END)).thenReturn(series(END));
+    }
+
+    @Test
+    void payloadIsBuiltOnce() {
+        ChartSeriesService.ChartPayload first = service.getChart("005930", START, END, false);
+        ChartSeriesService.ChartPayload second = service.getChart("005930", START, END, false);
+
+        assertThat(second).isSameAs(first);
+        verify(repository, times(1)).findSeries("005930", START, END);
+    }
+
+    // 이벤트 스레드에서는 다시 만들지 않고 무효화만, 다시 만드는 건 다음 요청에서
+    @Test
+    void updateInvalidatesWithoutRebuildingOnEventThread() {
+        service.getChart("005930", START, END, false);
+
+        service.onPricesUpdated(event(END, END));
+        verify(repository, times(1)).findSeries(any(), any(), any());
+
+        service.getChart("005930", START, END, false);
+        verify(repository, times(2)).findSeries("005930", START, END);
+    }
+
+    @Test
+    void updateOutsideRangeKeepsPayload() {
+        service.getChart("005930", START, END, false);
+
+        service.onPricesUpdated(event(END.plusDays(1), END.plusDays(1)));
+        service.getChart("005930", START, END, false);
+
+        verify(repository, times(1)).findSeries("005930", START, END);
+    }
+
+    // 만드는 도중 이벤트가 오면 그 결과는 캐시에 남지 않음
+    @Test
+    void updateDuringBuildDiscardsBuiltPayload() {
+        when(repository.findSeries("005930", START, END)).thenAnswer(invocation -> {
+            service.onPricesUpdated(event(END, END));
+            return series(END);
+        }).thenReturn(series(END));
+
+        service.getChart("005930", START, END, false);
+        service.getChart("005930", START, END, false);
+
+        verify(repository, times(2)).findSeries("005930", START, END);
+    }
+
+    private static StockPricesUpdatedEvent event(LocalDate from, LocalDate to) {
+        return new StockPricesUpdatedEvent("005930", "삼성전자", "KOSPI", from, to, 1);
+    }
+
+    private static StockPriceSeries series(LocalDate date) {
+        return new StockPriceSeries.Builder("005930", 1)
+                .add((int) date.toEpochDay(), 100, 110, 90, 105, 105, 1000)
+                .build();
+    }
+}
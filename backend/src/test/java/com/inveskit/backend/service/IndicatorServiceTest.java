@@ -0,0 +1,84 @@
+package com.inveskit.backend.service;
+
+import com.inveskit.backend.domain.StockPriceSeries;
+import com.inveskit.backend.event.StockPricesUpdatedEvent;
+import com.inveskit.backend.repository.StockPriceJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IndicatorServiceTest {
+
+    private static final LocalDate HISTORY_START = LocalDate.of(1970, 1, 1);
+    private static final LocalDate D1 = LocalDate.of(2025, 3, 3);
+    private static final LocalDate D2 = LocalDate.of(2025, 3, 4);
+    private static final LocalDate D3 = LocalDate.of(2025, 3, 5);
+
+    private final StockPriceJdbcRepository repository = mock(StockPriceJdbcRepository.class);
+    private IndicatorService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new IndicatorService(repository, 100, Duration.ofHours(1), new SimpleMeterRegistry());
+        when(repository.findSeries(eq("005930"), eq(HISTORY_START), any())).thenReturn(series(D1, D2));
+    }
+
+    // 새 봉은 캐시 맵 락 밖에서 읽으므로 그동안 같은 종목 조회도 막히지 않음 (이전 상태로 응답)
+    @Test
+    void newerBarsAreAppendedWithoutBlockingReads() {
+        service.getIndicators("005930", D1, D3);
+        List<Integer> sizesSeenDuringRead = new ArrayList<>();
+        when(repository.findSeries("005930", D3, D3)).thenAnswer(invocation -> {
+            sizesSeenDuringRead.add(service.getIndicators("005930", D1, D3).getSize());
+            return series(D3);
+        });
+
+        service.onPricesUpdated(event(D3, D3));
+
+        assertThat(sizesSeenDuringRead).containsExactly(2);
+        assertThat(service.getIndicators("005930", D1, D3).getSize()).isEqualTo(3);
+        verify(repository, times(1)).findSeries(eq("005930"), eq(HISTORY_START), any());
+    }
+
+    @Test
+    void backfillDropsCachedEngine() {
+        service.getIndicators("005930", D1, D3);
+
+        service.onPricesUpdated(event(D1, D1));
+        service.getIndicators("005930", D1, D3);
+
+        verify(repository, times(2)).findSeries(eq("005930"), eq(HISTORY_START), any());
+    }
+
+    @Test
+    void updateForUncachedCodeIsIgnored() {
+        service.onPricesUpdated(event(D3, D3));
+
+        verify(repository, times(0)).findSeries(any(), any(), any());
+    }
+
+    private static StockPricesUpdatedEvent event(LocalDate from, LocalDate to) {
+        return new StockPricesUpdatedEvent("005930", "삼성전자", "KOSPI", from, to, 1);
+    }
+
+    private static StockPriceSeries series(LocalDate... dates) {
+        StockPriceSeries.Builder builder = new StockPriceSeries.Builder("005930", dates.length);
+        for (LocalDate date : dates) {
+            builder.add((int) date.toEpochDay(), 100, 110, 90, 105, 105, 1000);
+        }
+        return builder.build();
+    }
+}
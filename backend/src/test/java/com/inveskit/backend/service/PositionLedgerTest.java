@@ -0,0 +1,140 @@
+package com.inveskit.backend.service;
+
+import com.inveskit.backend.domain.Trade;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class PositionLedgerTest {
+
+    private static final LocalDate D1 = LocalDate.of(2025, 1, 2);
+    private static final LocalDate D2 = LocalDate.of(2025, 1, 3);
+    private static final LocalDate D3 = LocalDate.of(2025, 1, 6);
+
+    // 10@100, 10@120 을 산 뒤 15@130 매도: 첫 lot 전부 + 둘째 lot 5주
+    @Test
+    void partialFifoSellAcrossLots() {
+        PositionLedger ledger = ledger(
+                buy(1, D1, 100, 10),
+                buy(2, D2, 120, 10),
+                sell(3, D3, 130, 15));
+
+        assertThat(ledger.getQuantity()).isEqualTo(5);
+        assertThat(ledger.getFifoRealizedPnl()).isCloseTo(10 * 30 + 5 * 10, within(1e-9));
+        assertThat(ledger.getFifoCostBasis()).isCloseTo(5 * 120, within(1e-9));
+        assertThat(ledger.getFifoUnitCost()).isCloseTo(120, within(1e-9));
+        assertThat(ledger.getLots()).hasSize(1);
+
+        // 평균 단가 110
+        assertThat(ledger.getAverageRealizedPnl()).isCloseTo(15 * 20, within(1e-9));
+        assertThat(ledger.getAverageUnitCost()).isCloseTo(110, within(1e-9));
+        assertThat(ledger.getOversoldQuantity()).isZero();
+    }
+
+    // 보유보다 많이 팔면 보유분만 반영하고 초과 수량은 따로 기록
+    @Test
+    void sellLargerThanHoldingIsCappedAtHolding() {
+        PositionLedger ledger = ledger(
+                buy(1, D1, 100, 10),
+                sell(2, D2, 120, 15));
+
+        assertThat(ledger.getQuantity()).isZero();
+        assertThat(ledger.getOversoldQuantity()).isEqualTo(5);
+        assertThat(ledger.getFifoRealizedPnl()).isCloseTo(200, within(1e-9));
+        assertThat(ledger.getAverageRealizedPnl()).isCloseTo(200, within(1e-9));
+        assertThat(ledger.getFifoCostBasis()).isZero();
+        assertThat(ledger.getAverageCostBasis()).isZero();
+        assertThat(ledger.getLots()).isEmpty();
+    }
+
+    @Test
+    void sellWithoutHoldingOnlyCountsOversold() {
+        PositionLedger ledger = ledger(sell(1, D1, 100, 3));
+
+        assertThat(ledger.getQuantity()).isZero();
+        assertThat(ledger.getOversoldQuantity()).isEqualTo(3);
+        assertThat(ledger.getFifoRealizedPnl()).isZero();
+    }
+
+    // 이미 반영된 매도보다 앞선 날짜의 매수가 들어오면 거래일 순서로 처음부터 다시 계산한 것과 같아야 함
+    @Test
+    void backdatedTradeEqualsFullReplay() {
+        PositionLedger incremental = ledger(
+                buy(1, D1, 100, 10),
+                sell(2, D3, 150, 10),
+                buy(3, D2, 200, 10));
+        PositionLedger replayed = ledger(
+                buy(1, D1, 100, 10),
+                buy(3, D2, 200, 10),
+                sell(2, D3, 150, 10));
+
+        assertSameState(incremental, replayed);
+        // 매도 시점에 20주 보유: FIFO 는 100 짜리 lot 을 팔고 200 짜리 lot 이 남음
+        assertThat(incremental.getQuantity()).isEqualTo(10);
+        assertThat(incremental.getFifoRealizedPnl()).isCloseTo(500, within(1e-9));
+        assertThat(incremental.getFifoUnitCost()).isCloseTo(200, within(1e-9));
+        assertThat(incremental.getAverageRealizedPnl()).isCloseTo(0, within(1e-9));
+        assertThat(incremental.getAverageUnitCost()).isCloseTo(150, within(1e-9));
+    }
+
+    // 같은 거래일은 id 순
+    @Test
+    void sameDateTradesAreOrderedById() {
+        PositionLedger incremental = ledger(
+                buy(1, D1, 100, 10),
+                sell(3, D2, 120, 10),
+                buy(2, D2, 110, 10));
+        PositionLedger replayed = ledger(
+                buy(1, D1, 100, 10),
+                buy(2, D2, 110, 10),
+                sell(3, D2, 120, 10));
+
+        assertSameState(incremental, replayed);
+    }
+
+    @Test
+    void removeReplaysRemainingTrades() {
+        PositionLedger ledger = ledger(
+                buy(1, D1, 100, 10),
+                buy(2, D2, 200, 10),
+                sell(3, D3, 150, 10));
+
+        assertThat(ledger.remove(2)).isTrue();
+        assertThat(ledger.remove(99)).isFalse();
+
+        assertSameState(ledger, ledger(buy(1, D1, 100, 10), sell(3, D3, 150, 10)));
+        assertThat(ledger.getQuantity()).isZero();
+        assertThat(ledger.getFifoRealizedPnl()).isCloseTo(500, within(1e-9));
+    }
+
+    private static PositionLedger ledger(PositionLedger.Entry... entries) {
+        PositionLedger ledger = new PositionLedger("삼성전자", "005930");
+        for (PositionLedger.Entry entry : entries) {
+            ledger.add(entry);
+        }
+        return ledger;
+    }
+
+    private static PositionLedger.Entry buy(long id, LocalDate date, double price, int quantity) {
+        return new PositionLedger.Entry(id, date, Trade.TradeType.BUY, price, quantity);
+    }
+
+    private static PositionLedger.Entry sell(long id, LocalDate date, double price, int quantity) {
+        return new PositionLedger.Entry(id, date, Trade.TradeType.SELL, price, quantity);
+    }
+
+    private static void assertSameState(PositionLedger actual, PositionLedger expected) {
+        assertThat(actual.getQuantity()).isEqualTo(expected.getQuantity());
+        assertThat(actual.getOversoldQuantity()).isEqualTo(expected.getOversoldQuantity());
+        assertThat(actual.getAverageCostBasis()).isCloseTo(expected.getAverageCostBasis(), within(1e-9));
+        assertThat(actual.getAverageRealizedPnl()).isCloseTo(expected.getAverageRealizedPnl(), within(1e-9));
+        assertThat(actual.getFifoCostBasis()).isCloseTo(expected.getFifoCostBasis(), within(1e-9));
+        assertThat(actual.getFifoRealizedPnl()).isCloseTo(expected.getFifoRealizedPnl(), within(1e-9));
+        assertThat(actual.getLots()).hasSameSizeAs(expected.getLots());
+        assertThat(actual.getEntries()).extracting(PositionLedger.Entry::id)
+                .containsExactlyElementsOf(expected.getEntries().stream().map(PositionLedger.Entry::id).toList());
+    }
+}
@@ -0,0 +1,143 @@
+package com.inveskit.backend.service;
+
+import com.inveskit.backend.domain.StockPriceSeries;
+import com.inveskit.backend.domain.StockSymbol;
+import com.inveskit.backend.dto.StockPriceResponse;
+import com.inveskit.backend.event.StockPricesUpdatedEvent;
+import com.inveskit.backend.repository.StockPriceJdbcRepository;
+import com.inveskit.backend.util.rollup.Resolution;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PriceRollupServiceTest {
+
+    private static final LocalDate HISTORY_START = LocalDate.of(1970, 1, 1);
+    // 2025-03-03 은 월요일
+    private static final LocalDate MON = LocalDate.of(2025, 3, 3);
+
+    private final StockPriceJdbcRepository repository = mock(StockPriceJdbcRepository.class);
+    private final SymbolMasterService symbolMaster = mock(SymbolMasterService.class);
+    private PriceRollupService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new PriceRollupService(repository, symbolMaster, 100, Duration.ofHours(1), new SimpleMeterRegistry());
+
+        when(symbolMaster.findByName("삼성전자")).thenReturn(Optional.of(StockSymbol.builder()
+                .stockName("삼성전자")
+                .stockCode("005930")
+                .market("KOSPI")
+                .build()));
+        when(repository.findSeries(eq("005930"), eq(HISTORY_START), any()))
+                .thenReturn(series(MON, 100, MON.plusDays(1), 110));
+    }
+
+    // 마지막 반영일 이후 일봉은 그 구간만 읽어 이어 붙이고 전체 이력은 다시 읽지 않음
+    @Test
+    void newerBarsAreAppendedWithoutReload() {
+        service.getPrices("삼성전자", MON, MON.plusDays(6), Resolution.DAILY, 500);
+        when(repository.findSeries("005930", MON.plusDays(2), MON.plusDays(2)))
+                .thenReturn(series(MON.plusDays(2), 120));
+
+        service.onPricesUpdated(event(MON.plusDays(2), MON.plusDays(2)));
+
+        StockPriceResponse daily = service.getPrices("삼성전자", MON, MON.plusDays(6), Resolution.DAILY, 500);
+        assertThat(daily.getPrices()).extracting(StockPriceResponse.DailyPrice::getDate)
+                .containsExactly(MON, MON.plusDays(1), MON.plusDays(2));
+        StockPriceResponse weekly = service.getPrices("삼성전자", MON, MON.plusDays(6), Resolution.WEEKLY, 500);
+        assertThat(weekly.getPrices()).hasSize(1);
+        assertThat(weekly.getPrices().get(0).getDate()).isEqualTo(MON.plusDays(2));
+        assertThat(weekly.getPrices().get(0).getClosePrice()).isEqualByComparingTo("120");
+
+        verify(repository, times(1)).findSeries(eq("005930"), eq(HISTORY_START), any());
+    }
+
+    // 새 봉을 읽는 동안 캐시 맵 락을 잡지 않으므로 같은 종목도 조회 가능 (이전 상태로 응답)
+    @Test
+    void readsDuringAppendAreNotBlocked() {
+        service.getPrices("삼성전자", MON, MON.plusDays(6), Resolution.DAILY, 500);
+        List<Integer> sizesSeenDuringRead = new ArrayList<>();
+        when(repository.findSeries("005930", MON.plusDays(2), MON.plusDays(2))).thenAnswer(invocation -> {
+            sizesSeenDuringRead.add(
+                    service.getPrices("삼성전자", MON, MON.plusDays(6), Resolution.DAILY, 500).getPrices().size());
+            return series(MON.plusDays(2), 120);
+        });
+
+        service.onPricesUpdated(event(MON.plusDays(2), MON.plusDays(2)));
+
+        assertThat(sizesSeenDuringRead).containsExactly(2);
+        assertThat(service.getPrices("삼성전자", MON, MON.plusDays(6), Resolution.DAILY, 500).getPrices()).hasSize(3);
+    }
+
+    // 봉 단위와 관계없이 DB 에서 읽는 응답과 같은 scale 2
+    @Test
+    void closePricesUseScaleTwo() {
+        when(repository.findSeries(eq("005930"), eq(HISTORY_START), any()))
+                .thenReturn(series(MON, 71500, MON.plusDays(1), 71523.456));
+
+        StockPriceResponse daily = service.getPrices("삼성전자", MON, MON.plusDays(6), Resolution.DAILY, 500);
+
+        assertThat(daily.getPrices()).extracting(StockPriceResponse.DailyPrice::getClosePrice)
+                .containsExactly(new BigDecimal("71500.00"), new BigDecimal("71523.46"));
+    }
+
+    // 이미 반영한 구간 안쪽이 보정(backfill)되면 캐시를 버리고 다음 조회 때 전체를 다시 읽음
+    @Test
+    void backfillDropsCachedRollups() {
+        service.getPrices("삼성전자", MON, MON.plusDays(6), Resolution.DAILY, 500);
+        when(repository.findSeries(eq("005930"), eq(HISTORY_START), any()))
+                .thenReturn(series(MON, 101, MON.plusDays(1), 110));
+
+        service.onPricesUpdated(event(MON, MON));
+
+        StockPriceResponse daily = service.getPrices("삼성전자", MON, MON.plusDays(6), Resolution.DAILY, 500);
+        assertThat(daily.getPrices().get(0).getClosePrice()).isEqualByComparingTo("101");
+        verify(repository, times(2)).findSeries(eq("005930"), eq(HISTORY_START), any());
+    }
+
+    // 한 번도 조회하지 않은 종목의 이벤트는 아무것도 읽지 않음
+    @Test
+    void updateForUncachedCodeIsIgnored() {
+        service.onPricesUpdated(event(MON, MON));
+
+        verify(repository, times(0)).findSeries(any(), any(), any());
+    }
+
+    // AUTO 는 maxPoints 안에 들어오는 가장 세밀한 단위
+    @Test
+    void autoPicksFinestResolutionWithinMaxPoints() {
+        assertThat(service.getPrices("삼성전자", MON, MON.plusDays(6), Resolution.AUTO, 2).getResolution())
+                .isEqualTo("DAILY");
+        assertThat(service.getPrices("삼성전자", MON, MON.plusDays(6), Resolution.AUTO, 1).getResolution())
+                .isEqualTo("WEEKLY");
+    }
+
+    private static StockPricesUpdatedEvent event(LocalDate from, LocalDate to) {
+        return new StockPricesUpdatedEvent("005930", "삼성전자", "KOSPI", from, to, 1);
+    }
+
+    private static StockPriceSeries series(Object... dateAndClose) {
+        StockPriceSeries.Builder builder = new StockPriceSeries.Builder("005930", dateAndClose.length / 2);
+        for (int i = 0; i < dateAndClose.length; i += 2) {
+            double close = ((Number) dateAndClose[i + 1]).doubleValue();
+            builder.add((int) ((LocalDate) dateAndClose[i]).toEpochDay(), close, close, close, close, close, 1);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,113 @@
+package com.inveskit.backend.service;
+
+import com.inveskit.backend.client.StockPriceData;
+import com.inveskit.backend.client.YahooFinanceClient;
+import com.inveskit.backend.domain.StockSymbol;
+import com.inveskit.backend.dto.PriceBarUpdate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PriceStreamServiceTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final YahooFinanceClient yahooFinanceClient = mock(YahooFinanceClient.class);
+    private final SymbolMasterService symbolMaster = mock(SymbolMasterService.class);
+
+    @BeforeEach
+    void setUp() {
+        when(symbolMaster.findByCode(anyString())).thenReturn(Optional.empty());
+        symbol("005930");
+        symbol("000660");
+
+        when(yahooFinanceClient.fetchStockPricesAsync(anyString(), any(), any()))
+                .thenReturn(Mono.just(List.of(StockPriceData.builder()
+                        .date(LocalDate.now())
+                        .closePrice(BigDecimal.valueOf(1000))
+                        .volume(10L)
+                        .build())));
+    }
+
+    @Test
+    void unknownCodeIsRejected() {
+        PriceStreamService service = service(Duration.ofHours(1), 1);
+
+        assertThatThrownBy(() -> service.subscribe("999999")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // 한도에 닿으면 새 종목은 거부하지만 이미 있는 종목은 계속 공유
+    @Test
+    void symbolLimitRejectsOnlyNewCodes() {
+        PriceStreamService service = service(Duration.ofHours(1), 1);
+
+        assertThat(service.subscribe("005930").blockFirst(TIMEOUT)).isNotNull();
+
+        assertThatThrownBy(() -> service.subscribe("000660"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("한도");
+        assertThat(service.subscribe("005930").blockFirst(TIMEOUT)).isNotNull();
+    }
+
+    // 구독자가 여럿이어도 종목당 갱신 루프는 하나 (뒤 구독자는 replay 로 마지막 봉을 받음)
+    @Test
+    void subscribersShareOneRefreshLoop() {
+        PriceStreamService service = service(Duration.ofHours(1), 10);
+
+        PriceBarUpdate first = service.subscribe("005930").blockFirst(TIMEOUT);
+        PriceBarUpdate second = service.subscribe("005930").blockFirst(TIMEOUT);
+
+        assertThat(second).isEqualTo(first);
+        assertThat(first.stockCode()).isEqualTo("005930");
+        verify(yahooFinanceClient, times(1)).fetchStockPricesAsync(anyString(), any(), any());
+    }
+
+    // 구독자가 모두 나가 루프가 멈추면 자리가 비어 다른 종목을 받을 수 있음
+    @Test
+    void stoppedStreamReleasesItsSlot() throws InterruptedException {
+        PriceStreamService service = service(Duration.ZERO, 1);
+
+        assertThat(service.subscribe("005930").blockFirst(TIMEOUT)).isNotNull();
+
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (true) {
+            try {
+                assertThat(service.subscribe("000660").blockFirst(TIMEOUT)).isNotNull();
+                break;
+            } catch (IllegalStateException e) {
+                assertThat(System.nanoTime()).as("slot not released").isLessThan(deadline);
+                Thread.sleep(10);
+            }
+        }
+    }
+
+    private PriceStreamService service(Duration idleGrace, int maxSymbols) {
+        return new PriceStreamService(yahooFinanceClient, symbolMaster, Duration.ofHours(1), idleGrace,
+                maxSymbols, 32, new SimpleMeterRegistry());
+    }
+
+    private void symbol(String stockCode) {
+        when(symbolMaster.findByCode(stockCode)).thenReturn(Optional.of(StockSymbol.builder()
+                .stockName(stockCode)
+                .stockCode(stockCode)
+                .market("KOSPI")
+                .yahooSuffix(".KS")
+                .build()));
+    }
+}
@@ -0,0 +1,72 @@
+package com.inveskit.backend.service;
+
+import com.inveskit.backend.dto.StockPriceResponse;
+import com.inveskit.backend.event.StockPricesUpdatedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StockPriceCacheTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+    private static final LocalDate END = LocalDate.of(2025, 3, 31);
+
+    private final StockPriceCache cache = new StockPriceCache(100, Duration.ofMinutes(10), new SimpleMeterRegistry());
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void cachesByStockCode() {
+        cache.get("005930", START, END, 100, this::load);
+        cache.get("005930", START, END, 100, this::load);
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void updateInvalidatesOverlappingEntriesOfThatCodeOnly() {
+        cache.get("005930", START, END, 100, this::load);
+        cache.get("000660", START, END, 100, this::load);
+
+        cache.onPricesUpdated(event("005930", END, END));
+        cache.get("005930", START, END, 100, this::load);
+        cache.get("000660", START, END, 100, this::load);
+
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void updateOutsideRangeKeepsEntry() {
+        cache.get("005930", START, END, 100, this::load);
+
+        cache.onPricesUpdated(event("005930", END.plusDays(1), END.plusDays(5)));
+        cache.get("005930", START, END, 100, this::load);
+
+        assertThat(loads).hasValue(1);
+    }
+
+    // 조회 도중 이벤트가 오면 (이벤트의 removeIf 가 먼저 끝나도) 조회 결과는 캐시에 남지 않음
+    @Test
+    void updateDuringLoadDiscardsLoadedEntry() {
+        cache.get("005930", START, END, 100, () -> {
+            cache.onPricesUpdated(event("005930", END, END));
+            return load();
+        });
+        cache.get("005930", START, END, 100, this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    private StockPriceResponse load() {
+        loads.incrementAndGet();
+        return StockPriceResponse.builder().build();
+    }
+
+    private static StockPricesUpdatedEvent event(String stockCode, LocalDate from, LocalDate to) {
+        return new StockPricesUpdatedEvent(stockCode, "name", "KOSPI", from, to, 1);
+    }
+}
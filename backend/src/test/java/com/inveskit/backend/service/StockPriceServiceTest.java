@@ -0,0 +1,106 @@
+package com.inveskit.backend.service;
+
+import com.inveskit.backend.domain.StockSymbol;
+import com.inveskit.backend.dto.StockPriceResponse;
+import com.inveskit.backend.dto.SymbolDailyPrice;
+import com.inveskit.backend.repository.StockPriceJdbcRepository;
+import com.inveskit.backend.repository.StockPriceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StockPriceServiceTest {
+
+    private static final LocalDate JAN = LocalDate.of(2025, 1, 31);
+    private static final LocalDate JUN = LocalDate.of(2025, 6, 30);
+
+    private final StockPriceRepository repository = mock(StockPriceRepository.class);
+    private final SymbolMasterService symbolMaster = mock(SymbolMasterService.class);
+    private StockPriceService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new StockPriceService(repository, mock(StockPriceJdbcRepository.class),
+                mock(StockPriceCache.class), mock(StockSearchIndex.class), symbolMaster,
+                mock(ApplicationEventPublisher.class), new SimpleMeterRegistry());
+
+        when(symbolMaster.findByName(anyString())).thenReturn(Optional.empty());
+        symbol("삼성전자", "005930");
+        symbol("SK하이닉스", "000660");
+        symbol("현대차", "005380");
+    }
+
+    // 기준일이 다른 종목은 각자의 기간으로 따로 조회 (합집합 기간을 읽지 않음)
+    @Test
+    void queriesEachEndDateGroupWithItsOwnRange() {
+        when(repository.findDailyPricesByStockCodes(List.of("005930", "005380"), JAN.minusDays(60), JAN))
+                .thenReturn(List.of(row("005930", JAN.minusDays(1)), row("005930", JAN), row("005380", JAN)));
+        when(repository.findDailyPricesByStockCodes(List.of("000660"), JUN.minusDays(60), JUN))
+                .thenReturn(List.of(row("000660", JUN)));
+
+        Map<String, LocalDate> request = new LinkedHashMap<>();
+        request.put("삼성전자", JAN);
+        request.put("SK하이닉스", JUN);
+        request.put("현대차", JAN);
+        Map<String, StockPriceResponse> windows = service.getPriceWindows(request);
+
+        verify(repository, times(2)).findDailyPricesByStockCodes(any(), any(), any());
+        assertThat(windows).containsOnlyKeys("삼성전자", "SK하이닉스", "현대차");
+        assertThat(windows.keySet()).containsExactly("삼성전자", "SK하이닉스", "현대차");
+        assertThat(windows.get("삼성전자").getStockCode()).isEqualTo("005930");
+        assertThat(windows.get("삼성전자").getPrices())
+                .extracting(StockPriceResponse.DailyPrice::getDate)
+                .containsExactly(JAN.minusDays(1), JAN);
+        assertThat(windows.get("SK하이닉스").getPrices())
+                .extracting(StockPriceResponse.DailyPrice::getDate)
+                .containsExactly(JUN);
+    }
+
+    @Test
+    void skipsUnknownNamesAndStocksWithoutPrices() {
+        when(repository.findDailyPricesByStockCodes(List.of("005930", "000660"), JAN.minusDays(60), JAN))
+                .thenReturn(List.of(row("005930", JAN)));
+
+        Map<String, LocalDate> request = new LinkedHashMap<>();
+        request.put("삼성전자", JAN);
+        request.put("SK하이닉스", JAN);
+        request.put("없는종목", JAN);
+
+        assertThat(service.getPriceWindows(request)).containsOnlyKeys("삼성전자");
+    }
+
+    @Test
+    void returnsEmptyWithoutQueryWhenNoNameResolves() {
+        assertThat(service.getPriceWindows(Map.of("없는종목", JAN))).isEmpty();
+
+        verify(repository, times(0)).findDailyPricesByStockCodes(any(), any(), any());
+    }
+
+    private void symbol(String stockName, String stockCode) {
+        when(symbolMaster.findByName(stockName)).thenReturn(Optional.of(StockSymbol.builder()
+                .stockName(stockName)
+                .stockCode(stockCode)
+                .market("KOSPI")
+                .build()));
+    }
+
+    private static SymbolDailyPrice row(String stockCode, LocalDate tradeDate) {
+        return new SymbolDailyPrice(stockCode, tradeDate, BigDecimal.valueOf(1000));
+    }
+}
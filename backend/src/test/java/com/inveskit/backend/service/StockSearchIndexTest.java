@@ -0,0 +1,97 @@
+package com.inveskit.backend.service;
+
+import com.inveskit.backend.dto.StockDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StockSearchIndexTest {
+
+    private final StockSearchIndex index = new StockSearchIndex();
+
+    @BeforeEach
+    void setUp() {
+        index.rebuild(List.of(
+                new StockDto("삼성전자", "005930", "KOSPI"),
+                new StockDto("삼성SDI", "006400", "KOSPI"),
+                new StockDto("삼성바이오로직스", "207940", "KOSPI"),
+                new StockDto("삼성전기", "009150", "KOSPI"),
+                new StockDto("SK하이닉스", "000660", "KOSPI"),
+                new StockDto("LG에너지솔루션", "373220", "KOSPI"),
+                new StockDto("현대차", "005380", "KOSPI"),
+                new StockDto("신한지주", "055550", "KOSPI")
+        ));
+    }
+
+    // 접두어 매칭은 이름이 짧은 순, 같으면 이름 순
+    @Test
+    void namePrefixOrderedByLengthThenName() {
+        assertThat(index.search("삼성", 10))
+                .containsExactly("삼성전기", "삼성전자", "삼성SDI", "삼성바이오로직스");
+    }
+
+    @Test
+    void exactMatchComesFirst() {
+        index.register("삼성", "999999");
+
+        assertThat(index.search("삼성", 10).get(0)).isEqualTo("삼성");
+        assertThat(index.search("삼성전자", 10)).containsExactly("삼성전자");
+    }
+
+    @Test
+    void mixedHangulAndLatinQueryIsCaseInsensitive() {
+        assertThat(index.search("sk하", 10)).containsExactly("SK하이닉스");
+        assertThat(index.search("삼성s", 10)).containsExactly("삼성SDI");
+        assertThat(index.search(" LG ", 10)).containsExactly("LG에너지솔루션");
+    }
+
+    @Test
+    void consonantOnlyQueryMatchesChosung() {
+        assertThat(index.search("ㅅㅅㅈ", 10)).containsExactly("삼성전기", "삼성전자");
+        assertThat(index.search("ㅎㄷ", 10)).containsExactly("현대차");
+    }
+
+    @Test
+    void consonantMixedWithSyllableMatchesChosung() {
+        assertThat(index.search("삼ㅅㅈ", 10)).containsExactly("삼성전기", "삼성전자");
+    }
+
+    @Test
+    void stockCodePrefixMatches() {
+        assertThat(index.search("0059", 10)).containsExactly("삼성전자");
+    }
+
+    // 접두어 매칭이 없으면 부분 문자열 매칭
+    @Test
+    void fallsBackToInfixMatch() {
+        assertThat(index.search("전자", 10)).containsExactly("삼성전자");
+        assertThat(index.search("ㅈㅈ", 10)).containsExactly("삼성전자", "신한지주");
+    }
+
+    @Test
+    void emptyQueryReturnsNothing() {
+        assertThat(index.search("", 10)).isEmpty();
+        assertThat(index.search("   ", 10)).isEmpty();
+        assertThat(index.search(null, 10)).isEmpty();
+        assertThat(index.search("삼성", 0)).isEmpty();
+    }
+
+    @Test
+    void resultsAreCappedAtLimit() {
+        assertThat(index.search("삼성", 2)).containsExactly("삼성전기", "삼성전자");
+        assertThat(index.search("ㅅ", 3)).hasSize(3);
+    }
+
+    @Test
+    void registerAddsNewNameAndIgnoresDuplicate() {
+        index.register("카카오", "035720");
+        index.register("삼성전자", "000000");
+
+        assertThat(index.size()).isEqualTo(9);
+        assertThat(index.search("카카", 10)).containsExactly("카카오");
+        assertThat(index.search("000000", 10)).isEmpty();
+    }
+}
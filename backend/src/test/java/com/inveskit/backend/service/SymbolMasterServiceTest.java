@@ -0,0 +1,104 @@
+package com.inveskit.backend.service;
+
+import com.inveskit.backend.domain.StockSymbol;
+import com.inveskit.backend.dto.SymbolImportResult;
+import com.inveskit.backend.repository.StockSymbolRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SymbolMasterServiceTest {
+
+    private final StockSymbolRepository repository = mock(StockSymbolRepository.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private SymbolMasterService service;
+
+    private StockSymbol samsung;
+    private StockSymbol hynix;
+    private StockSymbol celltrionPharm;
+    private StockSymbol ecoPro;
+
+    @BeforeEach
+    void setUp() {
+        service = new SymbolMasterService(repository, mock(StockSearchIndex.class), transactionTemplate);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        samsung = symbol("삼성전자", "005930", "KOSPI");
+        hynix = symbol("SK하이닉스", "000660", "KOSPI");
+        celltrionPharm = symbol("셀트리온제약", "068760", "KOSDAQ");
+        ecoPro = symbol("에코프로", "086520", "KOSDAQ");
+        when(repository.findAll()).thenReturn(List.of(samsung, hynix, celltrionPharm, ecoPro));
+    }
+
+    // 코스닥만 받은 파일: 빠진 코스닥 종목만 상장폐지, 코스피 종목은 그대로
+    @Test
+    void delistsOnlyWithinMarketsPresentInFile() throws IOException {
+        SymbolImportResult result = importCsv("""
+                단축코드,한글 종목약명,시장구분
+                086520,에코프로,KOSDAQ
+                """);
+
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(result.getDelisted()).isEqualTo(1);
+        assertThat(celltrionPharm.isListed()).isFalse();
+        assertThat(ecoPro.isListed()).isTrue();
+        assertThat(samsung.isListed()).isTrue();
+        assertThat(hynix.isListed()).isTrue();
+    }
+
+    // 적재할 행이 하나도 없으면 (코넥스만 있는 파일 등) 아무것도 상장폐지하지 않음
+    @Test
+    void fileWithoutImportableRowsDelistsNothing() throws IOException {
+        SymbolImportResult result = importCsv("""
+                단축코드,한글 종목약명,시장구분
+                900001,코넥스종목,KONEX
+                900002,코넥스종목2,KONEX
+                """);
+
+        assertThat(result.getTotal()).isZero();
+        assertThat(result.getSkipped()).isEqualTo(2);
+        assertThat(result.getDelisted()).isZero();
+        assertThat(List.of(samsung, hynix, celltrionPharm, ecoPro)).allMatch(StockSymbol::isListed);
+    }
+
+    @Test
+    void markMissingDelistedFalseKeepsEverything() throws IOException {
+        SymbolImportResult result = service.importKrxCsv(csv("""
+                단축코드,한글 종목약명,시장구분
+                005930,삼성전자,KOSPI
+                """), StandardCharsets.UTF_8, false);
+
+        assertThat(result.getDelisted()).isZero();
+        assertThat(hynix.isListed()).isTrue();
+    }
+
+    private SymbolImportResult importCsv(String body) throws IOException {
+        return service.importKrxCsv(csv(body), StandardCharsets.UTF_8, true);
+    }
+
+    private static ByteArrayInputStream csv(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static StockSymbol symbol(String stockName, String stockCode, String market) {
+        return StockSymbol.builder()
+                .stockName(stockName)
+                .stockCode(stockCode)
+                .market(market)
+                .yahooSuffix(StockSymbol.yahooSuffixOf(market))
+                .listingStatus(StockSymbol.ListingStatus.LISTED)
+                .build();
+    }
+}
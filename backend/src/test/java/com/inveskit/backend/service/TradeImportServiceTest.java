@@ -0,0 +1,108 @@
+package com.inveskit.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inveskit.backend.domain.StockSymbol;
+import com.inveskit.backend.domain.Trade;
+import com.inveskit.backend.dto.TradeImportResult;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TradeImportServiceTest {
+
+    private final SymbolMasterService symbolMaster = mock(SymbolMasterService.class);
+    private final EntityManager entityManager = mock(EntityManager.class);
+    private TradeImportService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new TradeImportService(symbolMaster, new ObjectMapper(), mock(ApplicationEventPublisher.class), 500);
+        ReflectionTestUtils.setField(service, "entityManager", entityManager);
+
+        when(symbolMaster.findByCode(anyString())).thenReturn(Optional.empty());
+        when(symbolMaster.findByName(anyString())).thenReturn(Optional.empty());
+        when(symbolMaster.findByName("삼성전자")).thenReturn(Optional.of(StockSymbol.builder()
+                .stockName("삼성전자")
+                .stockCode("005930")
+                .market("KOSPI")
+                .build()));
+    }
+
+    // 객체가 아닌 원소는 그 행만 오류로 남기고, 뒤의 원소는 계속 적재
+    @Test
+    void nonObjectElementsAreReportedPerRow() throws IOException {
+        TradeImportResult result = service.importJson(stream("""
+                [
+                  {"stockName": "삼성전자", "tradeType": "buy", "date": "2025-03-04", "price": 70000, "quantity": 10},
+                  42,
+                  "text",
+                  null,
+                  [1, 2],
+                  {"stockName": "삼성전자", "tradeType": "sell", "date": "2025-03-05", "price": 71000, "quantity": 5}
+                ]
+                """));
+
+        assertThat(result.getTotal()).isEqualTo(6);
+        assertThat(result.getInserted()).isEqualTo(2);
+        assertThat(result.getSkipped()).isEqualTo(4);
+        assertThat(result.getErrors()).hasSize(4);
+        assertThat(result.getErrors().get(0)).startsWith("2행: ").contains("42");
+        assertThat(result.getErrors().get(1)).startsWith("3행: ").contains("text");
+        assertThat(result.getErrors().get(2)).startsWith("4행: ").contains("null");
+        assertThat(result.getErrors().get(3)).startsWith("5행: ");
+
+        ArgumentCaptor<Trade> trades = ArgumentCaptor.forClass(Trade.class);
+        verify(entityManager, times(2)).persist(trades.capture());
+        assertThat(trades.getAllValues()).extracting(Trade::getQuantity).containsExactly(10, 5);
+    }
+
+    @Test
+    void emptyArrayImportsNothing() throws IOException {
+        TradeImportResult result = service.importJson(stream("[]"));
+
+        assertThat(result.getTotal()).isZero();
+        assertThat(result.getInserted()).isZero();
+    }
+
+    // NaN / 무한대 (1e400 은 double 로 읽으면 무한대) 는 단가, 수량 모두 거부
+    @Test
+    void nonFinitePriceAndQuantityAreRejected() throws IOException {
+        TradeImportResult result = service.importCsv(stream("""
+                stockName,tradeType,date,price,quantity
+                삼성전자,buy,2025-03-04,NaN,10
+                삼성전자,buy,2025-03-04,Infinity,10
+                삼성전자,buy,2025-03-04,1e400,10
+                삼성전자,buy,2025-03-04,-70000,10
+                삼성전자,buy,2025-03-04,70000,NaN
+                삼성전자,buy,2025-03-04,70000,Infinity
+                삼성전자,buy,2025-03-04,70000,1.5
+                삼성전자,buy,2025-03-04,"70,000",10
+                """), StandardCharsets.UTF_8);
+
+        assertThat(result.getTotal()).isEqualTo(8);
+        assertThat(result.getInserted()).isEqualTo(1);
+        assertThat(result.getErrors()).hasSize(7);
+        assertThat(result.getErrors().subList(0, 4)).allMatch(error -> error.contains("단가"));
+        assertThat(result.getErrors().subList(4, 7)).allMatch(error -> error.contains("수량"));
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
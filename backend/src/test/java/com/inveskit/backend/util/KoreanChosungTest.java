@@ -0,0 +1,32 @@
+package com.inveskit.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KoreanChosungTest {
+
+    @Test
+    void convertsHangulSyllablesToInitialConsonants() {
+        assertThat(KoreanChosung.toChosung("삼성전자")).isEqualTo("ㅅㅅㅈㅈ");
+        assertThat(KoreanChosung.toChosung("가힣")).isEqualTo("ㄱㅎ");
+        assertThat(KoreanChosung.toChosung("쌍용")).isEqualTo("ㅆㅇ");
+    }
+
+    @Test
+    void keepsLatinDigitsAndConsonantsAsIs() {
+        assertThat(KoreanChosung.toChosung("SK하이닉스")).isEqualTo("SKㅎㅇㄴㅅ");
+        assertThat(KoreanChosung.toChosung("삼성SDI 2우")).isEqualTo("ㅅㅅSDI 2ㅇ");
+        assertThat(KoreanChosung.toChosung("ㅅㅅ")).isEqualTo("ㅅㅅ");
+        assertThat(KoreanChosung.toChosung("")).isEmpty();
+    }
+
+    @Test
+    void detectsConsonantQueries() {
+        assertThat(KoreanChosung.containsChosung("ㅅㅅㅈㅈ")).isTrue();
+        assertThat(KoreanChosung.containsChosung("삼ㅅ")).isTrue();
+        assertThat(KoreanChosung.containsChosung("삼성")).isFalse();
+        assertThat(KoreanChosung.containsChosung("sk")).isFalse();
+        assertThat(KoreanChosung.containsChosung("")).isFalse();
+    }
+}
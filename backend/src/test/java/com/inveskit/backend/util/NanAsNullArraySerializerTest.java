@@ -0,0 +1,29 @@
+package com.inveskit.backend.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inveskit.backend.domain.IndicatorSeries;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NanAsNullArraySerializerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void indicatorSeriesWritesNaNAsNull() throws Exception {
+        double[] values = {Double.NaN, 1.5, Double.POSITIVE_INFINITY};
+        IndicatorSeries series = new IndicatorSeries("005930", new int[]{1, 2, 3}, values, values, values,
+                values, values, values, values, values, values, values, values, values, values);
+
+        String json = objectMapper.writeValueAsString(series);
+        JsonNode root = objectMapper.readTree(json);
+
+        assertThat(json).doesNotContain("NaN").doesNotContain("Infinity");
+        assertThat(root.get("sma20").toString()).isEqualTo("[null,1.5,null]");
+        assertThat(root.get("rsi14").toString()).isEqualTo("[null,1.5,null]");
+        assertThat(root.get("drawdown").toString()).isEqualTo("[null,1.5,null]");
+        assertThat(root.get("epochDays").toString()).isEqualTo("[1,2,3]");
+    }
+}
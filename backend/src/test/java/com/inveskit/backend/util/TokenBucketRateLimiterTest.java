@@ -0,0 +1,68 @@
+package com.inveskit.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenBucketRateLimiterTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void burstIsAvailableImmediately() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 3, clock::get);
+
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isZero();
+    }
+
+    @Test
+    void waitGrowsWithEachReservationBeyondBurst() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 2, clock::get);
+        limiter.reserve();
+        limiter.reserve();
+
+        // 초당 10개 -> 토큰 하나에 100ms
+        assertThat(limiter.reserve()).isEqualTo(100 * MILLIS);
+        assertThat(limiter.reserve()).isEqualTo(200 * MILLIS);
+    }
+
+    @Test
+    void elapsedTimeRefillsPartialTokens() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 2, clock::get);
+        limiter.reserve();
+        limiter.reserve();
+        assertThat(limiter.reserve()).isEqualTo(100 * MILLIS);
+
+        // 50ms 동안 반 개가 채워짐: -1 + 0.5 - 1 = -1.5 개 -> 150ms
+        clock.addAndGet(50 * MILLIS);
+        assertThat(limiter.reserve()).isEqualTo(150 * MILLIS);
+    }
+
+    @Test
+    void refillIsCappedAtBurst() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 2, clock::get);
+        limiter.reserve();
+        limiter.reserve();
+
+        clock.addAndGet(10_000 * MILLIS);
+
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isEqualTo(100 * MILLIS);
+    }
+
+    @Test
+    void rejectsNonPositiveSettings() {
+        assertThatThrownBy(() -> new TokenBucketRateLimiter(0, 1, clock::get))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucketRateLimiter(1, 0, clock::get))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
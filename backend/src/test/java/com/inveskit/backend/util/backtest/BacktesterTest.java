@@ -0,0 +1,116 @@
+package com.inveskit.backend.util.backtest;
+
+import com.inveskit.backend.domain.BacktestRun;
+import com.inveskit.backend.domain.StockPriceSeries;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class BacktesterTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 2);
+
+    // 100 에 진입(종가 < 105), 125 를 넘지 않아 마지막 봉(132)에서 청산
+    // 자산: 1000, 1100, 990, 1200, 1320
+    @Test
+    void equityCurveAndSharpeMatchHandComputedValues() {
+        StockPriceSeries series = series(100, 110, 99, 120, 132);
+
+        BacktestRun run = Backtester.run(series, 0, 5,
+                rules(series, "CLOSE", Rule.Operator.LT, "105"),
+                rules(series, "CLOSE", Rule.Operator.GT, "125"),
+                1000, 0, true);
+
+        assertThat(run.getEquity()).containsExactly(1000, 1100, 990, 1200, 1320);
+        assertThat(run.getEquityEpochDays()[0]).isEqualTo((int) START.toEpochDay());
+        assertThat(run.getFinalEquity()).isCloseTo(1320, within(1e-9));
+        assertThat(run.getTotalReturn()).isCloseTo(0.32, within(1e-12));
+        assertThat(run.getBuyAndHoldReturn()).isCloseTo(0.32, within(1e-12));
+        assertThat(run.getMaxDrawdown()).isCloseTo(-0.1, within(1e-12));
+        assertThat(run.getTradeCount()).isEqualTo(1);
+        assertThat(run.getWinRate()).isEqualTo(1.0);
+
+        // 일간 수익률 0.1, -0.1, 1200/990-1, 0.1 의 평균 / 표본표준편차 * sqrt(252)
+        double[] returns = {0.1, -0.1, 1200.0 / 990 - 1, 0.1};
+        double mean = (returns[0] + returns[1] + returns[2] + returns[3]) / 4;
+        double variance = 0;
+        for (double r : returns) {
+            variance += (r - mean) * (r - mean);
+        }
+        variance /= 3;
+        assertThat(run.getSharpeRatio()).isCloseTo(mean / Math.sqrt(variance) * Math.sqrt(252), within(1e-9));
+        assertThat(run.getSharpeRatio()).isCloseTo(9.534001511564878, within(1e-9));
+
+        BacktestRun.TradeRecord trade = run.getTrades().get(0);
+        assertThat(trade.entryDate()).isEqualTo(START);
+        assertThat(trade.exitDate()).isEqualTo(START.plusDays(4));
+        assertThat(trade.quantity()).isEqualTo(10);
+        assertThat(trade.pnl()).isCloseTo(320, within(1e-9));
+    }
+
+    // 9주 * 100 * 1.01 = 909 매수, 9주 * 120 * 0.99 = 1069.2 매도
+    @Test
+    void feesApplyOnEntryAndExit() {
+        StockPriceSeries series = series(100, 120);
+
+        BacktestRun run = Backtester.run(series, 0, 2,
+                rules(series, "CLOSE", Rule.Operator.LT, "105"),
+                List.of(),
+                1000, 0.01, true);
+
+        assertThat(run.getEquity()[0]).isCloseTo(91 + 900, within(1e-9));
+        assertThat(run.getFinalEquity()).isCloseTo(91 + 1069.2, within(1e-9));
+        assertThat(run.getTrades().get(0).pnl()).isCloseTo(1069.2 - 909, within(1e-9));
+    }
+
+    // 마지막 봉에서만 진입 조건이 켜지면 거래하지 않음 (청산 없이 포지션이 남지 않도록)
+    @Test
+    void noEntryOnLastBar() {
+        StockPriceSeries series = series(200, 150, 100);
+
+        BacktestRun run = Backtester.run(series, 0, 3,
+                rules(series, "CLOSE", Rule.Operator.LT, "120"),
+                List.of(),
+                1000, 0.01, true);
+
+        assertThat(run.getTradeCount()).isZero();
+        assertThat(run.getTrades()).isEmpty();
+        assertThat(run.getFinalEquity()).isEqualTo(1000.0);
+        assertThat(run.getTotalReturn()).isZero();
+    }
+
+    // 청산 조건으로 나간 뒤 다시 진입, 두 번째 거래는 기간 끝에서 청산
+    @Test
+    void exitAndReenter() {
+        StockPriceSeries series = series(100, 130, 100, 90);
+
+        BacktestRun run = Backtester.run(series, 0, 4,
+                rules(series, "CLOSE", Rule.Operator.LT, "105"),
+                rules(series, "CLOSE", Rule.Operator.GT, "125"),
+                1000, 0, true);
+
+        assertThat(run.getTradeCount()).isEqualTo(2);
+        assertThat(run.getWinRate()).isEqualTo(0.5);
+        assertThat(run.getEquity()).containsExactly(1000, 1300, 1300, 1170);
+        assertThat(run.getFinalEquity()).isCloseTo(1170, within(1e-9));
+    }
+
+    private static StockPriceSeries series(double... closes) {
+        StockPriceSeries.Builder builder = new StockPriceSeries.Builder("005930", closes.length);
+        for (int i = 0; i < closes.length; i++) {
+            double close = closes[i];
+            builder.add((int) START.plusDays(i).toEpochDay(), close, close, close, close, close, 1000);
+        }
+        return builder.build();
+    }
+
+    private static List<Rule.Bound> rules(StockPriceSeries series, String left, Rule.Operator operator, String right) {
+        Rule rule = new Rule(Operand.parse(left, Map.of()), operator, Operand.parse(right, Map.of()));
+        return List.of(rule.bind(operand -> IndicatorColumns.compute(series, operand.name(), operand.period())));
+    }
+}
@@ -0,0 +1,58 @@
+package com.inveskit.backend.util.backtest;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IndicatorColumnsTest {
+
+    private static final int MAX_PERIOD = 500;
+
+    @Test
+    void acceptsSupportedIndicatorsWithinLimit() {
+        assertThatCode(() -> {
+            IndicatorColumns.validate("SMA", 500, MAX_PERIOD);
+            IndicatorColumns.validate("BB_UPPER", 20, MAX_PERIOD);
+            IndicatorColumns.validate("RSI", 0, MAX_PERIOD);
+            IndicatorColumns.validate("MACD", 0, MAX_PERIOD);
+            IndicatorColumns.validate("CLOSE", 0, MAX_PERIOD);
+        }).doesNotThrowAnyException();
+    }
+
+    // 기간만큼 버퍼를 잡으므로 상한을 넘는 기간은 계산 전에 거부
+    @Test
+    void rejectsPeriodAboveLimit() {
+        assertThatThrownBy(() -> IndicatorColumns.validate("SMA", 501, MAX_PERIOD))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("500");
+        assertThatThrownBy(() -> IndicatorColumns.validate("EMA", 1_000_000_000, MAX_PERIOD))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // 기간을 쓰지 않는 지표에 기간을 주면 거부
+    @Test
+    void rejectsPeriodOnIndicatorsWithoutPeriod() {
+        for (String name : new String[]{"MACD", "MACD_SIGNAL", "MACD_HIST", "VWAP", "CLOSE", "DRAWDOWN"}) {
+            assertThatThrownBy(() -> IndicatorColumns.validate(name, 5, MAX_PERIOD))
+                    .as(name)
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    void rejectsUnknownIndicator() {
+        assertThatThrownBy(() -> IndicatorColumns.validate("FOO", 0, MAX_PERIOD))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void lookbackUsesPeriodOrDefault() {
+        assertThat(IndicatorColumns.lookback("SMA", 60)).isEqualTo(60);
+        assertThat(IndicatorColumns.lookback("SMA", 0)).isEqualTo(20);
+        assertThat(IndicatorColumns.lookback("RSI", 0)).isEqualTo(14);
+        assertThat(IndicatorColumns.lookback("MACD_HIST", 0)).isEqualTo(35);
+        assertThat(IndicatorColumns.lookback("CLOSE", 0)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,70 @@
+package com.inveskit.backend.util.backtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OperandTest {
+
+    @Test
+    void parsesConstant() {
+        Operand operand = Operand.parse(" 30 ", Map.of());
+
+        assertThat(operand.isConstant()).isTrue();
+        assertThat(operand.constant()).isEqualTo(30.0);
+    }
+
+    @Test
+    void parsesIndicatorWithPeriod() {
+        Operand operand = Operand.parse("rsi(14)", Map.of());
+
+        assertThat(operand.isConstant()).isFalse();
+        assertThat(operand.name()).isEqualTo("RSI");
+        assertThat(operand.period()).isEqualTo(14);
+        assertThat(operand.key()).isEqualTo("RSI(14)");
+    }
+
+    @Test
+    void parsesIndicatorWithoutPeriod() {
+        Operand operand = Operand.parse("close", Map.of());
+
+        assertThat(operand.name()).isEqualTo("CLOSE");
+        assertThat(operand.period()).isZero();
+    }
+
+    @Test
+    void substitutesParameters() {
+        Map<String, Double> parameters = Map.of("fast", 5.0, "level", 27.5);
+
+        assertThat(Operand.parse("SMA($fast)", parameters)).isEqualTo(new Operand("SMA", 5, Double.NaN));
+        assertThat(Operand.parse("$level", parameters).constant()).isEqualTo(27.5);
+    }
+
+    @Test
+    void rejectsMalformedExpressions() {
+        assertInvalid("");
+        assertInvalid("   ");
+        assertInvalid(null);
+        assertInvalid("SMA(5");
+        assertInvalid("SMA(abc)");
+        assertInvalid("SMA(0)");
+        assertInvalid("SMA(2.5)");
+        // int 로 자르면 Integer.MAX_VALUE 가 되는 값
+        assertInvalid("SMA(3e9)");
+    }
+
+    @Test
+    void rejectsUndefinedParameter() {
+        assertThatThrownBy(() -> Operand.parse("SMA($slow)", Map.of("fast", 5.0)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("$slow");
+    }
+
+    private static void assertInvalid(String expression) {
+        assertThatThrownBy(() -> Operand.parse(expression, Map.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
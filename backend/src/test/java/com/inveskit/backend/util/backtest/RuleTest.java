@@ -0,0 +1,56 @@
+package com.inveskit.backend.util.backtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RuleTest {
+
+    private static final double NaN = Double.NaN;
+
+    private static final Map<String, double[]> COLUMNS = Map.of(
+            "FAST(0)", new double[]{1, 2, 3, 2, 1},
+            "SLOW(0)", new double[]{2, 2, 2, 2, 2},
+            "RSI(0)", new double[]{NaN, 40, 25, 35, 20});
+
+    @Test
+    void comparesWithConstant() {
+        Rule.Bound below = bind("RSI", Rule.Operator.LT, "30");
+        Rule.Bound above = bind("RSI", Rule.Operator.GT, "30");
+
+        assertThat(tests(below)).containsExactly(false, false, true, false, true);
+        assertThat(tests(above)).containsExactly(false, true, false, true, false);
+    }
+
+    // FAST 가 1,2,3,2,1 / SLOW 가 2: 2 에서 같아졌다가 3 에서 위로, 다시 2 에서 같아졌다가 1 에서 아래로
+    @Test
+    void crossAboveAndBelow() {
+        Rule.Bound crossAbove = bind("FAST", Rule.Operator.CROSS_ABOVE, "SLOW");
+        Rule.Bound crossBelow = bind("FAST", Rule.Operator.CROSS_BELOW, "SLOW");
+
+        assertThat(tests(crossAbove)).containsExactly(false, false, true, false, false);
+        assertThat(tests(crossBelow)).containsExactly(false, false, false, false, true);
+    }
+
+    @Test
+    void crossAgainstConstant() {
+        Rule.Bound crossBelow = bind("RSI", Rule.Operator.CROSS_BELOW, "30");
+
+        assertThat(tests(crossBelow)).containsExactly(false, false, true, false, true);
+    }
+
+    private static Rule.Bound bind(String left, Rule.Operator operator, String right) {
+        Rule rule = new Rule(Operand.parse(left, Map.of()), operator, Operand.parse(right, Map.of()));
+        return rule.bind(operand -> COLUMNS.get(operand.key()));
+    }
+
+    private static Boolean[] tests(Rule.Bound bound) {
+        Boolean[] results = new Boolean[5];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = bound.test(i);
+        }
+        return results;
+    }
+}
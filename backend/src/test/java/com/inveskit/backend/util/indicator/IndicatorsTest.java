@@ -0,0 +1,134 @@
+package com.inveskit.backend.util.indicator;
+
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+// 작은 고정 시계열에서 교과서 공식으로 직접 계산한 값과 비교 (기간은 손으로 확인할 수 있게 짧게)
+class IndicatorsTest {
+
+    private static final Offset<Double> EPS = within(1e-9);
+    private static final double NaN = Double.NaN;
+
+    private static final double[] HIGH = {10, 11, 12, 11.5, 13, 12.5, 12.5, 13.5};
+    private static final double[] LOW = {9, 10, 10.5, 10, 11.5, 11, 11.5, 12.5};
+    private static final double[] CLOSE = {9.5, 10.5, 11.5, 10.5, 12.5, 11.5, 12.0, 13.0};
+
+    @Test
+    void simpleMovingAverage() {
+        SimpleMovingAverage sma = new SimpleMovingAverage(3);
+        double[] actual = new double[CLOSE.length];
+        for (int i = 0; i < CLOSE.length; i++) {
+            actual[i] = sma.update(CLOSE[i]);
+        }
+
+        assertSeries(actual, NaN, NaN, 10.5, 32.5 / 3, 11.5, 11.5, 12.0, 36.5 / 3);
+    }
+
+    // 첫 값은 SMA 로 시작하고 이후 alpha = 2 / (기간 + 1)
+    @Test
+    void exponentialMovingAverage() {
+        ExponentialMovingAverage ema = new ExponentialMovingAverage(3);
+        double[] actual = new double[CLOSE.length];
+        for (int i = 0; i < CLOSE.length; i++) {
+            actual[i] = ema.update(CLOSE[i]);
+        }
+
+        assertSeries(actual, NaN, NaN, 10.5, 10.5, 11.5, 11.5, 11.75, 12.375);
+    }
+
+    // Wilder 평활: 첫 평균은 단순 평균, 이후 (이전 * (n-1) + 현재) / n
+    @Test
+    void relativeStrengthIndex() {
+        RelativeStrengthIndex rsi = new RelativeStrengthIndex(3);
+        double[] actual = new double[CLOSE.length];
+        for (int i = 0; i < CLOSE.length; i++) {
+            actual[i] = rsi.update(CLOSE[i]);
+        }
+
+        assertSeries(actual, NaN, NaN, NaN,
+                200.0 / 3, 250.0 / 3, 100 - 100 / (33.0 / 13),
+                67.29559748427673, 78.33333333333333);
+    }
+
+    @Test
+    void relativeStrengthIndexWithoutLossesOrChanges() {
+        RelativeStrengthIndex rising = new RelativeStrengthIndex(2);
+        rising.update(1);
+        rising.update(2);
+        assertThat(rising.update(3)).isEqualTo(100.0);
+
+        RelativeStrengthIndex flat = new RelativeStrengthIndex(2);
+        flat.update(5);
+        flat.update(5);
+        assertThat(flat.update(5)).isEqualTo(50.0);
+    }
+
+    @Test
+    void macd() {
+        Macd macd = new Macd(2, 3, 2);
+        double[] line = new double[CLOSE.length];
+        double[] signal = new double[CLOSE.length];
+        double[] histogram = new double[CLOSE.length];
+        for (int i = 0; i < CLOSE.length; i++) {
+            macd.update(CLOSE[i]);
+            line[i] = macd.getMacd();
+            signal[i] = macd.getSignal();
+            histogram[i] = macd.getHistogram();
+        }
+
+        assertSeries(line, NaN, NaN, 0.5, 1.0 / 6, 0.3888888888888889, 0.1296296296296296,
+                0.12654320987654321, 0.2505144032921811);
+        assertSeries(signal, NaN, NaN, NaN, 1.0 / 3, 0.37037037037037035, 0.20987654320987653,
+                0.15432098765432098, 0.21844993141289437);
+        assertSeries(histogram, NaN, NaN, NaN, -1.0 / 6, 0.018518518518518517, -0.08024691358024691,
+                -0.027777777777777776, 0.03206447187928669);
+    }
+
+    // 모표준편차 사용
+    @Test
+    void bollingerBands() {
+        BollingerBands bollinger = new BollingerBands(3, 2.0);
+        double[] middle = new double[CLOSE.length];
+        double[] upper = new double[CLOSE.length];
+        double[] lower = new double[CLOSE.length];
+        for (int i = 0; i < CLOSE.length; i++) {
+            bollinger.update(CLOSE[i]);
+            middle[i] = bollinger.getMiddle();
+            upper[i] = bollinger.getUpper();
+            lower[i] = bollinger.getLower();
+        }
+
+        assertSeries(middle, NaN, NaN, 10.5, 32.5 / 3, 11.5, 11.5, 12.0, 36.5 / 3);
+        assertSeries(upper, NaN, NaN, 12.132993161855453, 11.776142374915397, 13.132993161855453,
+                13.132993161855453, 12.816496580927726, 13.413885795591312);
+        assertSeries(lower, NaN, NaN, 8.867006838144547, 9.890524291751271, 9.867006838144547,
+                9.867006838144547, 11.183503419072274, 10.91944753774202);
+    }
+
+    // 첫 봉의 TR 은 고가 - 저가, 이후 전일 종가와의 차이까지 포함
+    @Test
+    void averageTrueRange() {
+        AverageTrueRange atr = new AverageTrueRange(3);
+        double[] actual = new double[CLOSE.length];
+        for (int i = 0; i < CLOSE.length; i++) {
+            actual[i] = atr.update(HIGH[i], LOW[i], CLOSE[i]);
+        }
+
+        assertSeries(actual, NaN, NaN, 4.0 / 3, 1.3888888888888888, 1.7592592592592593,
+                1.6728395061728394, 1.4485596707818930, 1.4657064471879286);
+    }
+
+    private static void assertSeries(double[] actual, double... expected) {
+        assertThat(actual).hasSameSizeAs(expected);
+        for (int i = 0; i < expected.length; i++) {
+            if (Double.isNaN(expected[i])) {
+                assertThat(actual[i]).as("index %d", i).isNaN();
+            } else {
+                assertThat(actual[i]).as("index %d", i).isCloseTo(expected[i], EPS);
+            }
+        }
+    }
+}
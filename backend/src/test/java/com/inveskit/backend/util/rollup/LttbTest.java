@@ -0,0 +1,70 @@
+package com.inveskit.backend.util.rollup;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LttbTest {
+
+    @Test
+    void thresholdAtLeastSizeKeepsAllPoints() {
+        int[] x = {0, 1, 2, 3, 4};
+        double[] y = {1, 5, 2, 4, 3};
+
+        assertThat(Lttb.downsample(x, y, 5)).containsExactly(0, 1, 2, 3, 4);
+        assertThat(Lttb.downsample(x, y, 100)).containsExactly(0, 1, 2, 3, 4);
+    }
+
+    // 처음/마지막 점 둘만으로는 구간을 만들 수 없으므로 전체
+    @Test
+    void thresholdBelowThreeKeepsAllPoints() {
+        int[] x = {0, 1, 2, 3, 4};
+        double[] y = {1, 5, 2, 4, 3};
+
+        assertThat(Lttb.downsample(x, y, 2)).containsExactly(0, 1, 2, 3, 4);
+        assertThat(Lttb.downsample(x, y, 0)).containsExactly(0, 1, 2, 3, 4);
+    }
+
+    @Test
+    void emptyInputStaysEmpty() {
+        assertThat(Lttb.downsample(new int[0], new double[0], 10)).isEmpty();
+    }
+
+    @Test
+    void keepsFirstAndLastAndReturnsAscendingIndices() {
+        int n = 1000;
+        int[] x = new int[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = 20000 + i;
+            y[i] = Math.sin(i / 25.0) * 100 + 1000;
+        }
+
+        int[] selected = Lttb.downsample(x, y, 50);
+
+        assertThat(selected).hasSize(50);
+        assertThat(selected[0]).isZero();
+        assertThat(selected[49]).isEqualTo(n - 1);
+        for (int i = 1; i < selected.length; i++) {
+            assertThat(selected[i]).isGreaterThan(selected[i - 1]);
+        }
+    }
+
+    // 평탄한 구간 속 고점/저점은 줄인 뒤에도 남음
+    @Test
+    void extremePointsSurvive() {
+        int n = 100;
+        int[] x = new int[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = i;
+            y[i] = 100 + i % 3;
+        }
+        y[37] = 500;
+        y[71] = -200;
+
+        int[] selected = Lttb.downsample(x, y, 10);
+
+        assertThat(selected).hasSize(10).contains(37, 71);
+    }
+}
@@ -0,0 +1,120 @@
+package com.inveskit.backend.util.rollup;
+
+import com.inveskit.backend.domain.StockPriceSeries;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OhlcRollupTest {
+
+    // 2025-03-03 은 월요일
+    private static final LocalDate MON = LocalDate.of(2025, 3, 3);
+
+    @Test
+    void dailyBarsAreGroupedByMondayStartingWeek() {
+        OhlcRollup weekly = new OhlcRollup("005930", Resolution.WEEKLY, 0);
+        weekly.append(series(
+                bar(MON, 100, 110, 95, 105, 10),
+                bar(MON.plusDays(1), 105, 120, 100, 115, 20),
+                bar(MON.plusDays(4), 115, 118, 90, 92, 30),
+                bar(MON.plusDays(7), 92, 99, 91, 98, 40)));
+
+        assertThat(weekly.size()).isEqualTo(2);
+        StockPriceSeries bars = weekly.slice(MON, MON.plusDays(7));
+        assertThat(bars.getDate(0)).isEqualTo(MON.plusDays(4));
+        assertThat(bars.getOpen()[0]).isEqualTo(100);
+        assertThat(bars.getHigh()[0]).isEqualTo(120);
+        assertThat(bars.getLow()[0]).isEqualTo(90);
+        assertThat(bars.getClose()[0]).isEqualTo(92);
+        assertThat(bars.getVolume()[0]).isEqualTo(60);
+        assertThat(bars.getDate(1)).isEqualTo(MON.plusDays(7));
+    }
+
+    // 아직 끝나지 않은 주에 일봉이 추가되면 새 봉을 만들지 않고 마지막 봉을 갱신
+    @Test
+    void appendIntoOpenWeekUpdatesLastBar() {
+        OhlcRollup weekly = new OhlcRollup("005930", Resolution.WEEKLY, 0);
+        weekly.append(series(
+                bar(MON, 100, 110, 95, 105, 10),
+                bar(MON.plusDays(1), 105, 108, 101, 107, 20)));
+
+        // 이미 반영한 날짜는 다시 들어와도 무시
+        weekly.append(series(
+                bar(MON.plusDays(1), 105, 108, 101, 107, 20),
+                bar(MON.plusDays(2), 107, 130, 80, 125, 5)));
+
+        assertThat(weekly.size()).isEqualTo(1);
+        assertThat(weekly.getLastDate()).isEqualTo(MON.plusDays(2));
+        StockPriceSeries bars = weekly.slice(MON, MON.plusDays(6));
+        assertThat(bars.getOpen()[0]).isEqualTo(100);
+        assertThat(bars.getHigh()[0]).isEqualTo(130);
+        assertThat(bars.getLow()[0]).isEqualTo(80);
+        assertThat(bars.getClose()[0]).isEqualTo(125);
+        assertThat(bars.getVolume()[0]).isEqualTo(35);
+    }
+
+    @Test
+    void appendIntoOpenMonthUpdatesLastBarAndNextMonthStartsNewBar() {
+        OhlcRollup monthly = new OhlcRollup("005930", Resolution.MONTHLY, 0);
+        monthly.append(series(
+                bar(LocalDate.of(2025, 2, 27), 90, 95, 85, 93, 7),
+                bar(MON, 100, 110, 95, 105, 10)));
+
+        monthly.append(series(bar(LocalDate.of(2025, 3, 31), 105, 140, 99, 135, 15)));
+        assertThat(monthly.size()).isEqualTo(2);
+        StockPriceSeries march = monthly.slice(MON, LocalDate.of(2025, 3, 31));
+        assertThat(march.getSize()).isEqualTo(1);
+        assertThat(march.getDate(0)).isEqualTo(LocalDate.of(2025, 3, 31));
+        assertThat(march.getOpen()[0]).isEqualTo(100);
+        assertThat(march.getHigh()[0]).isEqualTo(140);
+        assertThat(march.getClose()[0]).isEqualTo(135);
+        assertThat(march.getVolume()[0]).isEqualTo(25);
+
+        monthly.append(series(bar(LocalDate.of(2025, 4, 1), 135, 136, 130, 131, 3)));
+        assertThat(monthly.size()).isEqualTo(3);
+        assertThat(monthly.getLastDate()).isEqualTo(LocalDate.of(2025, 4, 1));
+    }
+
+    // 종가가 없는 날은 건너뛰고, 거래량 -1 (결측) 은 합계에 더하지 않음
+    @Test
+    void missingCloseIsSkippedAndMissingVolumeIsNotSummed() {
+        OhlcRollup weekly = new OhlcRollup("005930", Resolution.WEEKLY, 0);
+        weekly.append(series(
+                bar(MON, 100, 110, 95, 105, 10),
+                bar(MON.plusDays(1), Double.NaN, Double.NaN, Double.NaN, Double.NaN, -1),
+                bar(MON.plusDays(2), 105, 106, 104, 106, -1)));
+
+        StockPriceSeries bars = weekly.slice(MON, MON.plusDays(6));
+        assertThat(bars.getSize()).isEqualTo(1);
+        assertThat(bars.getClose()[0]).isEqualTo(106);
+        assertThat(bars.getVolume()[0]).isEqualTo(10);
+    }
+
+    @Test
+    void countAndSliceUseBarDates() {
+        OhlcRollup daily = new OhlcRollup("005930", Resolution.DAILY, 0);
+        daily.append(series(
+                bar(MON, 1, 1, 1, 1, 1),
+                bar(MON.plusDays(1), 2, 2, 2, 2, 1),
+                bar(MON.plusDays(2), 3, 3, 3, 3, 1)));
+
+        assertThat(daily.count(MON.plusDays(1), MON.plusDays(10))).isEqualTo(2);
+        assertThat(daily.count(MON.plusDays(5), MON.plusDays(10))).isZero();
+        assertThat(daily.slice(MON.plusDays(1), MON.plusDays(1)).getClose()).containsExactly(2.0);
+        assertThat(daily.slice(MON.plusDays(5), MON).isEmpty()).isTrue();
+    }
+
+    private static StockPriceSeries series(double[]... bars) {
+        StockPriceSeries.Builder builder = new StockPriceSeries.Builder("005930", bars.length);
+        for (double[] bar : bars) {
+            builder.add((int) bar[0], bar[1], bar[2], bar[3], bar[4], bar[4], (long) bar[5]);
+        }
+        return builder.build();
+    }
+
+    private static double[] bar(LocalDate date, double open, double high, double low, double close, long volume) {
+        return new double[]{date.toEpochDay(), open, high, low, close, volume};
+    }
+}